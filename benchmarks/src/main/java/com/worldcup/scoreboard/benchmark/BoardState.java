@@ -0,0 +1,51 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state holding a scoreboard pre-filled with {@code boardSize} in-progress matches.
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    public Scoreboard scoreboard;
+    public Match[] matches;
+
+    @Setup
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        matches = fill(scoreboard, 0, boardSize);
+    }
+
+    /**
+     * Starts {@code count} matches with unique team names on the given scoreboard.
+     *
+     * @param scoreboard the scoreboard to fill
+     * @param first the number of the first match, used to keep team names unique
+     * @param count the number of matches to start
+     * @return the started matches, in start order
+     */
+    static Match[] fill(Scoreboard scoreboard, int first, int count) {
+        Match[] matches = new Match[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = scoreboard.startMatch(homeTeamName(first + i), awayTeamName(first + i));
+            scoreboard.updateScore(matches[i], i % 5, i % 3);
+        }
+        return matches;
+    }
+
+    static String homeTeamName(int number) {
+        return "Home " + number;
+    }
+
+    static String awayTeamName(int number) {
+        return "Away " + number;
+    }
+}
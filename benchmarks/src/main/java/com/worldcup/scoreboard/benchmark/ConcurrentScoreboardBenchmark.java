@@ -0,0 +1,84 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput benchmarks sharing one scoreboard between threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConcurrentScoreboardBenchmark {
+    private int goals;
+    private int firstOwnMatch;
+    private int ownMatches;
+
+    @Setup
+    public void claimMatches(BoardState board, ThreadParams threads) {
+        ownMatches = Math.max(1, board.matches.length / threads.getThreadCount());
+        firstOwnMatch = threads.getThreadIndex() * ownMatches % board.matches.length;
+    }
+
+    /**
+     * Four writers updating random matches of the same board.
+     */
+    @Benchmark
+    @Threads(4)
+    public void updateScore(BoardState board) {
+        board.scoreboard.updateScore(randomMatch(board), goals++ & 15, 1);
+    }
+
+    /**
+     * Writers updating disjoint sets of matches of the same board, so they never contend on
+     * a match. Run with {@code -t 1}, {@code -t 2}, {@code -t 4} and {@code -t 8} to see how
+     * write throughput scales with the number of writers.
+     */
+    @Benchmark
+    @Threads(4)
+    public void updateOwnMatches(BoardState board) {
+        int goal = goals++ & Integer.MAX_VALUE;
+        board.scoreboard.updateScore(board.matches[firstOwnMatch + goal % ownMatches], goal & 15, 1);
+    }
+
+    /**
+     * Two writers updating scores while two readers keep requesting summaries.
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public void writer(BoardState board) {
+        updateScore(board);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public String reader(BoardState board) {
+        return board.scoreboard.getSummary();
+    }
+
+    private static Match randomMatch(BoardState board) {
+        Match[] matches = board.matches;
+        return matches[ThreadLocalRandom.current().nextInt(matches.length)];
+    }
+}
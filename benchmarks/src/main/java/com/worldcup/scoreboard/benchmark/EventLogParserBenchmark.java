@@ -0,0 +1,116 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.ingest.EventLogParser;
+import com.worldcup.scoreboard.ingest.EventLogStats;
+import com.worldcup.scoreboard.ingest.FeedCommand;
+import com.worldcup.scoreboard.ingest.FeedDecoder;
+import com.worldcup.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for replaying a score event log of {@value #EVENT_COUNT} events into a fresh
+ * scoreboard, comparing the memory-mapped {@link EventLogParser} with reading the log line by
+ * line into strings and decoding them with {@link FeedDecoder}. Scores are events per second.
+ * <p>
+ * The log keeps {@value #LIVE_MATCHES} matches in progress, each going through a start, eight
+ * score updates and a finish.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(EventLogParserBenchmark.EVENT_COUNT)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class EventLogParserBenchmark {
+    static final int EVENT_COUNT = 1_000_000;
+    static final int LIVE_MATCHES = 1000;
+    private static final int EVENTS_PER_MATCH = 10;
+
+    private Path log;
+    private Scoreboard scoreboard;
+
+    @Setup(Level.Trial)
+    public void writeLog() throws IOException {
+        log = Files.createTempFile("season", ".log");
+        try (BufferedWriter writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+            int matches = EVENT_COUNT / EVENTS_PER_MATCH;
+            for (int round = 0; round < matches / LIVE_MATCHES; round++) {
+                int first = round * LIVE_MATCHES + 1;
+                for (int i = 0; i < LIVE_MATCHES; i++) {
+                    writer.write("START;" + BoardState.homeTeamName(i) + ";" + BoardState.awayTeamName(i) + "\n");
+                }
+                for (int goal = 1; goal <= EVENTS_PER_MATCH - 2; goal++) {
+                    for (int i = 0; i < LIVE_MATCHES; i++) {
+                        writer.write("SCORE;" + (first + i) + ";" + goal + ";" + (goal + i) % 4 + "\n");
+                    }
+                }
+                for (int i = 0; i < LIVE_MATCHES; i++) {
+                    writer.write("FINISH;" + (first + i) + "\n");
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLog() throws IOException {
+        Files.deleteIfExists(log);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        scoreboard = new Scoreboard();
+    }
+
+    @Benchmark
+    public EventLogStats mappedParser() throws IOException {
+        return new EventLogParser(scoreboard).parse(log);
+    }
+
+    @Benchmark
+    public int stringDecoder() throws IOException {
+        FeedDecoder decoder = new FeedDecoder();
+        List<Match> matches = new ArrayList<>();
+        matches.add(null); // Match numbers start at 1
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                switch (decoder.decode(line)) {
+                    case FeedCommand.Start start -> matches.add(scoreboard.startMatch(start.homeTeam(), start.awayTeam()));
+                    case FeedCommand.Update update -> scoreboard.updateScore(
+                            matches.get((int) update.feedMatchNumber()), update.homeScore(), update.awayScore());
+                    case FeedCommand.Finish finish -> scoreboard.finishMatch(matches.get((int) finish.feedMatchNumber()));
+                    case null -> {
+                        continue;
+                    }
+                }
+                applied++;
+            }
+        }
+        return applied;
+    }
+}
@@ -0,0 +1,63 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for starting and finishing matches.
+ * <p>
+ * Both operations change the board size, so they run as single-shot batches of
+ * {@value #BATCH_SIZE} operations against a board that is rebuilt before every iteration.
+ * {@code startMatch} grows the board from {@code boardSize} to {@code boardSize + BATCH_SIZE},
+ * {@code finishMatch} shrinks it from {@code boardSize + BATCH_SIZE} back to {@code boardSize}.
+ * Scores are reported per batch.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = LifecycleBenchmark.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = LifecycleBenchmark.BATCH_SIZE)
+@Fork(1)
+@State(Scope.Thread)
+public class LifecycleBenchmark {
+    static final int BATCH_SIZE = 100;
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    private Scoreboard scoreboard;
+    private Match[] toFinish;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        scoreboard = new Scoreboard();
+        BoardState.fill(scoreboard, 0, boardSize);
+        toFinish = BoardState.fill(scoreboard, boardSize, BATCH_SIZE);
+        next = 0;
+    }
+
+    @Benchmark
+    public Match startMatch() {
+        int number = boardSize + BATCH_SIZE + next++;
+        return scoreboard.startMatch(BoardState.homeTeamName(number), BoardState.awayTeamName(number));
+    }
+
+    @Benchmark
+    public void finishMatch() {
+        scoreboard.finishMatch(toFinish[next++]);
+    }
+}
@@ -0,0 +1,60 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.model.Match;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded steady-state benchmarks for score updates and summaries.
+ * The board size stays constant for the whole run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScoreboardBenchmark {
+    private int next;
+    private int goals;
+
+    @Benchmark
+    public void updateScore(BoardState board) {
+        Match match = nextMatch(board);
+        board.scoreboard.updateScore(match, goals++ & 15, 1);
+    }
+
+    /**
+     * Summary of an unchanged board, served from the per-version cache.
+     */
+    @Benchmark
+    public String getSummaryCached(BoardState board) {
+        return board.scoreboard.getSummary();
+    }
+
+    /**
+     * Summary right after a score update, so it has to be rendered again.
+     * Includes the cost of one {@link #updateScore} call.
+     */
+    @Benchmark
+    public String getSummaryAfterUpdate(BoardState board) {
+        updateScore(board);
+        return board.scoreboard.getSummary();
+    }
+
+    private Match nextMatch(BoardState board) {
+        Match[] matches = board.matches;
+        Match match = matches[next];
+        next = next + 1 == matches.length ? 0 : next + 1;
+        return match;
+    }
+}
@@ -0,0 +1,105 @@
+package com.worldcup.scoreboard.benchmark;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.store.MatchHandle;
+import com.worldcup.scoreboard.store.MatchStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the object layout of {@link Scoreboard} with the primitive arrays of
+ * {@link MatchStore} on large boards.
+ * <p>
+ * Both boards hold the same matches. Each summary follows a score update, so it has to be
+ * rendered from scratch in both layouts. The retained heap of each board is measured once
+ * per trial and printed at teardown.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StorageLayoutBenchmark {
+    @Param({"100000", "1000000"})
+    public int boardSize;
+
+    private Scoreboard scoreboard;
+    private Match[] matches;
+    private MatchStore store;
+    private MatchHandle[] handles;
+    private long scoreboardBytes;
+    private long storeBytes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        scoreboard = new Scoreboard();
+        matches = BoardState.fill(scoreboard, 0, boardSize);
+        scoreboardBytes = usedHeap() - before;
+
+        before = usedHeap();
+        store = new MatchStore();
+        handles = new MatchHandle[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            handles[i] = store.startMatch(BoardState.homeTeamName(i), BoardState.awayTeamName(i));
+            store.updateScore(handles[i], i % 5, i % 3);
+        }
+        storeBytes = usedHeap() - before;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nRetained heap for %,d matches: objects %,d bytes (%d per match),"
+                        + " primitive arrays %,d bytes (%d per match)%n",
+                boardSize, scoreboardBytes, scoreboardBytes / boardSize, storeBytes, storeBytes / boardSize);
+    }
+
+    @Benchmark
+    public String objectLayoutSummary() {
+        int index = nextIndex();
+        scoreboard.updateScore(matches[index], index & 7, 1);
+        return scoreboard.getSummary();
+    }
+
+    @Benchmark
+    public String primitiveLayoutSummary() {
+        int index = nextIndex();
+        store.updateScore(handles[index], index & 7, 1);
+        return store.getSummary();
+    }
+
+    private int nextIndex() {
+        next = next + 1 == boardSize ? 0 : next + 1;
+        return next;
+    }
+
+    /**
+     * Returns the heap in use after a full collection. Handles and team names, which
+     * both layouts need, are included in both measurements.
+     */
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
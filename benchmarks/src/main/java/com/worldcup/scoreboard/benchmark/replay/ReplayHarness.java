@@ -0,0 +1,233 @@
+package com.worldcup.scoreboard.benchmark.replay;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.ingest.FeedCommand;
+import com.worldcup.scoreboard.metrics.Operation;
+import com.worldcup.scoreboard.metrics.ScoreboardMetrics;
+import com.worldcup.scoreboard.model.Match;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a {@link Workload} against a {@link Scoreboard} through its public API while
+ * reader threads request summaries, and reports throughput, latency percentiles and
+ * allocation per operation.
+ * <p>
+ * Writes run on {@code writers} threads. Every match is owned by one writer, so the commands
+ * of a match are applied in workload order. Writers follow the workload schedule scaled by
+ * {@code speed}, e.g. 100 replays 90 minutes of play in 54 seconds; a speed of 0 applies
+ * commands as fast as possible. Readers call {@link Scoreboard#getSummary()} in a loop until
+ * the writers are done. Latencies and allocations are measured around each call on the
+ * calling thread, so any {@code Scoreboard} can be measured with the same workload.
+ * <p>
+ * Run from the repository root after {@code mvn -f benchmarks/pom.xml compile}:
+ * <pre>
+ * java -cp benchmarks/target/classes com.worldcup.scoreboard.benchmark.replay.ReplayHarness \
+ *     --matches 10000 --goal-rate 2.7 --speed 0 --writers 2 --readers 6
+ * java -cp benchmarks/target/classes com.worldcup.scoreboard.benchmark.replay.ReplayHarness \
+ *     --log world-cup-2022.log --speed 100
+ * </pre>
+ */
+public final class ReplayHarness {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Scoreboard scoreboard;
+    private final Options options;
+    private final ScoreboardMetrics metrics;
+    private final Map<Operation, LongAdder> allocatedBytes;
+    private final AtomicInteger liveMatches;
+    private final AtomicLong maxScheduleLagNanos;
+    private volatile int summaryLength;
+
+    /**
+     * Replay settings.
+     *
+     * @param speed the replay speed relative to the workload schedule, 0 for unbounded
+     * @param writers the number of writer threads (positive)
+     * @param readers the number of summary reader threads (non-negative)
+     */
+    public record Options(double speed, int writers, int readers) {
+
+        /**
+         * Creates replay settings.
+         *
+         * @throws IllegalArgumentException if any setting is out of range
+         */
+        public Options {
+            if (speed < 0 || writers <= 0 || readers < 0) {
+                throw new IllegalArgumentException("Speed and readers cannot be negative and writers must be positive");
+            }
+        }
+    }
+
+    private ReplayHarness(Scoreboard scoreboard, Options options) {
+        this.scoreboard = scoreboard;
+        this.options = options;
+        this.liveMatches = new AtomicInteger();
+        this.maxScheduleLagNanos = new AtomicLong();
+        this.metrics = new ScoreboardMetrics(liveMatches::get, () -> summaryLength);
+        this.allocatedBytes = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            allocatedBytes.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Replays a workload against a scoreboard.
+     *
+     * @param scoreboard the scoreboard to drive, normally empty
+     * @param workload the workload to replay
+     * @param options the replay settings
+     * @return the measurements of the replay
+     * @throws InterruptedException if interrupted while waiting for the replay to finish
+     */
+    public static ReplayReport run(Scoreboard scoreboard, Workload workload, Options options)
+            throws InterruptedException {
+        if (scoreboard == null || workload == null || options == null) {
+            throw new IllegalArgumentException("Scoreboard, workload and options cannot be null");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        return new ReplayHarness(scoreboard, options).replay(workload);
+    }
+
+    private ReplayReport replay(Workload workload) throws InterruptedException {
+        List<List<TimedCommand>> partitions = new ArrayList<>();
+        for (int i = 0; i < options.writers(); i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (TimedCommand command : workload.commands()) {
+            partitions.get((int) (command.command().feedMatchNumber() % options.writers())).add(command);
+        }
+
+        CountDownLatch writersDone = new CountDownLatch(options.writers());
+        List<Thread> threads = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < options.writers(); i++) {
+            List<TimedCommand> commands = partitions.get(i);
+            threads.add(Thread.ofPlatform().name("replay-writer-" + i).start(() -> {
+                try {
+                    write(commands, workload.matchCount(), startNanos);
+                } finally {
+                    writersDone.countDown();
+                }
+            }));
+        }
+        for (int i = 0; i < options.readers(); i++) {
+            threads.add(Thread.ofPlatform().name("replay-reader-" + i).start(() -> read(writersDone)));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long wallNanos = System.nanoTime() - startNanos;
+
+        Map<Operation, Long> allocated = new EnumMap<>(Operation.class);
+        allocatedBytes.forEach((operation, bytes) -> allocated.put(operation, bytes.sum()));
+        return new ReplayReport(wallNanos, metrics.getOperationMetrics(), allocated, maxScheduleLagNanos.get());
+    }
+
+    private void write(List<TimedCommand> commands, int matchCount, long startNanos) {
+        Match[] matches = new Match[matchCount + 1];
+        long maxLag = 0;
+        for (TimedCommand timed : commands) {
+            if (options.speed() > 0) {
+                long due = startNanos + (long) (timed.offsetNanos() / options.speed());
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                maxLag = Math.max(maxLag, System.nanoTime() - due);
+            }
+
+            FeedCommand command = timed.command();
+            int number = (int) command.feedMatchNumber();
+            Operation operation = switch (command) {
+                case FeedCommand.Start start -> Operation.START_MATCH;
+                case FeedCommand.Update update -> Operation.UPDATE_SCORE;
+                case FeedCommand.Finish finish -> Operation.FINISH_MATCH;
+            };
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long callStart = System.nanoTime();
+            try {
+                switch (command) {
+                    case FeedCommand.Start start -> matches[number] = scoreboard.startMatch(start.homeTeam(), start.awayTeam());
+                    case FeedCommand.Update update -> scoreboard.updateScore(matches[number], update.homeScore(), update.awayScore());
+                    case FeedCommand.Finish finish -> scoreboard.finishMatch(matches[number]);
+                }
+                allocatedBytes.get(operation).add(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                metrics.recordSuccess(operation, callStart);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                metrics.recordError(operation);
+                continue;
+            }
+            if (operation == Operation.START_MATCH) {
+                liveMatches.incrementAndGet();
+            } else if (operation == Operation.FINISH_MATCH) {
+                liveMatches.decrementAndGet();
+                matches[number] = null;
+            }
+        }
+        maxScheduleLagNanos.accumulateAndGet(maxLag, Math::max);
+    }
+
+    private void read(CountDownLatch writersDone) {
+        LongAdder allocated = allocatedBytes.get(Operation.GET_SUMMARY);
+        while (writersDone.getCount() > 0) {
+            long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+            long callStart = System.nanoTime();
+            String summary = scoreboard.getSummary();
+            allocated.add(THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            metrics.recordSuccess(Operation.GET_SUMMARY, callStart);
+            summaryLength = summary.length();
+        }
+    }
+
+    /**
+     * Runs a replay from the command line and prints its report.
+     * <p>
+     * Options: {@code --log <file>} replays a recorded event log, otherwise a synthetic
+     * workload of {@code --matches} (default 1000) matches with {@code --goal-rate} (default
+     * 2.7) goals per match and {@code --seed} (default 42) is generated. {@code --speed}
+     * (default 0, unbounded), {@code --writers} (default 1) and {@code --readers} (default 1)
+     * set the replay options.
+     *
+     * @param args the command line arguments
+     * @throws IOException if the log cannot be read
+     * @throws InterruptedException if interrupted while replaying
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> arguments = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option instead of " + args[i]);
+            }
+            arguments.put(args[i].substring(2), args[i + 1]);
+        }
+
+        Workload workload = arguments.containsKey("log")
+                ? Workload.read(Path.of(arguments.get("log")))
+                : Workload.synthetic(Integer.parseInt(arguments.getOrDefault("matches", "1000")),
+                        Double.parseDouble(arguments.getOrDefault("goal-rate", "2.7")),
+                        Long.parseLong(arguments.getOrDefault("seed", "42")));
+        Options options = new Options(Double.parseDouble(arguments.getOrDefault("speed", "0")),
+                Integer.parseInt(arguments.getOrDefault("writers", "1")),
+                Integer.parseInt(arguments.getOrDefault("readers", "1")));
+
+        System.out.printf("Replaying %d commands of %d matches at %s with %d writer(s) and %d reader(s)%n",
+                workload.commands().size(), workload.matchCount(),
+                options.speed() == 0 ? "unbounded speed" : options.speed() + "x", options.writers(), options.readers());
+        run(new Scoreboard(), workload, options).print(System.out);
+    }
+}
@@ -0,0 +1,41 @@
+package com.worldcup.scoreboard.benchmark.replay;
+
+import com.worldcup.scoreboard.metrics.LatencySnapshot;
+import com.worldcup.scoreboard.metrics.Operation;
+import com.worldcup.scoreboard.metrics.OperationMetrics;
+
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * Results of a replay: per-operation throughput, latency percentiles and allocation, plus how
+ * far the writers fell behind the workload schedule.
+ *
+ * @param wallNanos the wall-clock duration of the replay
+ * @param operations the counters and latencies by operation
+ * @param allocatedBytes the bytes allocated by the calling threads, by operation
+ * @param maxScheduleLagNanos the largest delay of a write behind its scheduled time
+ */
+public record ReplayReport(long wallNanos, Map<Operation, OperationMetrics> operations,
+                           Map<Operation, Long> allocatedBytes, long maxScheduleLagNanos) {
+
+    /**
+     * Prints the report as a table.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        double seconds = wallNanos / 1e9;
+        out.printf("Replay took %.2f s, max schedule lag %.3f ms%n", seconds, maxScheduleLagNanos / 1e6);
+        out.printf("%-13s %12s %8s %14s %10s %10s %10s %10s %12s%n",
+                "operation", "count", "errors", "ops/s", "p50 us", "p99 us", "p99.9 us", "max us", "B/op");
+        for (OperationMetrics metrics : operations.values()) {
+            LatencySnapshot latency = metrics.latency();
+            long count = metrics.count() + metrics.errors();
+            out.printf("%-13s %12d %8d %14.0f %10.2f %10.2f %10.2f %10.2f %12.0f%n",
+                    metrics.operation(), metrics.count(), metrics.errors(), count / seconds,
+                    latency.p50() / 1e3, latency.p99() / 1e3, latency.p999() / 1e3, latency.max() / 1e3,
+                    count == 0 ? 0.0 : (double) allocatedBytes.get(metrics.operation()) / count);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.worldcup.scoreboard.benchmark.replay;
+
+import com.worldcup.scoreboard.ingest.FeedCommand;
+
+/**
+ * A feed command scheduled at an offset from the start of a replay.
+ *
+ * @param offsetNanos the time of the command relative to the start of the workload
+ * @param command the command to apply
+ */
+public record TimedCommand(long offsetNanos, FeedCommand command) {
+}
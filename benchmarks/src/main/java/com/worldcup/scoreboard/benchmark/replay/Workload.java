@@ -0,0 +1,145 @@
+package com.worldcup.scoreboard.benchmark.replay;
+
+import com.worldcup.scoreboard.ingest.FeedCommand;
+import com.worldcup.scoreboard.ingest.FeedDecoder;
+import com.worldcup.scoreboard.model.Team;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A replayable sequence of match starts, score updates and finishes, ordered by time.
+ * <p>
+ * Workloads are either read from a recorded event log or generated. Recorded logs use the
+ * {@link FeedDecoder} line format, optionally prefixed by the offset of the event in
+ * milliseconds and a space, e.g. {@code 5400000 FINISH;1}; a line without offset happens at
+ * the same time as the line before it. Generated workloads simulate a tournament day.
+ */
+public final class Workload {
+    private static final long MATCH_NANOS = TimeUnit.MINUTES.toNanos(90);
+
+    private final List<TimedCommand> commands;
+    private final int matchCount;
+
+    private Workload(List<TimedCommand> commands, int matchCount) {
+        this.commands = List.copyOf(commands);
+        this.matchCount = matchCount;
+    }
+
+    /**
+     * Reads a recorded workload from an event log.
+     *
+     * @param log the event log
+     * @return the recorded workload
+     * @throws IOException if the log cannot be read
+     * @throws IllegalArgumentException if the log contains a malformed line
+     */
+    public static Workload read(Path log) throws IOException {
+        FeedDecoder decoder = new FeedDecoder();
+        List<TimedCommand> commands = new ArrayList<>();
+        int matches = 0;
+        long offsetNanos = 0;
+        try (BufferedReader reader = Files.newBufferedReader(log, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int space = line.indexOf(' ');
+                if (space > 0 && Character.isDigit(line.charAt(0))) {
+                    offsetNanos = Math.max(offsetNanos,
+                            TimeUnit.MILLISECONDS.toNanos(Long.parseLong(line.substring(0, space))));
+                    line = line.substring(space + 1);
+                }
+                FeedCommand command = decoder.decode(line);
+                if (command != null) {
+                    commands.add(new TimedCommand(offsetNanos, command));
+                    if (command instanceof FeedCommand.Start) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        return new Workload(commands, matches);
+    }
+
+    /**
+     * Generates a tournament day. Matches kick off at random times within the first 90
+     * minutes and last 90 minutes each, so the board holds up to all of them at once. Goals
+     * follow a Poisson process and are scored by either team with equal probability.
+     *
+     * @param matchCount the number of matches (positive)
+     * @param goalsPerMatch the mean number of goals per match (non-negative)
+     * @param seed the seed of the random generator, so workloads can be reproduced
+     * @return the generated workload
+     * @throws IllegalArgumentException if matchCount is not positive or goalsPerMatch is negative
+     */
+    public static Workload synthetic(int matchCount, double goalsPerMatch, long seed) {
+        if (matchCount <= 0 || goalsPerMatch < 0) {
+            throw new IllegalArgumentException("Match count must be positive and goal rate cannot be negative");
+        }
+
+        Random random = new Random(seed);
+        List<TimedCommand> commands = new ArrayList<>();
+        for (int number = 1; number <= matchCount; number++) {
+            long kickoff = (long) (random.nextDouble() * MATCH_NANOS);
+            commands.add(new TimedCommand(kickoff, new FeedCommand.Start(number,
+                    new Team("Home " + number), new Team("Away " + number))));
+            int homeScore = 0;
+            int awayScore = 0;
+            double minute = nextGoal(random, goalsPerMatch, 0);
+            while (minute < 90) {
+                if (random.nextBoolean()) {
+                    homeScore++;
+                } else {
+                    awayScore++;
+                }
+                long offset = kickoff + (long) (minute * TimeUnit.MINUTES.toNanos(1));
+                commands.add(new TimedCommand(offset, new FeedCommand.Update(number, homeScore, awayScore)));
+                minute = nextGoal(random, goalsPerMatch, minute);
+            }
+            commands.add(new TimedCommand(kickoff + MATCH_NANOS, new FeedCommand.Finish(number)));
+        }
+        commands.sort(Comparator.comparingLong(TimedCommand::offsetNanos)); // Stable, keeps match order
+        return new Workload(commands, matchCount);
+    }
+
+    private static double nextGoal(Random random, double goalsPerMatch, double minute) {
+        if (goalsPerMatch == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return minute - Math.log(1 - random.nextDouble()) * 90 / goalsPerMatch;
+    }
+
+    /**
+     * Returns the commands of the workload, ordered by offset.
+     *
+     * @return the commands
+     */
+    public List<TimedCommand> commands() {
+        return commands;
+    }
+
+    /**
+     * Returns the number of matches started by the workload.
+     *
+     * @return the match count
+     */
+    public int matchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the offset of the last command.
+     *
+     * @return the duration of the workload at 1x speed in nanoseconds
+     */
+    public long durationNanos() {
+        return commands.isEmpty() ? 0 : commands.get(commands.size() - 1).offsetNanos();
+    }
+}
@@ -1,15 +1,34 @@
 package com.worldcup.scoreboard;
 
+import com.worldcup.scoreboard.feed.ChangeFeed;
+import com.worldcup.scoreboard.feed.ScoreboardEvent;
+import com.worldcup.scoreboard.model.BoardSnapshot;
 import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.model.TeamRegistry;
 import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.ScoreUpdate;
+import com.worldcup.scoreboard.model.ScoreUpdateResult;
+import com.worldcup.scoreboard.model.Summary;
+import com.worldcup.scoreboard.model.SummaryDelta;
+import com.worldcup.scoreboard.model.SummaryPage;
 import com.worldcup.scoreboard.service.ScoreboardService;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Public API for the World Cup Scoreboard.
  * <p>
  * This class provides a simple API for managing football matches on a scoreboard,
  * including starting matches, updating scores, finishing matches, and getting summaries.
  * <p>
+ * A scoreboard is thread-safe and needs no external locking: score updates to different
+ * matches run in parallel, and generating a summary never blocks writers.
+ * <p>
  * Example usage:
  * <pre>
  * Scoreboard scoreboard = new Scoreboard();
@@ -25,26 +44,73 @@ import com.worldcup.scoreboard.service.ScoreboardService;
  */
 public class Scoreboard {
     private final ScoreboardService scoreboardService;
+    private final TeamRegistry teamRegistry;
+    private final Executor changeFeedExecutor;
+    private ChangeFeed changeFeed;
 
     /**
      * Constructs a new Scoreboard instance.
      */
     public Scoreboard() {
-        this.scoreboardService = new ScoreboardService();
+        this(new ScoreboardService());
+    }
+
+    /**
+     * Constructs a new Scoreboard instance on top of an existing service, e.g. one
+     * recovered from a journal.
+     *
+     * @param scoreboardService the service holding the board state (must not be null)
+     * @throws IllegalArgumentException if the service is null
+     */
+    public Scoreboard(ScoreboardService scoreboardService) {
+        this(scoreboardService, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new Scoreboard instance whose change feed delivers events on the given
+     * executor.
+     *
+     * @param scoreboardService the service holding the board state (must not be null)
+     * @param changeFeedExecutor the executor delivering change events
+     * @throws IllegalArgumentException if the service is null
+     */
+    Scoreboard(ScoreboardService scoreboardService, Executor changeFeedExecutor) {
+        if (scoreboardService == null) {
+            throw new IllegalArgumentException("Scoreboard service cannot be null");
+        }
+        this.scoreboardService = scoreboardService;
+        this.teamRegistry = new TeamRegistry();
+        this.changeFeedExecutor = changeFeedExecutor;
     }
 
     /**
      * Starts a new match between two teams (specified by name) and adds it to the scoreboard.
-     * The match starts with a score of 0-0.
+     * The match starts with a score of 0-0. Teams are resolved through a registry, so the
+     * same team name always maps to the same {@link Team} instance.
      *
      * @param homeTeamName the home team name (must not be null or empty)
      * @param awayTeamName the away team name (must not be null or empty)
      * @return the created match
      * @throws IllegalArgumentException if either team name is invalid
+     * @throws IllegalStateException if either team is already playing in an in-progress match
      */
     public Match startMatch(String homeTeamName, String awayTeamName) {
-        Team homeTeam = new Team(homeTeamName);
-        Team awayTeam = new Team(awayTeamName);
+        Team homeTeam = teamRegistry.get(homeTeamName);
+        Team awayTeam = teamRegistry.get(awayTeamName);
+        return scoreboardService.startMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Starts a new match between two already resolved teams, e.g. by a parser keeping its
+     * own team lookup. The match starts with a score of 0-0.
+     *
+     * @param homeTeam the home team (must not be null)
+     * @param awayTeam the away team (must not be null)
+     * @return the created match
+     * @throws IllegalArgumentException if either team is null or both are the same team
+     * @throws IllegalStateException if either team is already playing in an in-progress match
+     */
+    public Match startMatch(Team homeTeam, Team awayTeam) {
         return scoreboardService.startMatch(homeTeam, awayTeam);
     }
 
@@ -61,6 +127,58 @@ public class Scoreboard {
         scoreboardService.updateScore(match, homeScore, awayScore);
     }
 
+    /**
+     * Updates the score of the in-progress match with the given id, as returned by
+     * {@link Match#getId()}. The match is looked up in constant time.
+     *
+     * @param matchId the id of the match to update
+     * @param homeScore the new home team score (must not be negative)
+     * @param awayScore the new away team score (must not be negative)
+     * @throws IllegalArgumentException if a score is negative
+     * @throws IllegalStateException if no in-progress match with this id is on the scoreboard
+     */
+    public void updateScore(long matchId, int homeScore, int awayScore) {
+        scoreboardService.updateScore(matchId, homeScore, awayScore);
+    }
+
+    /**
+     * Gets the match with the given id.
+     *
+     * @param matchId the id of the match
+     * @return the match, or null if no match with this id is on the scoreboard
+     */
+    public Match getMatch(long matchId) {
+        return scoreboardService.getMatch(matchId);
+    }
+
+    /**
+     * Finds the in-progress match a team is playing in, home or away, e.g. for a feed that
+     * identifies matches by team names. The team name is formatted like any other, but
+     * looking it up does not register it, so arbitrary lookups cost no memory.
+     *
+     * @param teamName the team name (must not be null or empty)
+     * @return the match, or null if the team is not playing
+     * @throws IllegalArgumentException if the team name is invalid
+     */
+    public Match findMatchByTeam(String teamName) {
+        Team team = teamRegistry.find(teamName);
+        return team == null ? null : scoreboardService.findMatchByTeam(team);
+    }
+
+    /**
+     * Applies a batch of score updates in one call, e.g. all results of a matchday.
+     * Every update is validated first; invalid updates are reported in the result
+     * without aborting the batch, and the valid ones are published together, so readers
+     * see either none or all of them.
+     *
+     * @param updates the updates to apply (must not be null)
+     * @return the number of applied updates and the rejected ones
+     * @throws IllegalArgumentException if updates is null
+     */
+    public ScoreUpdateResult updateScores(Collection<ScoreUpdate> updates) {
+        return scoreboardService.updateScores(updates);
+    }
+
     /**
      * Finishes and removes a match from the scoreboard.
      *
@@ -72,6 +190,16 @@ public class Scoreboard {
         scoreboardService.finishMatch(match);
     }
 
+    /**
+     * Finishes and removes the match with the given id from the scoreboard.
+     *
+     * @param matchId the id of the match to finish
+     * @throws IllegalStateException if no match with this id is on the scoreboard
+     */
+    public void finishMatch(long matchId) {
+        scoreboardService.finishMatch(matchId);
+    }
+
     /**
      * Gets a summary of all matches in progress, ordered by:
      * 1. Total score (descending)
@@ -82,4 +210,93 @@ public class Scoreboard {
     public String getSummary() {
         return scoreboardService.getSummary();
     }
+
+    /**
+     * Gets the summary of all matches in progress together with the board version it
+     * represents. While nothing changes on the scoreboard the same cached summary is
+     * returned, so callers can cheaply detect changes by comparing versions.
+     *
+     * @return the summary for the current board version
+     */
+    public Summary getVersionedSummary() {
+        return scoreboardService.getVersionedSummary();
+    }
+
+    /**
+     * Gets an immutable snapshot of all matches in progress, in summary order and in start
+     * order, together with the board version it represents. While nothing changes on the
+     * scoreboard every caller shares the same snapshot, published with the board and read
+     * without locking or copying.
+     *
+     * @return the snapshot for the current board version
+     */
+    public BoardSnapshot getSnapshot() {
+        return scoreboardService.getSnapshot();
+    }
+
+    /**
+     * Gets what changed in the summary since the given version, or the full summary if that
+     * version is too old to compute a difference.
+     *
+     * @param sinceVersion the last version the caller has seen
+     * @return the changes since that version
+     */
+    public SummaryDelta getDelta(long sinceVersion) {
+        return scoreboardService.getDelta(sinceVersion);
+    }
+
+    /**
+     * Gets the top matches of the summary, in the same order as {@link #getSummary()}.
+     * Takes time proportional to the number of returned matches, not to the board size.
+     *
+     * @param count the maximum number of matches to return (non-negative)
+     * @return up to {@code count} matches from the top of the summary
+     */
+    public List<RankedMatch> getTopMatches(int count) {
+        return scoreboardService.getTopMatches(count);
+    }
+
+    /**
+     * Gets one page of the summary, in the same order as {@link #getSummary()}.
+     * Takes time proportional to the page size plus a log factor, not to the board size.
+     *
+     * @param page the zero-based page number (non-negative)
+     * @param size the number of matches per page (positive)
+     * @return the requested page, empty if it lies past the last match
+     */
+    public SummaryPage getSummaryPage(int page, int size) {
+        return scoreboardService.getSummaryPage(page, size);
+    }
+
+    /**
+     * Gets a publisher of all subsequent changes to the scoreboard. Events are delivered
+     * asynchronously, and a subscriber that falls behind receives the latest state of each
+     * match instead of every intermediate change.
+     *
+     * @return the change feed of this scoreboard
+     */
+    public synchronized Flow.Publisher<ScoreboardEvent> getChangeFeed() {
+        if (changeFeed == null) {
+            changeFeed = new ChangeFeed(scoreboardService, changeFeedExecutor);
+        }
+        return changeFeed;
+    }
+
+    /**
+     * Completes all subscribers of the change feed, if it was ever requested.
+     */
+    synchronized void closeChangeFeed() {
+        if (changeFeed != null) {
+            changeFeed.close();
+        }
+    }
+
+    /**
+     * Gets the current board version, bumped by every match start, score update and finish.
+     *
+     * @return the current board version
+     */
+    public long getVersion() {
+        return scoreboardService.getVersion();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,365 @@
+package com.worldcup.scoreboard;
+
+import com.worldcup.scoreboard.model.GlobalRankedMatch;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of scoreboards for many concurrent competitions, keyed by competition name.
+ * <p>
+ * Competitions are spread over a fixed number of shards by the hash of their key. Each shard
+ * has its own lock and its own single-threaded executor, which delivers the change events of
+ * its scoreboards and evicts its idle ones, so busy competitions on one shard do not hold up
+ * those on another. Scoreboards are created on first access and evicted once they have no
+ * match in progress and have been neither accessed through the registry nor changed for the
+ * idle timeout, so a long quiet spell never drops live matches. An evicted scoreboard's
+ * change feed is completed.
+ * <p>
+ * The global summary covers all competitions. It merges the already sorted summaries of
+ * every scoreboard with a k-way merge, so no matches are re-sorted. Since start order is
+ * global, matches of different competitions are ordered by the same {@code MatchComparator}
+ * contract as within a single scoreboard.
+ * <p>
+ * Example usage:
+ * <pre>
+ * ScoreboardRegistry registry = new ScoreboardRegistry();
+ *
+ * Match match = registry.getScoreboard("World Cup").startMatch("Mexico", "Canada");
+ *
+ * String summary = registry.getGlobalSummary();
+ * </pre>
+ */
+public class ScoreboardRegistry implements AutoCloseable {
+    /**
+     * The default number of shards.
+     */
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    /**
+     * The default time after which an unused scoreboard is evicted.
+     */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(1);
+
+    private final Shard[] shards;
+    private final long idleTimeoutNanos;
+    private final int historySize;
+
+    /**
+     * Constructs a registry with the default shard count and idle timeout.
+     */
+    public ScoreboardRegistry() {
+        this(DEFAULT_SHARD_COUNT, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructs a registry whose scoreboards remember the default number of versions for
+     * delta summaries.
+     *
+     * @param shardCount the number of shards (positive)
+     * @param idleTimeout the time after which an unused scoreboard is evicted, zero to only
+     *                    evict on {@link #evictIdle()}
+     * @throws IllegalArgumentException if shardCount is not positive or idleTimeout is null or negative
+     */
+    public ScoreboardRegistry(int shardCount, Duration idleTimeout) {
+        this(shardCount, idleTimeout, ScoreboardService.DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * Constructs a registry.
+     *
+     * @param shardCount the number of shards (positive)
+     * @param idleTimeout the time after which an unused scoreboard is evicted, zero to only
+     *                    evict on {@link #evictIdle()}
+     * @param historySize the number of versions each scoreboard remembers for delta summaries
+     *                    (between 1 and {@link ScoreboardService#MAX_HISTORY_SIZE})
+     * @throws IllegalArgumentException if shardCount is not positive, idleTimeout is null or
+     *                                  negative, or historySize is out of range
+     */
+    public ScoreboardRegistry(int shardCount, Duration idleTimeout, int historySize) {
+        if (shardCount <= 0 || idleTimeout == null || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Shard count must be positive and idle timeout cannot be negative");
+        }
+        if (historySize < 1 || historySize > ScoreboardService.MAX_HISTORY_SIZE) {
+            throw new IllegalArgumentException("History size must be between 1 and " + ScoreboardService.MAX_HISTORY_SIZE);
+        }
+
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.historySize = historySize;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+            if (idleTimeoutNanos > 0) {
+                Shard shard = shards[i];
+                shard.executor.scheduleWithFixedDelay(() -> shard.evictIdle(System.nanoTime()),
+                        idleTimeoutNanos, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Gets the scoreboard of a competition, creating it if it does not exist yet.
+     *
+     * @param competition the competition key (non-null)
+     * @return the scoreboard of the competition
+     * @throws IllegalArgumentException if competition is null
+     */
+    public Scoreboard getScoreboard(String competition) {
+        if (competition == null) {
+            throw new IllegalArgumentException("Competition cannot be null");
+        }
+        return shardOf(competition).get(competition, true).scoreboard;
+    }
+
+    /**
+     * Gets the scoreboard of a competition without creating it.
+     *
+     * @param competition the competition key
+     * @return the scoreboard of the competition, or null if there is none
+     */
+    public Scoreboard findScoreboard(String competition) {
+        if (competition == null) {
+            return null;
+        }
+        Board board = shardOf(competition).get(competition, false);
+        return board == null ? null : board.scoreboard;
+    }
+
+    /**
+     * Removes the scoreboard of a competition, dropping its matches.
+     *
+     * @param competition the competition key
+     * @return true if a scoreboard was removed
+     */
+    public boolean removeScoreboard(String competition) {
+        return competition != null && shardOf(competition).remove(competition);
+    }
+
+    /**
+     * Returns the keys of all competitions currently in the registry, sorted.
+     *
+     * @return the competition keys
+     */
+    public Set<String> getCompetitions() {
+        Set<String> competitions = new TreeSet<>();
+        for (Shard shard : shards) {
+            for (Board board : shard.boards()) {
+                competitions.add(board.competition);
+            }
+        }
+        return competitions;
+    }
+
+    /**
+     * Evicts every scoreboard without matches in progress that has been neither accessed nor
+     * changed for the idle timeout. Runs automatically when the timeout is positive.
+     *
+     * @return the number of evicted scoreboards
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            evicted += shard.evictIdle(now);
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns the top matches across all competitions, in summary order. Each scoreboard is
+     * read lazily from its own ordered summary, so this takes time proportional to
+     * {@code count} times the log of the number of competitions.
+     *
+     * @param count the maximum number of matches to return (non-negative)
+     * @return up to {@code count} matches from the top of the global summary
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<GlobalRankedMatch> getGlobalTopMatches(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+
+        PriorityQueue<Cursor> heads = new PriorityQueue<>();
+        for (Shard shard : shards) {
+            for (Board board : shard.boards()) {
+                Cursor cursor = new Cursor(board.competition, board.service.getSummaryIterator());
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+        }
+
+        List<GlobalRankedMatch> matches = new ArrayList<>(Math.min(count, 64));
+        while (matches.size() < count && !heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            RankedMatch head = cursor.head;
+            matches.add(new GlobalRankedMatch(matches.size() + 1, cursor.competition, head.match(),
+                    head.homeScore(), head.awayScore()));
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Generates a summary of in-progress matches across all competitions, ordered like the
+     * summary of a single scoreboard, with each line labelled by its competition.
+     *
+     * @return formatted global summary string
+     */
+    public String getGlobalSummary() {
+        StringBuilder summary = new StringBuilder("Matches summary:\n");
+        for (GlobalRankedMatch match : getGlobalTopMatches(Integer.MAX_VALUE)) {
+            summary.append(match).append("\n");
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Stops the shard executors and completes the change feeds of all scoreboards.
+     */
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.close();
+        }
+    }
+
+    private Shard shardOf(String competition) {
+        int hash = competition.hashCode();
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
+    }
+
+    /**
+     * A group of scoreboards sharing a lock and an executor.
+     */
+    private final class Shard {
+        private final Map<String, Board> boards;
+        private final ScheduledExecutorService executor;
+
+        private Shard(int index) {
+            this.boards = new HashMap<>();
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "scoreboard-shard-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        synchronized Board get(String competition, boolean create) {
+            Board board = boards.get(competition);
+            if (board == null && create) {
+                ScoreboardService service = new ScoreboardService(historySize);
+                board = new Board(competition, service, new Scoreboard(service, executor));
+                boards.put(competition, board);
+            }
+            if (board != null) {
+                board.lastAccessNanos = System.nanoTime();
+            }
+            return board;
+        }
+
+        synchronized boolean remove(String competition) {
+            Board board = boards.remove(competition);
+            if (board == null) {
+                return false;
+            }
+            board.scoreboard.closeChangeFeed();
+            return true;
+        }
+
+        synchronized List<Board> boards() {
+            return new ArrayList<>(boards.values());
+        }
+
+        synchronized int evictIdle(long now) {
+            int evicted = 0;
+            Iterator<Board> iterator = boards.values().iterator();
+            while (iterator.hasNext()) {
+                Board board = iterator.next();
+                long version = board.service.getVersion();
+                if (version != board.lastSeenVersion) {
+                    board.lastSeenVersion = version; // Changed since the last sweep
+                    board.lastAccessNanos = now;
+                } else if (now - board.lastAccessNanos >= idleTimeoutNanos
+                        && board.service.getTopMatches(1).isEmpty()) { // Never drop live matches
+                    iterator.remove();
+                    board.scoreboard.closeChangeFeed();
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        synchronized void close() {
+            executor.shutdown();
+            for (Board board : boards.values()) {
+                board.scoreboard.closeChangeFeed();
+            }
+        }
+    }
+
+    /**
+     * A scoreboard of one competition with its usage tracking, guarded by its shard.
+     */
+    private static final class Board {
+        private final String competition;
+        private final ScoreboardService service;
+        private final Scoreboard scoreboard;
+        private long lastAccessNanos;
+        private long lastSeenVersion;
+
+        private Board(String competition, ScoreboardService service, Scoreboard scoreboard) {
+            this.competition = competition;
+            this.service = service;
+            this.scoreboard = scoreboard;
+        }
+    }
+
+    /**
+     * Position in the summary of one scoreboard during a k-way merge. Cursors order their
+     * current heads the same way as {@code MatchComparator}.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+        private final String competition;
+        private final Iterator<RankedMatch> matches;
+        private RankedMatch head;
+        private int headTotal;
+
+        private Cursor(String competition, Iterator<RankedMatch> matches) {
+            this.competition = competition;
+            this.matches = matches;
+        }
+
+        boolean advance() {
+            if (!matches.hasNext()) {
+                return false;
+            }
+            head = matches.next();
+            headTotal = head.homeScore() + head.awayScore();
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int scoreComparison = Integer.compare(other.headTotal, headTotal);
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            return Long.compare(other.head.match().getStartSequence(), head.match().getStartSequence());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.worldcup.scoreboard.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.BitSet;
+
+/**
+ * A sealed, encoded segment of archived results.
+ * <p>
+ * The encoded columns are held in memory until the segment is spilled to a file. The
+ * segment keeps its start time range and the set of its teams in memory either way, so
+ * queries skip segments that cannot match without loading them.
+ */
+final class ArchiveSegment {
+    private final long sequence;
+    private final int size;
+    private final long minStartTime;
+    private final long maxStartTime;
+    private final BitSet teams;
+    private final int encodedSize;
+    private volatile byte[] data;
+    private volatile Path file;
+    boolean spilling; // Guarded by the archive
+
+    ArchiveSegment(long sequence, ResultColumns columns) {
+        this.sequence = sequence;
+        this.size = columns.size;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        this.teams = new BitSet();
+        for (int i = 0; i < columns.size; i++) {
+            min = Math.min(min, columns.startTimes[i]);
+            max = Math.max(max, columns.startTimes[i]);
+            teams.set(columns.homeTeams[i]);
+            teams.set(columns.awayTeams[i]);
+        }
+        this.minStartTime = min;
+        this.maxStartTime = max;
+        this.data = columns.encode();
+        this.encodedSize = data.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int encodedSize() {
+        return encodedSize;
+    }
+
+    long maxStartTime() {
+        return maxStartTime;
+    }
+
+    boolean isInMemory() {
+        return data != null;
+    }
+
+    boolean mayContainTeam(int team) {
+        return teams.get(team);
+    }
+
+    boolean overlaps(long fromInclusive, long toExclusive) {
+        return minStartTime < toExclusive && maxStartTime >= fromInclusive;
+    }
+
+    /**
+     * Decodes the segment, reading it back from its file if it has been spilled.
+     *
+     * @return the decoded columns, or null if the segment has been deleted meanwhile
+     */
+    ResultColumns load() {
+        byte[] bytes = data;
+        if (bytes == null) {
+            Path spilled = file;
+            if (spilled == null) {
+                return null;
+            }
+            try {
+                bytes = Files.readAllBytes(spilled);
+            } catch (NoSuchFileException e) {
+                return null; // Evicted while being queried
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read archive segment " + spilled, e);
+            }
+        }
+        return ResultColumns.decode(bytes);
+    }
+
+    /**
+     * Returns the file a spilled segment is written to.
+     */
+    Path spillFile(Path directory) {
+        return directory.resolve("results-" + sequence + ".seg");
+    }
+
+    /**
+     * Writes the encoded segment to the file, keeping it in memory. Runs without the
+     * archive lock; {@link #spilled(Path)} then switches queries over to the file.
+     *
+     * @return false if the segment has been deleted meanwhile
+     */
+    boolean write(Path target) throws IOException {
+        byte[] bytes = data;
+        if (bytes == null) {
+            return false;
+        }
+        Files.write(target, bytes);
+        return true;
+    }
+
+    /**
+     * Drops the encoded segment from memory once it has been written to the file.
+     */
+    void spilled(Path target) {
+        file = target;
+        data = null; // After setting the file, so a concurrent load always finds one of them
+    }
+
+    /**
+     * Drops the segment from memory and forgets its file, if any.
+     *
+     * @return the file the caller has to delete, or null if the segment was never spilled
+     */
+    Path delete() {
+        data = null;
+        Path spilled = file;
+        file = null;
+        return spilled;
+    }
+}
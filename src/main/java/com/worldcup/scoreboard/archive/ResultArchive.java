@@ -0,0 +1,500 @@
+package com.worldcup.scoreboard.archive;
+
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchResult;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardListener;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded archive of the results of matches finished on a {@link ScoreboardService}.
+ * <p>
+ * Results are appended to an in-memory segment of primitive columns. Once it holds
+ * {@value #SEGMENT_SIZE} results, the segment is sealed: its columns are varint encoded,
+ * taking a small fraction of the memory of the matches they came from, and its start time
+ * range and teams are kept aside for queries. When the sealed segments in memory exceed the
+ * memory budget, the oldest ones are spilled to files in the spill directory, or dropped if
+ * there is none. When the spilled segments exceed the disk budget, or a segment's newest
+ * match started longer ago than the maximum age, the segment is dropped. Eviction works a
+ * whole segment at a time, oldest first.
+ * <p>
+ * Spilled files are written and deleted by a background thread, so finishing a match never
+ * waits for the disk and never fails because of it. A segment that cannot be spilled is
+ * dropped instead; such failures are counted by {@link #getSpillFailures()}.
+ * <p>
+ * Queries skip every segment whose teams or start times cannot match, decode the remaining
+ * ones column by column and create result objects only for matching rows. Results are
+ * returned in the order the matches were finished. Queries do not block the scoreboard
+ * while they decode or read spilled segments.
+ * <p>
+ * The spill directory is scratch space; spilled files are deleted on close. Example usage:
+ * <pre>
+ * ResultArchive archive = ResultArchive.open(service);
+ *
+ * List&lt;MatchResult&gt; results = archive.findByTeam(new Team("Mexico"));
+ * </pre>
+ */
+public class ResultArchive implements ScoreboardListener, AutoCloseable {
+    /**
+     * The number of results per segment.
+     */
+    public static final int SEGMENT_SIZE = 4096;
+
+    /**
+     * The default budget for encoded segments held in memory.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 16L * 1024 * 1024;
+
+    private final ScoreboardService service;
+    private final Path spillDirectory;
+    private final long memoryBudget;
+    private final long diskBudget;
+    private final Duration maxAge;
+    private final Map<Team, Integer> teamIds;
+    private final Deque<ArchiveSegment> segments;
+    private final ExecutorService spiller;
+    private Team[] teams;
+    private ResultColumns active;
+    private long nextSequence;
+    private long memoryBytes;
+    private long spillingBytes;
+    private long diskBytes;
+    private int sealedResults;
+    private long spillFailures;
+    private boolean closed;
+
+    private ResultArchive(ScoreboardService service, Path spillDirectory, long memoryBudget, long diskBudget,
+                          Duration maxAge) {
+        this.service = service;
+        this.spillDirectory = spillDirectory;
+        this.memoryBudget = memoryBudget;
+        this.diskBudget = diskBudget;
+        this.maxAge = maxAge;
+        this.teamIds = new HashMap<>();
+        this.segments = new ArrayDeque<>();
+        this.teams = new Team[64];
+        this.active = new ResultColumns(SEGMENT_SIZE);
+        this.spiller = spillDirectory == null ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "result-archive-spiller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens an in-memory archive with the default memory budget and no age limit, recording
+     * the results of all matches subsequently finished on the service.
+     *
+     * @param service the service to archive results of (non-null)
+     * @return the open archive
+     * @throws IllegalArgumentException if service is null
+     */
+    public static ResultArchive open(ScoreboardService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        ResultArchive archive = new ResultArchive(service, null, DEFAULT_MEMORY_BUDGET, 0, Duration.ZERO);
+        service.addListener(archive);
+        return archive;
+    }
+
+    /**
+     * Opens an archive recording the results of all matches subsequently finished on the service.
+     *
+     * @param service the service to archive results of (non-null)
+     * @param spillDirectory the directory for spilled segments, created if missing, or null
+     *                       to drop segments exceeding the memory budget
+     * @param memoryBudget the bytes of encoded segments kept in memory (non-negative)
+     * @param diskBudget the bytes of spilled segments kept on disk (non-negative)
+     * @param maxAge the age after which results are dropped, measured from the start time
+     *               of the newest match of their segment, zero to keep results regardless of age
+     * @return the open archive
+     * @throws IllegalArgumentException if service or maxAge is null, or a budget or maxAge is negative
+     * @throws IOException if the spill directory cannot be created
+     */
+    public static ResultArchive open(ScoreboardService service, Path spillDirectory, long memoryBudget,
+                                     long diskBudget, Duration maxAge) throws IOException {
+        if (service == null || maxAge == null) {
+            throw new IllegalArgumentException("Service and maximum age cannot be null");
+        }
+        if (memoryBudget < 0 || diskBudget < 0 || maxAge.isNegative()) {
+            throw new IllegalArgumentException("Budgets and maximum age cannot be negative");
+        }
+        if (spillDirectory != null) {
+            Files.createDirectories(spillDirectory);
+        }
+
+        ResultArchive archive = new ResultArchive(service, spillDirectory, memoryBudget, diskBudget, maxAge);
+        service.addListener(archive);
+        return archive;
+    }
+
+    @Override
+    public void matchFinished(Match match) {
+        long startTime = epochNanos(match.getStartTime());
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            active.add(match.getId(), teamId(match.getHomeTeam()), teamId(match.getAwayTeam()),
+                    match.getHomeScore(), match.getAwayScore(), startTime);
+            if (active.size == SEGMENT_SIZE) {
+                seal();
+            }
+        }
+    }
+
+    /**
+     * Returns the archived results of all matches a team played in, home or away.
+     *
+     * @param team the team (non-null)
+     * @return the results, in finish order
+     * @throws IllegalArgumentException if team is null
+     */
+    public List<MatchResult> findByTeam(Team team) {
+        if (team == null) {
+            throw new IllegalArgumentException("Team cannot be null");
+        }
+
+        List<ArchiveSegment> candidates;
+        ResultColumns recent;
+        Team[] dictionary;
+        int id;
+        synchronized (this) {
+            Integer knownId = teamIds.get(team);
+            if (knownId == null) {
+                return List.of();
+            }
+            id = knownId;
+            candidates = new ArrayList<>(segments.size());
+            for (ArchiveSegment segment : segments) {
+                if (segment.mayContainTeam(id)) {
+                    candidates.add(segment);
+                }
+            }
+            recent = copyOfActive();
+            dictionary = teams;
+        }
+
+        List<MatchResult> results = new ArrayList<>();
+        for (ArchiveSegment segment : candidates) {
+            collectTeam(segment.load(), id, dictionary, results);
+        }
+        collectTeam(recent, id, dictionary, results);
+        return results;
+    }
+
+    /**
+     * Returns the archived results of all matches started within a time range.
+     *
+     * @param from the earliest start time, inclusive (non-null)
+     * @param to the latest start time, exclusive (non-null)
+     * @return the results, in finish order
+     * @throws IllegalArgumentException if from or to is null
+     */
+    public List<MatchResult> findByStartTime(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Time range cannot be null");
+        }
+        long fromNanos = epochNanos(from);
+        long toNanos = epochNanos(to);
+
+        List<ArchiveSegment> candidates;
+        ResultColumns recent;
+        Team[] dictionary;
+        synchronized (this) {
+            candidates = new ArrayList<>(segments.size());
+            for (ArchiveSegment segment : segments) {
+                if (segment.overlaps(fromNanos, toNanos)) {
+                    candidates.add(segment);
+                }
+            }
+            recent = copyOfActive();
+            dictionary = teams;
+        }
+
+        List<MatchResult> results = new ArrayList<>();
+        for (ArchiveSegment segment : candidates) {
+            collectStartTime(segment.load(), fromNanos, toNanos, dictionary, results);
+        }
+        collectStartTime(recent, fromNanos, toNanos, dictionary, results);
+        return results;
+    }
+
+    /**
+     * Returns the number of results currently held, in memory or on disk.
+     *
+     * @return the number of results
+     */
+    public synchronized int size() {
+        return sealedResults + active.size;
+    }
+
+    /**
+     * Returns the bytes of encoded segments held in memory, not counting the active segment.
+     *
+     * @return the memory used by sealed segments
+     */
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * Returns the bytes of spilled segments on disk. Segments still being written by the
+     * background thread count as held in memory.
+     *
+     * @return the disk space used by spilled segments
+     */
+    public synchronized long getDiskBytes() {
+        return diskBytes;
+    }
+
+    /**
+     * Returns the number of segments that could not be written to or deleted from the
+     * spill directory. A segment that cannot be written is dropped.
+     *
+     * @return the number of failed spill directory operations
+     */
+    public synchronized long getSpillFailures() {
+        return spillFailures;
+    }
+
+    /**
+     * Drops the segments whose newest match started longer ago than the maximum age. Runs
+     * automatically whenever a segment is sealed.
+     *
+     * @return the number of dropped results
+     */
+    public synchronized int evictExpired() {
+        if (maxAge.isZero()) {
+            return 0;
+        }
+        long cutoff = epochNanos(LocalDateTime.now().minus(maxAge));
+        int evicted = 0;
+        while (!segments.isEmpty() && segments.peekFirst().maxStartTime() < cutoff) {
+            evicted += segments.peekFirst().size();
+            dropOldest();
+        }
+        return evicted;
+    }
+
+    /**
+     * Stops archiving and deletes all spilled segments, waiting for the background thread
+     * to finish pending writes and deletions.
+     */
+    @Override
+    public void close() {
+        service.removeListener(this);
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            while (!segments.isEmpty()) {
+                dropOldest();
+            }
+            active = new ResultColumns(0);
+        }
+        if (spiller != null) {
+            spiller.shutdown();
+            try {
+                spiller.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits until the background thread has written or deleted all segments handed to it
+     * so far.
+     */
+    void awaitSpills() throws InterruptedException, ExecutionException {
+        if (spiller != null) {
+            spiller.submit(() -> { }).get();
+        }
+    }
+
+    /**
+     * Seals the active segment and enforces the memory budget and the maximum age.
+     */
+    private void seal() {
+        ArchiveSegment sealed = new ArchiveSegment(nextSequence++, active);
+        segments.addLast(sealed);
+        memoryBytes += sealed.encodedSize();
+        sealedResults += sealed.size();
+        active = new ResultColumns(SEGMENT_SIZE);
+
+        // Spill or drop the oldest segments still in memory until within the memory budget,
+        // counting segments already handed to the background thread as spilled
+        while (memoryBytes - spillingBytes > memoryBudget) {
+            if (spillDirectory == null) {
+                dropOldest(); // Nothing is spilled, so the oldest segment is in memory
+                continue;
+            }
+            ArchiveSegment oldest = null;
+            for (ArchiveSegment segment : segments) {
+                if (segment.isInMemory() && !segment.spilling) {
+                    oldest = segment;
+                    break;
+                }
+            }
+            oldest.spilling = true;
+            spillingBytes += oldest.encodedSize();
+            ArchiveSegment spilled = oldest;
+            spiller.execute(() -> spill(spilled));
+        }
+        evictExpired();
+    }
+
+    /**
+     * Writes a segment to the spill directory on the background thread, then switches
+     * queries over to the file and enforces the disk budget. Spills complete oldest first,
+     * so spilled segments are always the oldest ones.
+     */
+    private void spill(ArchiveSegment segment) {
+        Path target = segment.spillFile(spillDirectory);
+        try {
+            if (!segment.write(target)) {
+                return; // Evicted or closed before being written
+            }
+        } catch (IOException e) {
+            deleteSpilled(target); // Possibly written partially
+            synchronized (this) {
+                spillFailures++;
+                if (segment.spilling && segments.remove(segment)) {
+                    dropSpilling(segment);
+                    sealedResults -= segment.size();
+                    segment.delete();
+                }
+            }
+            return;
+        }
+
+        boolean dropped;
+        synchronized (this) {
+            dropped = !segment.spilling; // Evicted or closed while being written
+            if (!dropped) {
+                dropSpilling(segment);
+                segment.spilled(target);
+                diskBytes += segment.encodedSize();
+                while (diskBytes > diskBudget) {
+                    dropOldest();
+                }
+            }
+        }
+        if (dropped) {
+            deleteSpilled(target);
+        }
+    }
+
+    /**
+     * Accounts for a segment handed to the background thread leaving memory.
+     */
+    private void dropSpilling(ArchiveSegment segment) {
+        segment.spilling = false;
+        spillingBytes -= segment.encodedSize();
+        memoryBytes -= segment.encodedSize();
+    }
+
+    private void dropOldest() {
+        ArchiveSegment oldest = segments.removeFirst();
+        if (oldest.spilling) {
+            dropSpilling(oldest);
+        } else if (oldest.isInMemory()) {
+            memoryBytes -= oldest.encodedSize();
+        } else {
+            diskBytes -= oldest.encodedSize();
+        }
+        sealedResults -= oldest.size();
+        Path spilled = oldest.delete();
+        if (spilled != null) {
+            spiller.execute(() -> deleteSpilled(spilled)); // Runs before close finishes
+        }
+    }
+
+    private void deleteSpilled(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            synchronized (this) {
+                spillFailures++;
+            }
+        }
+    }
+
+    private int teamId(Team team) {
+        Integer id = teamIds.get(team);
+        if (id == null) {
+            id = teamIds.size();
+            if (id == teams.length) {
+                teams = Arrays.copyOf(teams, id * 2); // Published to queries under the archive lock
+            }
+            teams[id] = team;
+            teamIds.put(team, id);
+        }
+        return id;
+    }
+
+    private ResultColumns copyOfActive() {
+        ResultColumns copy = new ResultColumns(active.size);
+        for (int i = 0; i < active.size; i++) {
+            copy.add(active.matchIds[i], active.homeTeams[i], active.awayTeams[i],
+                    active.homeScores[i], active.awayScores[i], active.startTimes[i]);
+        }
+        return copy;
+    }
+
+    private static void collectTeam(ResultColumns columns, int team, Team[] teams, List<MatchResult> results) {
+        if (columns == null) {
+            return; // Evicted while being queried
+        }
+        for (int i = 0; i < columns.size; i++) {
+            if (columns.homeTeams[i] == team || columns.awayTeams[i] == team) {
+                results.add(result(columns, i, teams));
+            }
+        }
+    }
+
+    private static void collectStartTime(ResultColumns columns, long from, long to, Team[] teams,
+                                         List<MatchResult> results) {
+        if (columns == null) {
+            return; // Evicted while being queried
+        }
+        for (int i = 0; i < columns.size; i++) {
+            if (columns.startTimes[i] >= from && columns.startTimes[i] < to) {
+                results.add(result(columns, i, teams));
+            }
+        }
+    }
+
+    private static MatchResult result(ResultColumns columns, int row, Team[] teams) {
+        long nanos = columns.startTimes[row];
+        LocalDateTime startTime = LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+        return new MatchResult(columns.matchIds[row], teams[columns.homeTeams[row]], teams[columns.awayTeams[row]],
+                columns.homeScores[row], columns.awayScores[row], startTime);
+    }
+
+    private static long epochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+}
@@ -0,0 +1,168 @@
+package com.worldcup.scoreboard.archive;
+
+import java.util.Arrays;
+
+/**
+ * Match results stored column by column in primitive arrays, with teams as dictionary ids
+ * and start times as UTC epoch nanoseconds.
+ * <p>
+ * Columns are encoded as varints: ids and start times as zigzag deltas to the previous row,
+ * which are small because results arrive roughly in start order, and team ids and scores
+ * as plain varints, which take a single byte for typical values. A typical result takes
+ * well under 20 bytes encoded. Not thread-safe.
+ */
+final class ResultColumns {
+    long[] matchIds;
+    int[] homeTeams;
+    int[] awayTeams;
+    int[] homeScores;
+    int[] awayScores;
+    long[] startTimes;
+    int size;
+
+    ResultColumns(int capacity) {
+        this.matchIds = new long[capacity];
+        this.homeTeams = new int[capacity];
+        this.awayTeams = new int[capacity];
+        this.homeScores = new int[capacity];
+        this.awayScores = new int[capacity];
+        this.startTimes = new long[capacity];
+    }
+
+    void add(long matchId, int homeTeam, int awayTeam, int homeScore, int awayScore, long startTime) {
+        if (size == matchIds.length) {
+            int capacity = Math.max(16, size * 2);
+            matchIds = Arrays.copyOf(matchIds, capacity);
+            homeTeams = Arrays.copyOf(homeTeams, capacity);
+            awayTeams = Arrays.copyOf(awayTeams, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+        }
+        matchIds[size] = matchId;
+        homeTeams[size] = homeTeam;
+        awayTeams[size] = awayTeam;
+        homeScores[size] = homeScore;
+        awayScores[size] = awayScore;
+        startTimes[size] = startTime;
+        size++;
+    }
+
+    /**
+     * Encodes the columns into a compact byte array.
+     */
+    byte[] encode() {
+        Encoder out = new Encoder(size * 12 + 8);
+        out.putVarint(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            out.putVarint(zigzag(matchIds[i] - previous));
+            previous = matchIds[i];
+        }
+        putColumn(out, homeTeams);
+        putColumn(out, awayTeams);
+        putColumn(out, homeScores);
+        putColumn(out, awayScores);
+        previous = 0;
+        for (int i = 0; i < size; i++) {
+            out.putVarint(zigzag(startTimes[i] - previous));
+            previous = startTimes[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes columns encoded by {@link #encode()}.
+     */
+    static ResultColumns decode(byte[] data) {
+        Decoder in = new Decoder(data);
+        int size = (int) in.getVarint();
+        ResultColumns columns = new ResultColumns(size);
+        columns.size = size;
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += unzigzag(in.getVarint());
+            columns.matchIds[i] = previous;
+        }
+        getColumn(in, columns.homeTeams, size);
+        getColumn(in, columns.awayTeams, size);
+        getColumn(in, columns.homeScores, size);
+        getColumn(in, columns.awayScores, size);
+        previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += unzigzag(in.getVarint());
+            columns.startTimes[i] = previous;
+        }
+        return columns;
+    }
+
+    private void putColumn(Encoder out, int[] column) {
+        for (int i = 0; i < size; i++) {
+            out.putVarint(column[i]);
+        }
+    }
+
+    private static void getColumn(Decoder in, int[] column, int size) {
+        for (int i = 0; i < size; i++) {
+            column[i] = (int) in.getVarint();
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Growable byte array writing unsigned LEB128 varints.
+     */
+    private static final class Encoder {
+        private byte[] bytes;
+        private int length;
+
+        Encoder(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void putVarint(long value) {
+            if (bytes.length - length < 10) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2 + 10);
+            }
+            while ((value & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    /**
+     * Reader of unsigned LEB128 varints.
+     */
+    private static final class Decoder {
+        private final byte[] bytes;
+        private int position;
+
+        Decoder(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long getVarint() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+}
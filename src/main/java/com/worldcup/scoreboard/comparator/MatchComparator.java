@@ -3,28 +3,17 @@ package com.worldcup.scoreboard.comparator;
 import com.worldcup.scoreboard.model.Match;
 
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * A comparator for sorting {@link Match} objects.
  * Matches are first compared by their total score in descending order.
- * If two matches have the same total score, they are compared by their insertion order
- * in the provided list, with the most recently added match coming first.
+ * If two matches have the same total score, they are compared by their start sequence,
+ * with the most recently started match coming first.
  */
 public class MatchComparator implements Comparator<Match> {
-    private final List<Match> matches;
 
     /**
-     * Constructs a MatchComparator with the provided list of matches.
-     *
-     * @param matches the list of matches to be used for determining insertion order
-     */
-    public MatchComparator(List<Match> matches) {
-        this.matches = matches;
-    }
-
-    /**
-     * Compares two matches based on their total score (descending) and insertion order.
+     * Compares two matches based on their total score (descending) and start order.
      *
      * @param match1 the first match to compare
      * @param match2 the second match to compare
@@ -40,7 +29,7 @@ public class MatchComparator implements Comparator<Match> {
             return scoreComparison;
         }
 
-        // If scores are equal, compare by insertion order (most recently added first)
-        return Integer.compare(matches.indexOf(match2), matches.indexOf(match1));
+        // If scores are equal, compare by start order (most recently started first)
+        return Long.compare(match2.getStartSequence(), match1.getStartSequence());
     }
-}
\ No newline at end of file
+}
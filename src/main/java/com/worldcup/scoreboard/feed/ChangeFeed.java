@@ -0,0 +1,162 @@
+package com.worldcup.scoreboard.feed;
+
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.service.ScoreboardListener;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Publishes the changes of a {@link ScoreboardService} as a stream of {@link ScoreboardEvent}s.
+ * <p>
+ * Events are delivered to each subscriber on the given executor, never on the thread that
+ * changed the board, so a slow subscriber cannot slow down score updates. Instead of
+ * buffering every event, each subscriber keeps at most its pending events per match and
+ * coalesces them while it lags behind: repeated score and rank changes of a match collapse
+ * into the latest one, and a match started and finished before its start was delivered is
+ * dropped altogether. A lagging subscriber therefore only ever holds the latest state of
+ * each match that is on the board or that it has seen started, so memory stays bounded by
+ * the size of the board rather than by the number of changes.
+ * <p>
+ * The feed listens to the service only while it has subscribers. Example usage:
+ * <pre>
+ * ChangeFeed feed = new ChangeFeed(service);
+ * feed.subscribe(subscriber);
+ * </pre>
+ */
+public class ChangeFeed implements Flow.Publisher<ScoreboardEvent>, AutoCloseable {
+    private final ScoreboardService service;
+    private final Executor executor;
+    private final List<FeedSubscription> subscriptions;
+    private final ScoreboardListener listener;
+    private boolean listening;
+    private boolean closed;
+
+    /**
+     * Creates a feed for the given service, delivering events on the common fork-join pool.
+     *
+     * @param service the service to publish changes of (non-null)
+     * @throws IllegalArgumentException if service is null
+     */
+    public ChangeFeed(ScoreboardService service) {
+        this(service, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a feed for the given service.
+     *
+     * @param service the service to publish changes of (non-null)
+     * @param executor the executor delivering events to subscribers (non-null)
+     * @throws IllegalArgumentException if service or executor is null
+     */
+    public ChangeFeed(ScoreboardService service, Executor executor) {
+        if (service == null || executor == null) {
+            throw new IllegalArgumentException("Service and executor cannot be null");
+        }
+        this.service = service;
+        this.executor = executor;
+        this.subscriptions = new CopyOnWriteArrayList<>();
+        this.listener = new ScoreboardListener() {
+            @Override
+            public void matchStarted(long version, Match match) {
+                publish(new ScoreboardEvent.MatchStarted(version, match));
+            }
+
+            @Override
+            public void scoreUpdated(long version, Match match, int homeScore, int awayScore) {
+                publish(new ScoreboardEvent.ScoreChanged(version, match, homeScore, awayScore));
+            }
+
+            @Override
+            public void rankChanged(long version, Match match, int oldPosition, int newPosition) {
+                publish(new ScoreboardEvent.RankChanged(version, match, oldPosition, newPosition));
+            }
+
+            @Override
+            public void matchFinished(long version, Match match) {
+                publish(new ScoreboardEvent.MatchFinished(version, match));
+            }
+        };
+    }
+
+    /**
+     * Subscribes to all subsequent changes of the board. Subscribing to a closed feed
+     * completes the subscriber right away.
+     *
+     * @param subscriber the subscriber (non-null)
+     * @throws NullPointerException if subscriber is null, as required by {@link Flow.Publisher}
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+
+        FeedSubscription subscription = new FeedSubscription(this, subscriber, executor);
+        synchronized (this) {
+            if (closed) {
+                subscription.complete();
+            } else {
+                subscriptions.add(subscription);
+                if (!listening) {
+                    listening = true;
+                    service.addListener(listener);
+                }
+            }
+        }
+        subscription.start();
+    }
+
+    /**
+     * Returns the number of active subscribers.
+     *
+     * @return the number of subscribers
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Stops publishing and completes every subscriber once it has received its pending events.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            stopListening();
+        }
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+        subscriptions.clear();
+    }
+
+    /**
+     * Removes a cancelled or completed subscription.
+     */
+    synchronized void remove(FeedSubscription subscription) {
+        if (subscriptions.remove(subscription) && subscriptions.isEmpty()) {
+            stopListening();
+        }
+    }
+
+    private void stopListening() {
+        if (listening) {
+            listening = false;
+            service.removeListener(listener);
+        }
+    }
+
+    private void publish(ScoreboardEvent event) {
+        for (FeedSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.worldcup.scoreboard.feed;
+
+import com.worldcup.scoreboard.model.Match;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Subscription of a single subscriber to a {@link ChangeFeed}.
+ * <p>
+ * Offered events are merged into per-match pending state under the subscription lock,
+ * which takes constant time. Delivery runs on the executor in a drain loop that is never
+ * executed by more than one thread at a time, so the subscriber is signalled serially.
+ */
+final class FeedSubscription implements Flow.Subscription, Runnable {
+    private final ChangeFeed feed;
+    private final Flow.Subscriber<? super ScoreboardEvent> subscriber;
+    private final Executor executor;
+    private final Map<Match, PendingEvents> pending; // Guarded by this
+    private final AtomicLong demand;
+    private final AtomicInteger scheduled;
+    private volatile boolean cancelled;
+    private volatile boolean completing;
+    private volatile IllegalArgumentException invalidRequest;
+    private boolean subscribed; // Only accessed by the drain loop
+
+    FeedSubscription(ChangeFeed feed, Flow.Subscriber<? super ScoreboardEvent> subscriber, Executor executor) {
+        this.feed = feed;
+        this.subscriber = subscriber;
+        this.executor = executor;
+        this.pending = new LinkedHashMap<>();
+        this.demand = new AtomicLong();
+        this.scheduled = new AtomicInteger();
+    }
+
+    /**
+     * Schedules the {@code onSubscribe} signal.
+     */
+    void start() {
+        schedule();
+    }
+
+    /**
+     * Merges an event into the pending events of its match and schedules delivery.
+     */
+    void offer(ScoreboardEvent event) {
+        if (cancelled) {
+            return;
+        }
+        synchronized (this) {
+            PendingEvents events = pending.computeIfAbsent(event.match(), match -> new PendingEvents());
+            if (!events.add(event)) {
+                pending.remove(event.match()); // Started and finished before the start was delivered
+            }
+        }
+        schedule();
+    }
+
+    /**
+     * Completes the subscriber once all pending events have been delivered.
+     */
+    void complete() {
+        completing = true;
+        schedule();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            invalidRequest = new IllegalArgumentException("Requested number of events must be positive");
+        } else {
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        }
+        schedule();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        feed.remove(this);
+        synchronized (this) {
+            pending.clear();
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    /**
+     * Drains pending events to the subscriber as far as its demand allows.
+     */
+    @Override
+    public void run() {
+        int missed = 1;
+        do {
+            if (!subscribed) {
+                subscribed = true;
+                signal(() -> subscriber.onSubscribe(this));
+            }
+            drain();
+            missed = scheduled.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drain() {
+        while (!cancelled) {
+            if (invalidRequest != null) {
+                cancel();
+                subscriber.onError(invalidRequest);
+                return;
+            }
+            if (demand.get() == 0) {
+                if (completing && isDrained()) {
+                    cancel();
+                    subscriber.onComplete(); // Needs no demand
+                }
+                return;
+            }
+            ScoreboardEvent event = poll();
+            if (event == null) {
+                if (completing) {
+                    cancel();
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            demand.decrementAndGet();
+            signal(() -> subscriber.onNext(event));
+        }
+    }
+
+    /**
+     * Calls the subscriber, cancelling the subscription if it throws.
+     */
+    private void signal(Runnable signal) {
+        try {
+            signal.run();
+        } catch (RuntimeException e) {
+            cancel();
+        }
+    }
+
+    private synchronized boolean isDrained() {
+        return pending.isEmpty();
+    }
+
+    private synchronized ScoreboardEvent poll() {
+        Iterator<PendingEvents> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PendingEvents events = iterator.next();
+            ScoreboardEvent event = events.poll();
+            if (events.isEmpty()) {
+                iterator.remove();
+            }
+            if (event != null) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Undelivered events of a single match, coalesced to its latest state. Events are
+     * delivered in lifecycle order: start, score, rank, finish.
+     */
+    private static final class PendingEvents {
+        private ScoreboardEvent.MatchStarted started;
+        private ScoreboardEvent.ScoreChanged score;
+        private ScoreboardEvent.RankChanged rank;
+        private ScoreboardEvent.MatchFinished finished;
+
+        /**
+         * Merges an event into the pending ones.
+         *
+         * @return false if the event finishes a match whose start is still pending, so that
+         *         nothing about it needs to be delivered any more
+         */
+        boolean add(ScoreboardEvent event) {
+            switch (event) {
+                case ScoreboardEvent.MatchStarted e -> started = e;
+                case ScoreboardEvent.ScoreChanged e -> score = e;
+                case ScoreboardEvent.RankChanged e -> rank = coalesce(rank, e);
+                case ScoreboardEvent.MatchFinished e -> {
+                    if (started != null) {
+                        return false;
+                    }
+                    finished = e;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Merges two rank changes into one from the first old position to the latest new one,
+         * dropping it if the match ends up where it was.
+         */
+        private static ScoreboardEvent.RankChanged coalesce(ScoreboardEvent.RankChanged previous,
+                                                            ScoreboardEvent.RankChanged latest) {
+            if (previous == null) {
+                return latest;
+            }
+            if (previous.oldPosition() == latest.newPosition()) {
+                return null;
+            }
+            return new ScoreboardEvent.RankChanged(latest.version(), latest.match(),
+                    previous.oldPosition(), latest.newPosition());
+        }
+
+        ScoreboardEvent poll() {
+            ScoreboardEvent event;
+            if (started != null) {
+                event = started;
+                started = null;
+            } else if (score != null) {
+                event = score;
+                score = null;
+            } else if (rank != null) {
+                event = rank;
+                rank = null;
+            } else {
+                event = finished;
+                finished = null;
+            }
+            return event;
+        }
+
+        boolean isEmpty() {
+            return started == null && score == null && rank == null && finished == null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.worldcup.scoreboard.feed;
+
+import com.worldcup.scoreboard.model.Match;
+
+/**
+ * A change to the scoreboard, as published by a {@link ChangeFeed}.
+ * <p>
+ * Every event carries the board version it was published at, which is the first version
+ * whose summary reflects it. All updates applied in one batch carry the version of the batch.
+ */
+public sealed interface ScoreboardEvent {
+    /**
+     * Returns the board version the event was published at.
+     *
+     * @return the board version
+     */
+    long version();
+
+    /**
+     * Returns the match the event is about.
+     *
+     * @return the changed match
+     */
+    Match match();
+
+    /**
+     * A match has been started.
+     *
+     * @param version the board version
+     * @param match the started match
+     */
+    record MatchStarted(long version, Match match) implements ScoreboardEvent {
+    }
+
+    /**
+     * The score of a match has changed.
+     *
+     * @param version the board version
+     * @param match the rescored match
+     * @param homeScore the new home team score
+     * @param awayScore the new away team score
+     */
+    record ScoreChanged(long version, Match match, int homeScore, int awayScore) implements ScoreboardEvent {
+    }
+
+    /**
+     * A match has moved to a different position in the summary.
+     *
+     * @param version the board version
+     * @param match the moved match
+     * @param oldPosition the one-based summary position before the change
+     * @param newPosition the one-based summary position after the change
+     */
+    record RankChanged(long version, Match match, int oldPosition, int newPosition) implements ScoreboardEvent {
+    }
+
+    /**
+     * A match has been finished and removed from the scoreboard.
+     *
+     * @param version the board version
+     * @param match the finished match
+     */
+    record MatchFinished(long version, Match match) implements ScoreboardEvent {
+    }
+}
@@ -0,0 +1,69 @@
+package com.worldcup.scoreboard.http;
+
+import com.worldcup.scoreboard.model.BoardSnapshot;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.RankedMatch;
+
+/**
+ * Renders the JSON views served by {@link ScoreboardHttpServer}.
+ */
+final class JsonViews {
+    private JsonViews() {
+    }
+
+    /**
+     * Renders up to {@code count} matches from the top of the snapshot, e.g.
+     * {@code {"version":3,"totalMatches":2,"matches":[{"position":1,...}]}}.
+     */
+    static String ranking(BoardSnapshot snapshot, int count) {
+        int size = Math.min(count, snapshot.size());
+        StringBuilder json = new StringBuilder(64 + size * 96);
+        json.append("{\"version\":").append(snapshot.version())
+                .append(",\"totalMatches\":").append(snapshot.size())
+                .append(",\"matches\":[");
+        for (int i = 0; i < size; i++) {
+            RankedMatch line = snapshot.ranking().get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"position\":").append(line.position()).append(',');
+            appendMatch(json, line.match(), line.homeScore(), line.awayScore());
+            json.append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Renders a single match, e.g. {@code {"version":3,"id":1,"homeTeam":"Mexico",...}}.
+     */
+    static String match(long version, Match match, int homeScore, int awayScore) {
+        StringBuilder json = new StringBuilder(128);
+        json.append("{\"version\":").append(version).append(',');
+        appendMatch(json, match, homeScore, awayScore);
+        json.append(",\"startTime\":\"").append(match.getStartTime()).append("\"}");
+        return json.toString();
+    }
+
+    private static void appendMatch(StringBuilder json, Match match, int homeScore, int awayScore) {
+        json.append("\"id\":").append(match.getId()).append(",\"homeTeam\":");
+        appendString(json, match.getHomeTeam().name());
+        json.append(",\"homeScore\":").append(homeScore).append(",\"awayTeam\":");
+        appendString(json, match.getAwayTeam().name());
+        json.append(",\"awayScore\":").append(awayScore);
+    }
+
+    static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
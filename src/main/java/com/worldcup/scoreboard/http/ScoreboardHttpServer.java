@@ -0,0 +1,400 @@
+package com.worldcup.scoreboard.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.worldcup.scoreboard.model.BoardSnapshot;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.Summary;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded HTTP endpoint serving the views of a {@link ScoreboardService}, built on the
+ * JDK's {@code com.sun.net.httpserver} with one virtual thread per request.
+ * <p>
+ * Served views, each as text or, with a {@code .json} suffix, as JSON:
+ * <ul>
+ *     <li>{@code /summary}, {@code /summary.json} - the full summary</li>
+ *     <li>{@code /top?count=N}, {@code /top.json?count=N} - the top matches of the summary
+ *         (default {@value #DEFAULT_TOP_COUNT}, at most {@value #MAX_TOP_COUNT})</li>
+ *     <li>{@code /matches/ID}, {@code /matches/ID.json} - a single in-progress match by id</li>
+ * </ul>
+ * <p>
+ * Every response carries an ETag naming its view, including the JSON suffix and the top
+ * count, the board version and the content encoding, so no two representations share a
+ * tag. A request whose {@code If-None-Match} names the current version of the same view is
+ * answered with {@code 304 Not Modified} before anything is rendered. The summary and top views are rendered once per board
+ * version and cached, and so is their gzip-compressed body, which is sent to clients
+ * accepting gzip; polling an unchanged board therefore neither renders nor compresses.
+ * Only {@code GET} and {@code HEAD} are supported.
+ * <p>
+ * Example usage:
+ * <pre>
+ * ScoreboardHttpServer server = ScoreboardHttpServer.start(service, new InetSocketAddress(8080));
+ *
+ * server.close();
+ * </pre>
+ */
+public final class ScoreboardHttpServer implements AutoCloseable {
+    /**
+     * The number of matches of the top view if the request gives no count.
+     */
+    public static final int DEFAULT_TOP_COUNT = 10;
+
+    /**
+     * The largest count accepted by the top view.
+     */
+    public static final int MAX_TOP_COUNT = 1000;
+
+    /**
+     * Bodies shorter than this are sent uncompressed, since gzip would hardly shrink them.
+     */
+    static final int MIN_GZIP_SIZE = 256;
+
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final String JSON = "application/json";
+    private static final String JSON_SUFFIX = ".json";
+    private static final String MATCHES_PREFIX = "/matches/";
+
+    private final ScoreboardService service;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Rendered> cache;
+
+    private ScoreboardHttpServer(ScoreboardService service, HttpServer server) {
+        this.service = service;
+        this.server = server;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.cache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Starts serving the views of the service on the given address.
+     *
+     * @param service the service to serve (non-null)
+     * @param address the address to bind, port 0 for any free port (non-null)
+     * @return the running server
+     * @throws IllegalArgumentException if service or address is null
+     * @throws IOException if the address cannot be bound
+     */
+    public static ScoreboardHttpServer start(ScoreboardService service, InetSocketAddress address) throws IOException {
+        if (service == null || address == null) {
+            throw new IllegalArgumentException("Service and address cannot be null");
+        }
+
+        ScoreboardHttpServer endpoint = new ScoreboardHttpServer(service, HttpServer.create(address, 0));
+        endpoint.server.createContext("/", endpoint::handle);
+        endpoint.server.setExecutor(endpoint.executor);
+        endpoint.server.start();
+        return endpoint;
+    }
+
+    /**
+     * Returns the address the server is bound to, with the actual port if port 0 was requested.
+     *
+     * @return the bound address
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops the server, closing open connections, and waits for running requests to complete.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                sendError(exchange, 405, "Method not allowed");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            boolean json = path.endsWith(JSON_SUFFIX);
+            String view = json ? path.substring(0, path.length() - JSON_SUFFIX.length()) : path;
+            String suffix = json ? JSON_SUFFIX : "";
+            long currentVersion = service.getVersion();
+            if (view.equals("/summary")) {
+                send(exchange, "summary" + suffix, currentVersion, () -> json ? summaryJson() : summaryText());
+            } else if (view.equals("/top")) {
+                int count = topCount(exchange.getRequestURI().getRawQuery());
+                if (count < 0) {
+                    sendError(exchange, 400, "Count must be between 0 and " + MAX_TOP_COUNT);
+                    return;
+                }
+                send(exchange, "top-" + count + suffix, currentVersion, () -> json ? topJson(count) : topText(count));
+            } else if (view.startsWith(MATCHES_PREFIX)) {
+                Match match = match(view.substring(MATCHES_PREFIX.length()));
+                if (match == null) {
+                    sendError(exchange, 404, "Match not found");
+                    return;
+                }
+                send(exchange, "matches-" + match.getId() + suffix, currentVersion, () -> matchView(match, json));
+            } else {
+                sendError(exchange, 404, "Not found");
+            }
+        }
+    }
+
+    private Rendered summaryText() {
+        return cached("summary", () -> {
+            Summary summary = service.getVersionedSummary();
+            return new Rendered(summary.version(), TEXT, summary.text());
+        });
+    }
+
+    private Rendered summaryJson() {
+        return cached("summary.json", () -> {
+            BoardSnapshot snapshot = service.getSnapshot();
+            return new Rendered(snapshot.version(), JSON, JsonViews.ranking(snapshot, snapshot.size()));
+        });
+    }
+
+    private Rendered topText(int count) {
+        return cached("top-" + count, () -> {
+            BoardSnapshot snapshot = service.getSnapshot();
+            StringBuilder text = new StringBuilder("Top matches:\n");
+            for (RankedMatch line : snapshot.ranking().subList(0, Math.min(count, snapshot.size()))) {
+                text.append(line).append('\n');
+            }
+            return new Rendered(snapshot.version(), TEXT, text.toString());
+        });
+    }
+
+    private Rendered topJson(int count) {
+        return cached("top-" + count + ".json", () -> {
+            BoardSnapshot snapshot = service.getSnapshot();
+            return new Rendered(snapshot.version(), JSON, JsonViews.ranking(snapshot, count));
+        });
+    }
+
+    /**
+     * Renders a match view. Match views are small and numerous, so they are not cached.
+     */
+    private Rendered matchView(Match match, boolean json) {
+        long version = service.getVersion();
+        int homeScore;
+        int awayScore;
+        synchronized (match) {
+            homeScore = match.getHomeScore();
+            awayScore = match.getAwayScore();
+        }
+        return json
+                ? new Rendered(version, JSON, JsonViews.match(version, match, homeScore, awayScore))
+                : new Rendered(version, TEXT, match.getHomeTeam() + " " + homeScore + " - "
+                + match.getAwayTeam() + " " + awayScore + "\n");
+    }
+
+    /**
+     * Returns the cached rendering of a view if it is for the current board version, or
+     * renders and caches a new one. Concurrent renderings of the same version are harmless;
+     * the cache only ever moves forward to newer versions.
+     */
+    private Rendered cached(String key, Supplier<Rendered> renderer) {
+        Rendered cached = cache.get(key);
+        if (cached != null && cached.version == service.getVersion()) {
+            return cached;
+        }
+        Rendered rendered = renderer.get();
+        cache.merge(key, rendered, (old, fresh) -> fresh.version >= old.version ? fresh : old);
+        return rendered;
+    }
+
+    private Match match(String id) {
+        try {
+            return service.getMatch(Long.parseLong(id));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the count of the top view.
+     *
+     * @return the count, or -1 if it is not a number in range
+     */
+    private static int topCount(String query) {
+        if (query == null) {
+            return DEFAULT_TOP_COUNT;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("count=")) {
+                try {
+                    int count = Integer.parseInt(parameter.substring("count=".length()));
+                    return count <= MAX_TOP_COUNT ? Math.max(count, -1) : -1;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return DEFAULT_TOP_COUNT;
+    }
+
+    /**
+     * Answers with {@code 304 Not Modified} if the client already has the current version of
+     * the view, or renders the view and sends it, compressed if the client accepts gzip.
+     */
+    private static void send(HttpExchange exchange, String tag, long currentVersion, Supplier<Rendered> view)
+            throws IOException {
+        Headers request = exchange.getRequestHeaders();
+        Headers response = exchange.getResponseHeaders();
+        response.set("Cache-Control", "no-cache");
+        response.set("Vary", "Accept-Encoding");
+        boolean gzip = acceptsGzip(request.getFirst("Accept-Encoding"));
+        if (matches(request.getFirst("If-None-Match"), tag, currentVersion)) {
+            response.set("ETag", etag(tag, currentVersion, gzip));
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        Rendered rendered = view.get();
+        byte[] body = gzip ? rendered.gzipped() : null;
+        if (body != null) {
+            response.set("Content-Encoding", "gzip");
+        } else {
+            body = rendered.body;
+            gzip = false;
+        }
+        response.set("Content-Type", rendered.contentType);
+        response.set("ETag", etag(tag, rendered.version, gzip));
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = (message + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", TEXT);
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Returns the ETag of a view at a version. Compressed bodies get their own tag, as their
+     * bytes differ.
+     */
+    static String etag(String view, long version, boolean gzip) {
+        return "\"" + view + "-" + version + (gzip ? "-gzip\"" : "\"");
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header names the version of the view, in
+     * either encoding.
+     */
+    static boolean matches(String ifNoneMatch, String view, long version) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2); // Weak comparison
+            }
+            if (tag.equals("*") || tag.equals(etag(view, version, false)) || tag.equals(etag(view, version, true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts gzip, i.e. lists it, or a
+     * wildcard, without a zero quality.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return true; // Malformed quality, not relied upon
+        }
+    }
+
+    /**
+     * A view rendered for one board version, with its gzip-compressed body made on first demand.
+     */
+    private static final class Rendered {
+        private final long version;
+        private final String contentType;
+        private final byte[] body;
+        private volatile byte[] gzipped;
+
+        private Rendered(long version, String contentType, String body) {
+            this.version = version;
+            this.contentType = contentType;
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns the compressed body, or null if the body is too short to be worth compressing.
+         */
+        byte[] gzipped() {
+            if (body.length < MIN_GZIP_SIZE) {
+                return null;
+            }
+            byte[] compressed = gzipped;
+            if (compressed == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                    gzip.write(body);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // Not thrown by in-memory streams
+                }
+                compressed = out.toByteArray();
+                gzipped = compressed; // Racing threads compress equal bytes
+            }
+            return compressed;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.worldcup.scoreboard.ingest;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Parser for score event logs, e.g. the season replays delivered by providers, applying
+ * their events to a {@link Scoreboard}.
+ * <p>
+ * Logs use the line format of {@link FeedDecoder}. The file is memory-mapped region by
+ * region and tokenized directly on the mapped bytes: field boundaries are found by scanning
+ * for separators, numbers are accumulated from their digits, and team names are resolved
+ * through a byte-keyed {@link TeamTable}, so no {@code String} or other object is created
+ * per event beyond what the scoreboard itself needs. A line crossing the end of a region is
+ * parsed from the next region, which is mapped starting at that line.
+ * <p>
+ * Malformed lines and events the scoreboard rejects are counted and skipped. Match numbers
+ * are local to each parsed log. A parser is not thread-safe. Example usage:
+ * <pre>
+ * EventLogParser parser = new EventLogParser(scoreboard);
+ *
+ * EventLogStats stats = parser.parse(Path.of("season.log"));
+ * </pre>
+ */
+public class EventLogParser {
+    /**
+     * The default size of the regions the log is mapped in, which also bounds the line length.
+     */
+    public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+    private static final byte SEPARATOR = ';';
+    private static final byte[] START = {'S', 'T', 'A', 'R', 'T'};
+    private static final byte[] SCORE = {'S', 'C', 'O', 'R', 'E'};
+    private static final byte[] FINISH = {'F', 'I', 'N', 'I', 'S', 'H'};
+    private static final int MAX_FIELDS = 4;
+
+    private final Scoreboard scoreboard;
+    private final int regionSize;
+    private final TeamTable teams;
+    private final int[] fieldStarts;
+    private final int[] fieldEnds;
+    private Match[] matches;
+    private int startedMatches;
+    private long applied;
+    private long rejected;
+
+    /**
+     * Constructs a parser applying events to the given scoreboard.
+     *
+     * @param scoreboard the scoreboard to apply events to (non-null)
+     * @throws IllegalArgumentException if scoreboard is null
+     */
+    public EventLogParser(Scoreboard scoreboard) {
+        this(scoreboard, DEFAULT_REGION_SIZE);
+    }
+
+    /**
+     * Constructs a parser mapping logs in regions of the given size.
+     *
+     * @param scoreboard the scoreboard to apply events to (non-null)
+     * @param regionSize the size of a mapped region in bytes (positive)
+     * @throws IllegalArgumentException if scoreboard is null or regionSize is not positive
+     */
+    EventLogParser(Scoreboard scoreboard, int regionSize) {
+        if (scoreboard == null) {
+            throw new IllegalArgumentException("Scoreboard cannot be null");
+        }
+        if (regionSize <= 0) {
+            throw new IllegalArgumentException("Region size must be positive");
+        }
+        this.scoreboard = scoreboard;
+        this.regionSize = regionSize;
+        this.teams = new TeamTable();
+        this.fieldStarts = new int[MAX_FIELDS];
+        this.fieldEnds = new int[MAX_FIELDS];
+        this.matches = new Match[64];
+    }
+
+    /**
+     * Parses a log and applies its events to the scoreboard, in log order.
+     *
+     * @param file the log file (non-null)
+     * @return the number of applied and rejected events
+     * @throws IllegalArgumentException if file is null or a line does not fit into a region
+     * @throws IOException if the file cannot be read
+     */
+    public EventLogStats parse(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        Arrays.fill(matches, 0, startedMatches + 1, null);
+        startedMatches = 0;
+        applied = 0;
+        rejected = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                int length = (int) Math.min(regionSize, size - position);
+                boolean last = position + length == size;
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = parseRegion(region, length, last);
+                if (consumed == 0) {
+                    throw new IllegalArgumentException("Line at byte " + position + " is longer than "
+                            + regionSize + " bytes");
+                }
+                position += consumed;
+            }
+        }
+        return new EventLogStats(applied, rejected);
+    }
+
+    /**
+     * Parses the complete lines of a region.
+     *
+     * @return the number of bytes up to the end of the last complete line
+     */
+    private int parseRegion(ByteBuffer region, int length, boolean last) {
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (region.get(i) == '\n') {
+                parseLine(region, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        if (last && lineStart < length) {
+            parseLine(region, lineStart, length); // Final line without terminator
+            return length;
+        }
+        return lineStart;
+    }
+
+    private void parseLine(ByteBuffer line, int from, int to) {
+        if (to > from && line.get(to - 1) == '\r') {
+            to--;
+        }
+        if (from == to || line.get(from) == '#') {
+            return; // Blank or comment
+        }
+
+        int fields = 0;
+        fieldStarts[0] = from;
+        for (int i = from; i < to; i++) {
+            if (line.get(i) == SEPARATOR) {
+                if (fields == MAX_FIELDS - 1) {
+                    rejected++;
+                    return;
+                }
+                fieldEnds[fields++] = i;
+                fieldStarts[fields] = i + 1;
+            }
+        }
+        fieldEnds[fields++] = to;
+
+        try {
+            if (fields == 3 && fieldEquals(line, 0, START)) {
+                start(teams.resolve(line, fieldStarts[1], fieldEnds[1]),
+                        teams.resolve(line, fieldStarts[2], fieldEnds[2]));
+            } else if (fields == 4 && fieldEquals(line, 0, SCORE)) {
+                Match match = match(line);
+                int homeScore = parseInt(line, 2);
+                int awayScore = parseInt(line, 3);
+                if (match == null || homeScore < 0 || awayScore < 0) {
+                    rejected++;
+                    return;
+                }
+                scoreboard.updateScore(match, homeScore, awayScore);
+            } else if (fields == 2 && fieldEquals(line, 0, FINISH)) {
+                Match match = match(line);
+                if (match == null) {
+                    rejected++;
+                    return;
+                }
+                scoreboard.finishMatch(match);
+                matches[(int) parseLong(line, 1)] = null;
+            } else {
+                rejected++;
+                return;
+            }
+            applied++;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            rejected++; // Invalid team name, or rejected by the scoreboard
+        }
+    }
+
+    private void start(Team homeTeam, Team awayTeam) {
+        int number = startedMatches + 1;
+        if (number == matches.length) {
+            matches = Arrays.copyOf(matches, matches.length * 2);
+        }
+        startedMatches = number; // Numbered even if rejected, like FeedDecoder
+        matches[number] = scoreboard.startMatch(homeTeam, awayTeam);
+    }
+
+    /**
+     * Returns the in-progress match numbered by the second field, or null if there is none.
+     */
+    private Match match(ByteBuffer line) {
+        long number = parseLong(line, 1);
+        return number >= 1 && number <= startedMatches ? matches[(int) number] : null;
+    }
+
+    private boolean fieldEquals(ByteBuffer line, int field, byte[] expected) {
+        int from = fieldStarts[field];
+        if (fieldEnds[field] - from != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (line.get(from + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a non-negative decimal field.
+     *
+     * @return the value, or -1 if the field is empty, not a number or exceeds an int
+     */
+    private int parseInt(ByteBuffer line, int field) {
+        long value = parseLong(line, field);
+        return value > Integer.MAX_VALUE ? -1 : (int) value;
+    }
+
+    private long parseLong(ByteBuffer line, int field) {
+        int from = fieldStarts[field];
+        int to = fieldEnds[field];
+        if (from == to || to - from > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = line.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.worldcup.scoreboard.ingest;
+
+/**
+ * Outcome of parsing a score event log. This is an immutable record class, meaning its
+ * state cannot be modified after creation.
+ *
+ * @param applied the number of events applied to the scoreboard
+ * @param rejected the number of malformed events and of events the scoreboard rejected
+ */
+public record EventLogStats(long applied, long rejected) {
+}
@@ -0,0 +1,47 @@
+package com.worldcup.scoreboard.ingest;
+
+import com.worldcup.scoreboard.model.Team;
+
+/**
+ * A decoded score feed message.
+ * <p>
+ * Feeds refer to matches by a feed-local match number: the n-th {@code START} message of a
+ * feed starts match number n. The ingestion pipeline maps these numbers to scoreboard
+ * match ids, so feeds never need to know the ids assigned by the scoreboard.
+ */
+public sealed interface FeedCommand {
+    /**
+     * Returns the feed-local number of the match the command is about.
+     *
+     * @return the feed match number, starting at 1
+     */
+    long feedMatchNumber();
+
+    /**
+     * Starts a new match.
+     *
+     * @param feedMatchNumber the feed-local number of the new match
+     * @param homeTeam the home team
+     * @param awayTeam the away team
+     */
+    record Start(long feedMatchNumber, Team homeTeam, Team awayTeam) implements FeedCommand {
+    }
+
+    /**
+     * Updates the score of a match.
+     *
+     * @param feedMatchNumber the feed-local number of the match
+     * @param homeScore the new home team score
+     * @param awayScore the new away team score
+     */
+    record Update(long feedMatchNumber, int homeScore, int awayScore) implements FeedCommand {
+    }
+
+    /**
+     * Finishes a match.
+     *
+     * @param feedMatchNumber the feed-local number of the match
+     */
+    record Finish(long feedMatchNumber) implements FeedCommand {
+    }
+}
@@ -0,0 +1,83 @@
+package com.worldcup.scoreboard.ingest;
+
+import com.worldcup.scoreboard.model.Team;
+
+/**
+ * Decodes the lines of a text score feed into {@link FeedCommand}s.
+ * <p>
+ * Every line holds one message with fields separated by semicolons:
+ * <pre>
+ * START;Mexico;Canada
+ * SCORE;1;0;5
+ * FINISH;1
+ * </pre>
+ * {@code SCORE} and {@code FINISH} refer to a match by the feed-local number assigned by its
+ * {@code START} line, counting from 1. Blank lines and lines starting with {@code #} are
+ * ignored. A decoder keeps the match count of one feed and is not thread-safe.
+ */
+public class FeedDecoder {
+    private long startedMatches;
+
+    /**
+     * Decodes a single line.
+     *
+     * @param line the line to decode, without its line terminator (non-null)
+     * @return the decoded command, or null for a blank or comment line
+     * @throws IllegalArgumentException if the line is null or malformed
+     */
+    public FeedCommand decode(String line) {
+        if (line == null) {
+            throw new IllegalArgumentException("Line cannot be null");
+        }
+        if (line.isBlank() || line.charAt(0) == '#') {
+            return null;
+        }
+
+        String[] fields = line.split(";", -1);
+        switch (fields[0]) {
+            case "START" -> {
+                expectFields(fields, 3, line);
+                Team homeTeam = new Team(fields[1]);
+                Team awayTeam = new Team(fields[2]);
+                return new FeedCommand.Start(++startedMatches, homeTeam, awayTeam);
+            }
+            case "SCORE" -> {
+                expectFields(fields, 4, line);
+                return new FeedCommand.Update(parseMatchNumber(fields[1], line),
+                        parseInt(fields[2], line), parseInt(fields[3], line));
+            }
+            case "FINISH" -> {
+                expectFields(fields, 2, line);
+                return new FeedCommand.Finish(parseMatchNumber(fields[1], line));
+            }
+            default -> throw new IllegalArgumentException("Unknown feed message: " + line);
+        }
+    }
+
+    private static void expectFields(String[] fields, int count, String line) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " fields in feed message: " + line);
+        }
+    }
+
+    private long parseMatchNumber(String field, String line) {
+        long number;
+        try {
+            number = Long.parseLong(field.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid match number in feed message: " + line, e);
+        }
+        if (number < 1 || number > startedMatches) {
+            throw new IllegalArgumentException("Unknown match number in feed message: " + line);
+        }
+        return number;
+    }
+
+    private static int parseInt(String field, String line) {
+        try {
+            return Integer.parseInt(field.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid score in feed message: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.worldcup.scoreboard.ingest;
+
+/**
+ * Progress and lag of one feed of an {@link IngestionPipeline}. Lag is the time between a
+ * message being decoded by the feed's reader and the scoreboard having applied it, so it
+ * covers the time spent waiting in the queue. This is an immutable record class, meaning
+ * its state cannot be modified after creation.
+ *
+ * @param feed the feed name
+ * @param received the number of decoded commands
+ * @param applied the number of commands applied to the scoreboard
+ * @param rejected the number of malformed messages and of commands the scoreboard rejected
+ * @param backlog the number of decoded commands not yet processed by the writer
+ * @param lastLagNanos the lag of the most recently processed command
+ * @param maxLagNanos the largest lag of any processed command
+ * @param completed true if the feed has ended and all its commands have been processed
+ */
+public record FeedStats(String feed, long received, long applied, long rejected, long backlog,
+                        long lastLagNanos, long maxLagNanos, boolean completed) {
+}
@@ -0,0 +1,33 @@
+package com.worldcup.scoreboard.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A {@link ScoreFeed} reading messages from a local file. Pointed at a named pipe, it
+ * blocks on reads just like a network connection, which makes it a stand-in for a real
+ * provider in tests and local runs.
+ *
+ * @param name the name of the feed
+ * @param path the file or named pipe to read
+ */
+public record FileScoreFeed(String name, Path path) implements ScoreFeed {
+
+    /**
+     * Creates a file feed.
+     *
+     * @throws IllegalArgumentException if name or path is null
+     */
+    public FileScoreFeed {
+        if (name == null || path == null) {
+            throw new IllegalArgumentException("Name and path cannot be null");
+        }
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return Files.newInputStream(path);
+    }
+}
@@ -0,0 +1,327 @@
+package com.worldcup.scoreboard.ingest;
+
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ingests score messages from external feeds into a {@link ScoreboardService}.
+ * <p>
+ * Every feed connection is read by its own virtual thread, which decodes the messages into
+ * {@link FeedCommand}s and puts them on a bounded queue shared by all feeds. A full queue
+ * blocks the readers, so a scoreboard that cannot keep up slows the feeds down instead of
+ * buffering without limit; a parked virtual thread costs next to nothing, so thousands of
+ * feeds can wait this way. A single writer thread takes the commands off the queue and
+ * applies them to the service in queue order, which keeps the commands of each feed in
+ * feed order. The writer is a platform thread, since the service synchronizes on matches
+ * and would pin a virtual thread anyway.
+ * <p>
+ * Commands the service rejects, e.g. a score update for an unknown match, and malformed
+ * messages are counted per feed and skipped. Example usage:
+ * <pre>
+ * IngestionPipeline pipeline = new IngestionPipeline(service);
+ *
+ * pipeline.addFeed(new FileScoreFeed("provider-a", Path.of("provider-a.feed")));
+ *
+ * FeedStats stats = pipeline.getFeedStats("provider-a");
+ * </pre>
+ */
+public class IngestionPipeline implements AutoCloseable {
+    /**
+     * The default capacity of the command queue.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+
+    private final ScoreboardService service;
+    private final BlockingQueue<Envelope> queue;
+    private final Map<String, Feed> feeds;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a pipeline with the default queue capacity.
+     *
+     * @param service the service to apply commands to (non-null)
+     * @throws IllegalArgumentException if service is null
+     */
+    public IngestionPipeline(ScoreboardService service) {
+        this(service, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs a pipeline and starts its writer thread.
+     *
+     * @param service the service to apply commands to (non-null)
+     * @param queueCapacity the number of decoded commands buffered before readers block (positive)
+     * @throws IllegalArgumentException if service is null or queueCapacity is not positive
+     */
+    public IngestionPipeline(ScoreboardService service, int queueCapacity) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.service = service;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.feeds = new HashMap<>();
+        this.writer = Thread.ofPlatform().name("scoreboard-ingest-writer").daemon().start(this::applyLoop);
+    }
+
+    /**
+     * Connects a feed and starts ingesting its messages on a new virtual thread.
+     *
+     * @param source the feed to read (non-null)
+     * @throws IllegalArgumentException if source is null or a feed with the same name was added before
+     * @throws IllegalStateException if the pipeline is closed
+     */
+    public void addFeed(ScoreFeed source) {
+        if (source == null || source.name() == null) {
+            throw new IllegalArgumentException("Feed and its name cannot be null");
+        }
+        synchronized (feeds) {
+            if (closed) {
+                throw new IllegalStateException("Pipeline is closed");
+            }
+            if (feeds.containsKey(source.name())) {
+                throw new IllegalArgumentException("Feed " + source.name() + " has already been added");
+            }
+            Feed feed = new Feed(source);
+            feeds.put(source.name(), feed);
+            feed.reader = Thread.ofVirtual().name("scoreboard-feed-" + source.name()).start(() -> read(feed));
+        }
+    }
+
+    /**
+     * Waits until every feed added so far has ended and all of its commands have been applied.
+     *
+     * @param timeout the maximum time to wait (non-null)
+     * @return true if all feeds completed, false if the timeout elapsed first
+     * @throws IllegalArgumentException if timeout is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        if (timeout == null) {
+            throw new IllegalArgumentException("Timeout cannot be null");
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (Feed feed : feedList()) {
+            if (!feed.completed.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the progress and lag of a feed.
+     *
+     * @param name the feed name
+     * @return the feed statistics, or null if there is no feed with this name
+     */
+    public FeedStats getFeedStats(String name) {
+        Feed feed;
+        synchronized (feeds) {
+            feed = feeds.get(name);
+        }
+        return feed == null ? null : feed.stats();
+    }
+
+    /**
+     * Returns the progress and lag of all feeds, sorted by feed name.
+     *
+     * @return the feed statistics
+     */
+    public List<FeedStats> getFeedStats() {
+        Map<String, FeedStats> stats = new TreeMap<>();
+        for (Feed feed : feedList()) {
+            stats.put(feed.source.name(), feed.stats());
+        }
+        return new ArrayList<>(stats.values());
+    }
+
+    /**
+     * Disconnects all feeds and stops the writer. Commands still in the queue are dropped.
+     */
+    @Override
+    public void close() {
+        synchronized (feeds) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        for (Feed feed : feedList()) {
+            feed.disconnect();
+        }
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Feed> feedList() {
+        synchronized (feeds) {
+            return new ArrayList<>(feeds.values());
+        }
+    }
+
+    /**
+     * Reads and decodes the messages of a feed until it ends, on the feed's virtual thread.
+     */
+    private void read(Feed feed) {
+        FeedDecoder decoder = new FeedDecoder();
+        try (InputStream stream = feed.source.open()) {
+            feed.stream = stream;
+            if (closed) {
+                feed.completed.countDown(); // Closed while connecting
+                return;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                FeedCommand command;
+                try {
+                    command = decoder.decode(line);
+                } catch (IllegalArgumentException e) {
+                    feed.malformed.incrementAndGet();
+                    continue;
+                }
+                if (command != null) {
+                    feed.received.incrementAndGet();
+                    queue.put(new Envelope(feed, command, System.nanoTime()));
+                }
+            }
+            queue.put(new Envelope(feed, null, System.nanoTime())); // Completes the feed once applied
+        } catch (IOException | InterruptedException e) {
+            feed.completed.countDown(); // Connection lost or closed by close()
+        } catch (RuntimeException e) {
+            feed.completed.countDown(); // The provider failed, which ends the feed like a lost connection
+        }
+    }
+
+    /**
+     * Applies queued commands in queue order until the pipeline is closed.
+     */
+    private void applyLoop() {
+        try {
+            while (true) {
+                Envelope envelope = queue.take();
+                Feed feed = envelope.feed();
+                if (envelope.command() == null) {
+                    feed.completed.countDown();
+                    continue;
+                }
+                try {
+                    apply(feed, envelope.command());
+                    feed.applied.incrementAndGet();
+                } catch (RuntimeException e) {
+                    // Rejected by the board, or a listener failed; the writer must keep going
+                    feed.failed.incrementAndGet();
+                }
+                long lag = System.nanoTime() - envelope.receivedNanos();
+                feed.lastLagNanos = lag;
+                if (lag > feed.maxLagNanos) {
+                    feed.maxLagNanos = lag;
+                }
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private void apply(Feed feed, FeedCommand command) {
+        switch (command) {
+            case FeedCommand.Start start -> feed.matchIds.put(start.feedMatchNumber(),
+                    service.startMatch(start.homeTeam(), start.awayTeam()).getId());
+            case FeedCommand.Update update ->
+                    service.updateScore(feed.matchId(update), update.homeScore(), update.awayScore());
+            case FeedCommand.Finish finish -> {
+                service.finishMatch(feed.matchId(finish));
+                feed.matchIds.remove(finish.feedMatchNumber());
+            }
+        }
+    }
+
+    /**
+     * A decoded command with the feed it came from and the time it was decoded.
+     */
+    private record Envelope(Feed feed, FeedCommand command, long receivedNanos) {
+    }
+
+    /**
+     * A connected feed with its counters. Match ids and lags are written by the writer only.
+     */
+    private static final class Feed {
+        private final ScoreFeed source;
+        private final Map<Long, Long> matchIds;
+        private final AtomicLong received;
+        private final AtomicLong malformed;
+        private final AtomicLong applied;
+        private final AtomicLong failed;
+        private final CountDownLatch completed;
+        private volatile long lastLagNanos;
+        private volatile long maxLagNanos;
+        private volatile Thread reader;
+        private volatile InputStream stream;
+
+        private Feed(ScoreFeed source) {
+            this.source = source;
+            this.matchIds = new HashMap<>();
+            this.received = new AtomicLong();
+            this.malformed = new AtomicLong();
+            this.applied = new AtomicLong();
+            this.failed = new AtomicLong();
+            this.completed = new CountDownLatch(1);
+        }
+
+        long matchId(FeedCommand command) {
+            Long matchId = matchIds.get(command.feedMatchNumber());
+            if (matchId == null) {
+                throw new IllegalStateException("Feed match " + command.feedMatchNumber() + " is not on the scoreboard");
+            }
+            return matchId;
+        }
+
+        /**
+         * Unblocks the reader, whether it waits on the provider or on the queue.
+         */
+        void disconnect() {
+            InputStream current = stream;
+            if (current != null) {
+                try {
+                    current.close();
+                } catch (IOException e) {
+                    // Already broken, the reader stops either way
+                }
+            }
+            Thread currentReader = reader;
+            if (currentReader != null) {
+                currentReader.interrupt();
+            }
+        }
+
+        FeedStats stats() {
+            long processed = applied.get() + failed.get();
+            return new FeedStats(source.name(), received.get(), applied.get(), malformed.get() + failed.get(),
+                    received.get() - processed, lastLagNanos, maxLagNanos, completed.getCount() == 0);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.worldcup.scoreboard.ingest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A connection to an external provider of score messages, read as a blocking stream of
+ * UTF-8 lines in the {@link FeedDecoder} format. The stream ends when the provider closes
+ * the connection.
+ */
+public interface ScoreFeed {
+    /**
+     * Returns the name of the feed, unique within an ingestion pipeline.
+     *
+     * @return the feed name
+     */
+    String name();
+
+    /**
+     * Opens the connection to the provider. Called once, from the reader thread of the feed.
+     *
+     * @return the stream of messages
+     * @throws IOException if the connection cannot be opened
+     */
+    InputStream open() throws IOException;
+}
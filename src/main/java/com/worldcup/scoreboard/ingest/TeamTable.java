@@ -0,0 +1,113 @@
+package com.worldcup.scoreboard.ingest;
+
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.model.TeamRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Open-addressing hash table resolving UTF-8 encoded team names to teams, looked up
+ * directly on a range of a byte buffer.
+ * <p>
+ * A raw spelling seen before is resolved by hashing and comparing its bytes in place,
+ * without creating a {@code String} or copying the bytes. Only the first occurrence of a
+ * spelling is decoded and canonicalized through a {@link TeamRegistry}. The table is not
+ * thread-safe.
+ */
+final class TeamTable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TeamRegistry registry;
+    private byte[][] keys;
+    private int[] hashes;
+    private Team[] teams;
+    private int size;
+
+    TeamTable() {
+        this.registry = new TeamRegistry();
+        this.keys = new byte[INITIAL_CAPACITY][];
+        this.hashes = new int[INITIAL_CAPACITY];
+        this.teams = new Team[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the team for the name encoded in {@code source} between {@code from} and {@code to}.
+     *
+     * @throws IllegalArgumentException if the name is not a valid team name
+     */
+    Team resolve(ByteBuffer source, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + source.get(i);
+        }
+
+        int mask = keys.length - 1;
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            byte[] key = keys[slot];
+            if (key == null) {
+                return insert(slot, hash, source, from, to);
+            }
+            if (hashes[slot] == hash && matches(key, source, from, to)) {
+                return teams[slot];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct raw spellings in the table.
+     */
+    int size() {
+        return size;
+    }
+
+    private Team insert(int slot, int hash, ByteBuffer source, int from, int to) {
+        byte[] key = new byte[to - from];
+        source.get(from, key);
+        Team team = registry.get(new String(key, StandardCharsets.UTF_8)); // Throws for invalid names
+        keys[slot] = key;
+        hashes[slot] = hash;
+        teams[slot] = team;
+        if (++size > keys.length / 2) {
+            grow();
+        }
+        return team;
+    }
+
+    private void grow() {
+        byte[][] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Team[] oldTeams = teams;
+        keys = new byte[oldKeys.length * 2][];
+        hashes = new int[keys.length];
+        teams = new Team[keys.length];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = mix(oldHashes[i]) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                hashes[slot] = oldHashes[i];
+                teams[slot] = oldTeams[i];
+            }
+        }
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer source, int from, int to) {
+        if (key.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != source.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
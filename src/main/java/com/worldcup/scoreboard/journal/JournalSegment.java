@@ -0,0 +1,187 @@
+package com.worldcup.scoreboard.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * A single memory-mapped, fixed-size file of the journal.
+ * <p>
+ * Records are stored back to back as {@code [int length][int crc32c][body]}. The unused
+ * tail of a segment is zero-filled, so a zero length marks the end of the written data.
+ * A record with an invalid length or checksum is treated as a torn write.
+ */
+final class JournalSegment implements AutoCloseable {
+    static final String FILE_PREFIX = "journal-";
+    static final String FILE_SUFFIX = ".log";
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private final Path path;
+    private final long index;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc;
+
+    private JournalSegment(Path path, long index, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.index = index;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.crc = new CRC32C();
+    }
+
+    /**
+     * Creates a new, empty segment file of the given size.
+     *
+     * @param directory the journal directory
+     * @param index the index of the segment, used in its file name
+     * @param size the size of the segment in bytes
+     * @return the mapped segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static JournalSegment create(Path directory, long index, int size) throws IOException {
+        Path path = directory.resolve(fileName(index));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(path, index, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    /**
+     * Opens an existing segment file, positioned at its start.
+     *
+     * @param path the segment file
+     * @param index the index of the segment
+     * @return the mapped segment
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    static JournalSegment open(Path path, long index) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(path, index, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+    }
+
+    /**
+     * Returns the file name of the segment with the given index.
+     *
+     * @param index the segment index
+     * @return the file name
+     */
+    static String fileName(long index) {
+        return String.format("%s%020d%s", FILE_PREFIX, index, FILE_SUFFIX);
+    }
+
+    /**
+     * Parses the segment index from a segment file name.
+     *
+     * @param fileName the file name
+     * @return the segment index, or -1 if the name is not a segment file name
+     */
+    static long parseIndex(String fileName) {
+        if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long index() {
+        return index;
+    }
+
+    /**
+     * Returns the total capacity of the segment in bytes.
+     *
+     * @return the segment size
+     */
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Reads all valid records from the start of the segment, leaving the segment positioned
+     * right after the last valid one.
+     *
+     * @param consumer receives the body of every valid record, positioned at its start
+     * @return true if the data ended cleanly, false if it ended with a torn record
+     */
+    boolean replay(Consumer<ByteBuffer> consumer) {
+        int position = 0;
+        buffer.clear();
+        while (buffer.capacity() - position >= HEADER_SIZE) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                buffer.position(position);
+                return true;
+            }
+            if (length < 0 || length > buffer.capacity() - position - HEADER_SIZE) {
+                buffer.position(position);
+                return false;
+            }
+            ByteBuffer body = buffer.slice(position + HEADER_SIZE, length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                buffer.position(position);
+                return false;
+            }
+            consumer.accept(body);
+            position += HEADER_SIZE + length;
+        }
+        buffer.position(position);
+        return true;
+    }
+
+    /**
+     * Zero-fills the segment from the current position to its end, so that records appended
+     * after a torn write are never followed by leftovers of the torn record.
+     */
+    void discardTail() {
+        for (int i = buffer.position(); i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Appends a record if it fits into the remaining space of the segment.
+     *
+     * @param body the record body, from its position to its limit
+     * @return true if the record was appended, false if the segment is full
+     */
+    boolean append(ByteBuffer body) {
+        int length = body.remaining();
+        if (buffer.remaining() < HEADER_SIZE + length) {
+            return false;
+        }
+        crc.reset();
+        crc.update(body.duplicate());
+        int position = buffer.position();
+        buffer.position(position + HEADER_SIZE);
+        buffer.put(body);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, length); // Written last, so a record is only visible once complete
+        return true;
+    }
+
+    /**
+     * Forces all written records to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
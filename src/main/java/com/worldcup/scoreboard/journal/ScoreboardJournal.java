@@ -0,0 +1,510 @@
+package com.worldcup.scoreboard.journal;
+
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardListener;
+import com.worldcup.scoreboard.service.ScoreboardService;
+import com.worldcup.scoreboard.snapshot.ScoreboardSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal that makes a {@link ScoreboardService} durable across restarts.
+ * <p>
+ * Every match start, score update and finish is recorded as a compact binary record in a
+ * directory of memory-mapped segment files. When the active segment is full, the journal
+ * rolls over to a new one. Records are not forced to disk one by one: a background thread
+ * forces all records written since its last run at a fixed interval (group commit), so a
+ * crash loses at most that interval of changes. A zero interval forces every record.
+ * <p>
+ * Opening a journal replays all existing segments and restores a service holding the
+ * recorded matches with their scores, start times and start order, then records all changes
+ * of that service. A {@link #checkpoint()} writes a {@link ScoreboardSnapshot} of the recorded
+ * matches and deletes the segments it covers, so recovery reads the snapshot and only the
+ * records written after it. Example usage:
+ * <pre>
+ * ScoreboardJournal journal = ScoreboardJournal.open(Path.of("scoreboard-journal"));
+ * Scoreboard scoreboard = new Scoreboard(journal.getService());
+ *
+ * journal.checkpoint(); // e.g. periodically, to keep recovery short
+ * </pre>
+ * Records have no size limit: a start record with team names too long for a segment of the
+ * configured size gets a segment of its own, sized to fit. Recording therefore never rejects
+ * a change that has already been applied. If a new segment cannot be created, the journal
+ * stops recording instead of failing the change, and reports the failure from
+ * {@link #flush()} and {@link #close()}.
+ */
+public class ScoreboardJournal implements ScoreboardListener, AutoCloseable {
+    /**
+     * The default size of a segment file.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The default interval between forcing written records to disk.
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    static final byte MATCH_STARTED = 1;
+    static final byte SCORE_UPDATED = 2;
+    static final byte MATCH_FINISHED = 3;
+
+    static final String CHECKPOINT_PREFIX = "checkpoint-";
+    static final String CHECKPOINT_SUFFIX = ".snapshot";
+
+    /**
+     * The size of a start record body without its team names: type, match id, start time
+     * and the lengths of both names. Every other record is smaller.
+     */
+    private static final int START_RECORD_SIZE = Byte.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES
+            + 2 * Integer.BYTES;
+
+    /**
+     * The smallest supported segment size. A start record too long for a segment gets a
+     * larger one.
+     */
+    private static final int MIN_SEGMENT_SIZE = 256;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceEveryRecord;
+    private final Map<Match, Long> matchIds; // Guarded by this
+    private final Map<Long, MatchState> states; // Guarded by this, in start order
+    private ByteBuffer record; // Guarded by this, grown for long team names
+    private final ScheduledExecutorService flusher;
+    private ScoreboardService service;
+    private volatile JournalSegment activeSegment;
+    private volatile boolean dirty;
+    private volatile IOException failure;
+    private long nextMatchId;
+    private boolean closed;
+
+    private ScoreboardJournal(Path directory, int segmentSize, Duration flushInterval) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceEveryRecord = flushInterval.isZero();
+        this.matchIds = new HashMap<>();
+        this.states = new LinkedHashMap<>();
+        this.record = ByteBuffer.allocate(MIN_SEGMENT_SIZE);
+        this.flusher = forceEveryRecord ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the journal in the given directory with the default segment size and flush
+     * interval, restoring the recorded matches and recording all subsequent changes.
+     *
+     * @param directory the journal directory, created if missing (non-null)
+     * @return the open journal
+     * @throws IllegalArgumentException if directory is null
+     * @throws IOException if the journal cannot be read or created
+     * @throws IllegalStateException if the journal is corrupt
+     */
+    public static ScoreboardJournal open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Opens the journal in the given directory, restoring the recorded matches and recording
+     * all subsequent changes.
+     *
+     * @param directory the journal directory, created if missing (non-null)
+     * @param segmentSize the size of newly created segment files in bytes
+     * @param flushInterval the interval between forcing records to disk, zero to force every record
+     * @return the open journal
+     * @throws IllegalArgumentException if any argument is null or invalid
+     * @throws IOException if the journal cannot be read or created
+     * @throws IllegalStateException if the journal is corrupt
+     */
+    public static ScoreboardJournal open(Path directory, int segmentSize, Duration flushInterval)
+            throws IOException {
+        return open(directory, segmentSize, flushInterval, MatchClock.SYSTEM);
+    }
+
+    /**
+     * Opens the journal in the given directory, restoring the recorded matches into a service
+     * whose subsequently started matches take their start times from the given clock.
+     *
+     * @param directory the journal directory, created if missing (non-null)
+     * @param segmentSize the size of newly created segment files in bytes
+     * @param flushInterval the interval between forcing records to disk, zero to force every record
+     * @param clock the clock of the restored service (non-null)
+     * @return the open journal
+     * @throws IllegalArgumentException if any argument is null or invalid
+     * @throws IOException if the journal cannot be read or created
+     * @throws IllegalStateException if the journal is corrupt
+     */
+    public static ScoreboardJournal open(Path directory, int segmentSize, Duration flushInterval,
+                                         MatchClock clock) throws IOException {
+        if (directory == null || flushInterval == null || clock == null) {
+            throw new IllegalArgumentException("Directory, flush interval and clock cannot be null");
+        }
+        if (segmentSize < MIN_SEGMENT_SIZE || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_SIZE
+                    + " bytes and flush interval cannot be negative");
+        }
+
+        ScoreboardJournal journal = new ScoreboardJournal(directory, segmentSize, flushInterval);
+        journal.recover(clock);
+        journal.service.addListener(journal);
+        if (journal.flusher != null) {
+            long intervalNanos = flushInterval.toNanos();
+            journal.flusher.scheduleWithFixedDelay(journal::flushIfDirty, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        return journal;
+    }
+
+    /**
+     * Reads the latest checkpoint and all segments after it, restores the service and
+     * positions the journal for appending.
+     */
+    private void recover(MatchClock clock) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = new ArrayList<>();
+        List<Path> checkpoints = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                if (JournalSegment.parseIndex(path.getFileName().toString()) >= 0) {
+                    segments.add(path);
+                } else if (parseCheckpointIndex(path.getFileName().toString()) >= 0) {
+                    checkpoints.add(path);
+                }
+            });
+        }
+        segments.sort(null);
+        checkpoints.sort(null);
+
+        Path checkpoint = checkpoints.isEmpty() ? null : checkpoints.get(checkpoints.size() - 1);
+        long firstSegment = checkpoint == null ? 0 : parseCheckpointIndex(checkpoint.getFileName().toString());
+        if (checkpoint != null) {
+            for (MatchState state : ScoreboardSnapshot.readStates(checkpoint)) {
+                states.put(nextMatchId++, state);
+            }
+        }
+        // Left behind by a crash during a checkpoint
+        deleteBefore(firstSegment);
+        segments.removeIf(path -> JournalSegment.parseIndex(path.getFileName().toString()) < firstSegment);
+
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            JournalSegment segment = JournalSegment.open(path, JournalSegment.parseIndex(path.getFileName().toString()));
+            boolean clean = segment.replay(this::replay);
+            if (i < segments.size() - 1) {
+                segment.close();
+                if (!clean) {
+                    throw new IllegalStateException("Corrupt journal segment " + path);
+                }
+            } else {
+                if (!clean) {
+                    segment.discardTail(); // Torn by a crash, overwritten by the next record
+                }
+                activeSegment = segment;
+            }
+        }
+        if (activeSegment == null) {
+            activeSegment = JournalSegment.create(directory, firstSegment, segmentSize);
+        }
+
+        try {
+            service = ScoreboardService.restore(new ArrayList<>(states.values()), clock);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Corrupt journal in " + directory, e);
+        }
+        Iterator<Long> ids = states.keySet().iterator();
+        for (Match match : service.getSnapshot().matches()) {
+            matchIds.put(match, ids.next());
+        }
+    }
+
+    /**
+     * Applies a single journal record to the recorded matches.
+     */
+    private void replay(ByteBuffer body) {
+        byte type = body.get();
+        long matchId = body.getLong();
+        nextMatchId = Math.max(nextMatchId, matchId + 1);
+        if (type == MATCH_STARTED) {
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(body.getLong(), body.getInt(), ZoneOffset.UTC);
+            Team homeTeam = new Team(getName(body));
+            Team awayTeam = new Team(getName(body));
+            states.put(matchId, new MatchState(homeTeam, awayTeam, 0, 0, startTime));
+            return;
+        }
+
+        MatchState state = states.get(matchId);
+        if (state == null) {
+            throw new IllegalStateException("Journal refers to unknown match " + matchId);
+        }
+        if (type == SCORE_UPDATED) {
+            states.put(matchId, new MatchState(state.homeTeam(), state.awayTeam(), body.getInt(), body.getInt(),
+                    state.startTime()));
+        } else if (type == MATCH_FINISHED) {
+            states.remove(matchId);
+        } else {
+            throw new IllegalStateException("Unknown journal record type " + type);
+        }
+    }
+
+    /**
+     * Returns the service restored from the journal, whose changes the journal records.
+     *
+     * @return the journaled service
+     */
+    public ScoreboardService getService() {
+        return service;
+    }
+
+    @Override
+    public void matchStarted(Match match) {
+        byte[] homeName = match.getHomeTeam().name().getBytes(StandardCharsets.UTF_8);
+        byte[] awayName = match.getAwayTeam().name().getBytes(StandardCharsets.UTF_8);
+        LocalDateTime startTime = match.getStartTime();
+        synchronized (this) {
+            if (!isRecording()) {
+                return;
+            }
+            long matchId = nextMatchId++;
+            matchIds.put(match, matchId);
+            states.put(matchId, new MatchState(match.getHomeTeam(), match.getAwayTeam(), 0, 0, startTime));
+            ByteBuffer body = begin(MATCH_STARTED, matchId, START_RECORD_SIZE + homeName.length + awayName.length);
+            body.putLong(startTime.toEpochSecond(ZoneOffset.UTC)).putInt(startTime.getNano());
+            putName(body, homeName);
+            putName(body, awayName);
+            append(body);
+        }
+    }
+
+    @Override
+    public synchronized void scoreUpdated(Match match, int homeScore, int awayScore) {
+        Long matchId = matchIds.get(match);
+        if (matchId == null || !isRecording()) {
+            return; // Started before the journal was opened
+        }
+        MatchState state = states.get(matchId);
+        states.put(matchId, new MatchState(state.homeTeam(), state.awayTeam(), homeScore, awayScore,
+                state.startTime()));
+        ByteBuffer body = begin(SCORE_UPDATED, matchId, START_RECORD_SIZE);
+        body.putInt(homeScore).putInt(awayScore);
+        append(body);
+    }
+
+    @Override
+    public synchronized void matchFinished(Match match) {
+        Long matchId = matchIds.remove(match);
+        if (matchId == null || !isRecording()) {
+            return; // Started before the journal was opened, or already finished
+        }
+        states.remove(matchId);
+        append(begin(MATCH_FINISHED, matchId, START_RECORD_SIZE));
+    }
+
+    /**
+     * Writes a snapshot of all recorded matches and deletes the segments it covers, so that
+     * the journal does not grow with the length of the tournament. Recording continues in a
+     * new segment; a crash at any point leaves either the old segments or the snapshot to
+     * recover from. The snapshot is written while recording waits, so this takes time
+     * proportional to the number of matches on the board.
+     *
+     * @throws IllegalStateException if the journal is closed
+     * @throws IOException if the snapshot cannot be written or the segments cannot be
+     *                     deleted, or the journal has stopped recording after a failure
+     */
+    public synchronized void checkpoint() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new IOException("Journal stopped recording", failure);
+        }
+
+        roll(0);
+        long firstSegment = activeSegment.index();
+        ScoreboardSnapshot.write(new ArrayList<>(states.values()), directory.resolve(checkpointName(firstSegment)));
+
+        // Later records refer to the matches by their position in the snapshot
+        Map<Long, Long> renumbered = new HashMap<>();
+        Map<Long, MatchState> live = new LinkedHashMap<>(states);
+        states.clear();
+        for (Map.Entry<Long, MatchState> entry : live.entrySet()) {
+            renumbered.put(entry.getKey(), (long) states.size());
+            states.put((long) states.size(), entry.getValue());
+        }
+        matchIds.replaceAll((match, matchId) -> renumbered.get(matchId));
+        nextMatchId = states.size();
+        deleteBefore(firstSegment);
+    }
+
+    /**
+     * Forces all records written so far to the storage device.
+     *
+     * @throws UncheckedIOException if the journal has stopped recording after a failure
+     */
+    public synchronized void flush() {
+        dirty = false;
+        activeSegment.force();
+        if (failure != null) {
+            throw new UncheckedIOException("Journal stopped recording", failure);
+        }
+    }
+
+    /**
+     * Stops recording, forces all written records to disk and closes the journal.
+     * Subsequent changes to the service are no longer recorded; changes made while the
+     * journal is closing may or may not be.
+     *
+     * @throws IOException if the active segment cannot be closed, or the journal has stopped
+     *                     recording after a failure
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true; // Listener calls still in flight record nothing from now on
+        }
+        service.removeListener(this);
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        synchronized (this) {
+            activeSegment.force();
+            activeSegment.close();
+        }
+        if (failure != null) {
+            throw new IOException("Journal stopped recording", failure);
+        }
+    }
+
+    private boolean isRecording() {
+        return !closed && failure == null;
+    }
+
+    private ByteBuffer begin(byte type, long matchId, int size) {
+        if (record.capacity() < size) {
+            record = ByteBuffer.allocate(Math.max(size, 2 * record.capacity()));
+        }
+        return record.clear().put(type).putLong(matchId);
+    }
+
+    /**
+     * Appends the record to the active segment, rolling over to a new segment when full.
+     * The new segment is made large enough for the record, so the append cannot fail for
+     * lack of space. The change has already been applied to the board, so a failure stops
+     * recording instead of being thrown at the writer.
+     */
+    private void append(ByteBuffer body) {
+        body.flip();
+        try {
+            if (!activeSegment.append(body)) {
+                roll(JournalSegment.HEADER_SIZE + body.remaining());
+                activeSegment.append(body); // Always fits into the new segment
+            }
+            if (forceEveryRecord) {
+                activeSegment.force();
+            } else {
+                dirty = true;
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+        }
+    }
+
+    private void roll(int minimumSize) throws IOException {
+        JournalSegment full = activeSegment;
+        activeSegment = JournalSegment.create(directory, full.index() + 1, Math.max(segmentSize, minimumSize));
+        full.force();
+        full.close();
+    }
+
+    /**
+     * Deletes all segments before the given one and all checkpoints older than it.
+     */
+    private void deleteBefore(long firstSegment) throws IOException {
+        List<Path> covered = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String fileName = path.getFileName().toString();
+                long segmentIndex = JournalSegment.parseIndex(fileName);
+                long checkpointIndex = parseCheckpointIndex(fileName);
+                if ((segmentIndex >= 0 && segmentIndex < firstSegment)
+                        || (checkpointIndex >= 0 && checkpointIndex < firstSegment)) {
+                    covered.add(path);
+                }
+            });
+        }
+        for (Path path : covered) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Returns the file name of the checkpoint covering all segments before the given one.
+     *
+     * @param firstSegment the index of the first segment after the checkpoint
+     * @return the file name
+     */
+    static String checkpointName(long firstSegment) {
+        return String.format("%s%020d%s", CHECKPOINT_PREFIX, firstSegment, CHECKPOINT_SUFFIX);
+    }
+
+    /**
+     * Parses the index of the first segment after a checkpoint from its file name.
+     *
+     * @param fileName the file name
+     * @return the segment index, or -1 if the name is not a checkpoint file name
+     */
+    static long parseCheckpointIndex(String fileName) {
+        if (!fileName.startsWith(CHECKPOINT_PREFIX) || !fileName.endsWith(CHECKPOINT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(CHECKPOINT_PREFIX.length(),
+                    fileName.length() - CHECKPOINT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void flushIfDirty() {
+        if (dirty) {
+            dirty = false;
+            activeSegment.force(); // Forcing concurrently with appends is safe
+        }
+    }
+
+    private static void putName(ByteBuffer body, byte[] name) {
+        body.putInt(name.length).put(name);
+    }
+
+    private static String getName(ByteBuffer body) {
+        byte[] name = new byte[body.getInt()];
+        body.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+}
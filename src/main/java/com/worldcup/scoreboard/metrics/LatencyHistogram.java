@@ -0,0 +1,112 @@
+package com.worldcup.scoreboard.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds with a log-linear bucket layout, in the
+ * style of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} nanoseconds get a bucket each. Every higher power of two
+ * is split into {@value #SUB_BUCKETS} equal sub-buckets, which bounds the relative error of
+ * any reported value by 1/{@value #SUB_BUCKETS} over the full range of {@code long}. Recording
+ * increments one bucket atomically and never blocks; reading is weakly consistent with
+ * concurrent recording.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder count;
+    private final LongAdder sum;
+    private final AtomicLong max;
+
+    LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as zero
+     */
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Captures the current distribution.
+     *
+     * @return the latency snapshot
+     */
+    LatencySnapshot snapshot() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        long mean = total == 0 ? 0 : sum.sum() / Math.max(1, count.sum());
+        long largest = max.get();
+        return new LatencySnapshot(total, mean, percentile(snapshot, total, 0.5, largest),
+                percentile(snapshot, total, 0.9, largest), percentile(snapshot, total, 0.99, largest),
+                percentile(snapshot, total, 0.999, largest), largest);
+    }
+
+    /**
+     * Returns the highest value of the bucket holding the quantile, capped by the largest
+     * recorded value, which may lie anywhere within its bucket.
+     */
+    private static long percentile(long[] counts, long total, double quantile, long largest) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), largest);
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Returns the bucket of a non-negative value.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS; // Top bits below the leading one
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     */
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,17 @@
+package com.worldcup.scoreboard.metrics;
+
+/**
+ * Latency distribution of an operation at a point in time, in nanoseconds. Percentiles are
+ * accurate to about 1.6% of the value. This is an immutable record class, meaning its state
+ * cannot be modified after creation.
+ *
+ * @param count the number of recorded latencies
+ * @param mean the mean latency
+ * @param p50 the median latency
+ * @param p90 the 90th percentile latency
+ * @param p99 the 99th percentile latency
+ * @param p999 the 99.9th percentile latency
+ * @param max the largest recorded latency
+ */
+public record LatencySnapshot(long count, long mean, long p50, long p90, long p99, long p999, long max) {
+}
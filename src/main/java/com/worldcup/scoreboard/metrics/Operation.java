@@ -0,0 +1,11 @@
+package com.worldcup.scoreboard.metrics;
+
+/**
+ * The scoreboard operations measured by {@link ScoreboardMetrics}.
+ */
+public enum Operation {
+    START_MATCH,
+    UPDATE_SCORE,
+    FINISH_MATCH,
+    GET_SUMMARY
+}
@@ -0,0 +1,13 @@
+package com.worldcup.scoreboard.metrics;
+
+/**
+ * Counters and latencies of a single operation. This is an immutable record class, meaning
+ * its state cannot be modified after creation.
+ *
+ * @param operation the measured operation
+ * @param count the number of successful calls
+ * @param errors the number of calls that threw an exception
+ * @param latency the latency distribution of successful calls
+ */
+public record OperationMetrics(Operation operation, long count, long errors, LatencySnapshot latency) {
+}
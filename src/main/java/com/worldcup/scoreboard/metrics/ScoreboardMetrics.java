@@ -0,0 +1,231 @@
+package com.worldcup.scoreboard.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Latency histograms, counters and gauges of a scoreboard.
+ * <p>
+ * Every measured {@link Operation} has a lock-free latency histogram of its successful calls
+ * and a counter of the calls that threw an exception. Recording never blocks: it increments
+ * one histogram bucket and a few striped counters. The board size and summary size gauges
+ * are read from the scoreboard only when the metrics are pulled, so they cost nothing on the
+ * write path.
+ * <p>
+ * The metrics can be pulled directly or exposed as a platform MXBean. Example usage:
+ * <pre>
+ * ScoreboardMetrics metrics = service.enableMetrics();
+ * metrics.registerMBean("World Cup");
+ *
+ * long p99 = metrics.getOperationMetrics(Operation.UPDATE_SCORE).latency().p99();
+ * </pre>
+ */
+public final class ScoreboardMetrics {
+    private static final String DOMAIN = "com.worldcup.scoreboard";
+
+    private final LatencyHistogram[] latencies;
+    private final LongAdder[] errors;
+    private final IntSupplier boardSize;
+    private final IntSupplier summaryLength;
+    private ObjectName objectName;
+
+    /**
+     * Constructs empty metrics reading their gauges from the given suppliers.
+     *
+     * @param boardSize supplies the number of in-progress matches (non-null)
+     * @param summaryLength supplies the length of the most recently rendered summary (non-null)
+     * @throws IllegalArgumentException if a supplier is null
+     */
+    public ScoreboardMetrics(IntSupplier boardSize, IntSupplier summaryLength) {
+        if (boardSize == null || summaryLength == null) {
+            throw new IllegalArgumentException("Gauge suppliers cannot be null");
+        }
+        Operation[] operations = Operation.values();
+        this.latencies = new LatencyHistogram[operations.length];
+        this.errors = new LongAdder[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            errors[i] = new LongAdder();
+        }
+        this.boardSize = boardSize;
+        this.summaryLength = summaryLength;
+    }
+
+    /**
+     * Records a successful call of an operation.
+     *
+     * @param operation the operation (non-null)
+     * @param startNanos the {@link System#nanoTime()} at which the call started
+     */
+    public void recordSuccess(Operation operation, long startNanos) {
+        latencies[operation.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a call of an operation that threw an exception.
+     *
+     * @param operation the operation (non-null)
+     */
+    public void recordError(Operation operation) {
+        errors[operation.ordinal()].increment();
+    }
+
+    /**
+     * Returns the counters and latencies of an operation.
+     *
+     * @param operation the operation (non-null)
+     * @return the current metrics of the operation
+     * @throws IllegalArgumentException if operation is null
+     */
+    public OperationMetrics getOperationMetrics(Operation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        LatencySnapshot latency = latencies[operation.ordinal()].snapshot();
+        return new OperationMetrics(operation, latency.count(), errors[operation.ordinal()].sum(), latency);
+    }
+
+    /**
+     * Returns the counters and latencies of all operations.
+     *
+     * @return the current metrics, by operation
+     */
+    public Map<Operation, OperationMetrics> getOperationMetrics() {
+        Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            metrics.put(operation, getOperationMetrics(operation));
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the number of in-progress matches.
+     *
+     * @return the board size
+     */
+    public int getBoardSize() {
+        return boardSize.getAsInt();
+    }
+
+    /**
+     * Returns the length in characters of the most recently rendered summary.
+     *
+     * @return the summary size
+     */
+    public int getSummaryLength() {
+        return summaryLength.getAsInt();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * {@code com.worldcup.scoreboard:type=ScoreboardMetrics,name=<name>}.
+     *
+     * @param name the name distinguishing this scoreboard (non-null)
+     * @return the name the MBean was registered under
+     * @throws IllegalArgumentException if name is null
+     * @throws IllegalStateException if the metrics are already registered or registration fails
+     */
+    public synchronized ObjectName registerMBean(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName(DOMAIN + ":type=ScoreboardMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBean " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters these metrics from the platform MBean server. Unregistering metrics that
+     * are not registered has no effect.
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister metrics MBean " + objectName, e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    /**
+     * Adapts the metrics to the open types of the MXBean interface.
+     */
+    private final class MBean implements ScoreboardMetricsMXBean {
+
+        @Override
+        public long getBoardSize() {
+            return ScoreboardMetrics.this.getBoardSize();
+        }
+
+        @Override
+        public long getSummaryLength() {
+            return ScoreboardMetrics.this.getSummaryLength();
+        }
+
+        @Override
+        public Map<String, Long> getOperationCounts() {
+            return byOperation(OperationMetrics::count);
+        }
+
+        @Override
+        public Map<String, Long> getErrorCounts() {
+            return byOperation(OperationMetrics::errors);
+        }
+
+        @Override
+        public Map<String, Long> getMeanLatencies() {
+            return byOperation(metrics -> metrics.latency().mean());
+        }
+
+        @Override
+        public Map<String, Long> getP50Latencies() {
+            return byOperation(metrics -> metrics.latency().p50());
+        }
+
+        @Override
+        public Map<String, Long> getP99Latencies() {
+            return byOperation(metrics -> metrics.latency().p99());
+        }
+
+        @Override
+        public Map<String, Long> getP999Latencies() {
+            return byOperation(metrics -> metrics.latency().p999());
+        }
+
+        @Override
+        public Map<String, Long> getMaxLatencies() {
+            return byOperation(metrics -> metrics.latency().max());
+        }
+
+        private Map<String, Long> byOperation(ToLongFunction<OperationMetrics> attribute) {
+            Map<String, Long> values = new LinkedHashMap<>();
+            for (OperationMetrics metrics : getOperationMetrics().values()) {
+                values.put(metrics.operation().name(), attribute.applyAsLong(metrics));
+            }
+            return values;
+        }
+    }
+}
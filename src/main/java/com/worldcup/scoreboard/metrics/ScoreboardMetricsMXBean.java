@@ -0,0 +1,73 @@
+package com.worldcup.scoreboard.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ScoreboardMetrics}. Per-operation attributes are maps keyed by the
+ * {@link Operation} name; latencies are in nanoseconds.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    /**
+     * Returns the number of in-progress matches.
+     *
+     * @return the board size, as a count of matches
+     */
+    long getBoardSize();
+
+    /**
+     * Returns the length of the most recently rendered summary.
+     *
+     * @return the summary length, as a count of characters
+     */
+    long getSummaryLength();
+
+    /**
+     * Returns the number of successful calls per operation.
+     *
+     * @return the call counts by operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the number of calls that threw an exception per operation.
+     *
+     * @return the error counts by operation name
+     */
+    Map<String, Long> getErrorCounts();
+
+    /**
+     * Returns the mean latency of successful calls per operation.
+     *
+     * @return the mean latencies in nanoseconds by operation name
+     */
+    Map<String, Long> getMeanLatencies();
+
+    /**
+     * Returns the median latency of successful calls per operation.
+     *
+     * @return the 50th percentile latencies in nanoseconds by operation name
+     */
+    Map<String, Long> getP50Latencies();
+
+    /**
+     * Returns the 99th percentile latency of successful calls per operation.
+     *
+     * @return the 99th percentile latencies in nanoseconds by operation name
+     */
+    Map<String, Long> getP99Latencies();
+
+    /**
+     * Returns the 99.9th percentile latency of successful calls per operation.
+     *
+     * @return the 99.9th percentile latencies in nanoseconds by operation name
+     */
+    Map<String, Long> getP999Latencies();
+
+    /**
+     * Returns the largest latency of any successful call per operation.
+     *
+     * @return the maximum latencies in nanoseconds by operation name
+     */
+    Map<String, Long> getMaxLatencies();
+}
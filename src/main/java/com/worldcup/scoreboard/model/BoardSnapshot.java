@@ -0,0 +1,49 @@
+package com.worldcup.scoreboard.model;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An immutable view of all in-progress matches at a given board version. The matches are
+ * held both in summary order, with their scores as captured, and in start order. This is
+ * an immutable record class, so a snapshot can be cached and shared freely between threads.
+ * <p>
+ * The lists are kept as given rather than copied, so that a snapshot can be a constant-size
+ * view of a published board. They must be unmodifiable and never change.
+ *
+ * @param version the board version the snapshot represents
+ * @param ranking the matches in summary order, with their positions and captured scores
+ * @param matches the matches in start order
+ */
+public record BoardSnapshot(long version, List<RankedMatch> ranking, List<Match> matches)
+        implements Iterable<RankedMatch> {
+    /**
+     * Creates a snapshot over the given lists.
+     *
+     * @throws IllegalArgumentException if either list is null
+     */
+    public BoardSnapshot {
+        if (ranking == null || matches == null) {
+            throw new IllegalArgumentException("Snapshot lists cannot be null");
+        }
+    }
+
+    /**
+     * Returns the number of in-progress matches.
+     *
+     * @return the number of matches
+     */
+    public int size() {
+        return ranking.size();
+    }
+
+    /**
+     * Returns an iterator over the matches in summary order.
+     *
+     * @return an iterator over the ranking
+     */
+    @Override
+    public Iterator<RankedMatch> iterator() {
+        return ranking.iterator();
+    }
+}
@@ -0,0 +1,25 @@
+package com.worldcup.scoreboard.model;
+
+/**
+ * A match at a given position of the summary across all competitions, with its scores as
+ * captured at that position. This is an immutable record class, meaning its state cannot
+ * be modified after creation.
+ *
+ * @param position the one-based position in the global summary
+ * @param competition the competition the match belongs to
+ * @param match the match
+ * @param homeScore the home team score
+ * @param awayScore the away team score
+ */
+public record GlobalRankedMatch(int position, String competition, Match match, int homeScore, int awayScore) {
+    /**
+     * Returns the match in global summary line format, e.g. {@code 1. [World Cup] Mexico 0 - Canada 5}.
+     *
+     * @return formatted summary line
+     */
+    @Override
+    public String toString() {
+        return position + ". [" + competition + "] " + match.getHomeTeam() + " " + homeScore
+                + " - " + match.getAwayTeam() + " " + awayScore;
+    }
+}
@@ -1,17 +1,35 @@
 package com.worldcup.scoreboard.model;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents a match between two teams, keeping track of the score and match status.
+ * <p>
+ * Matches are thread-safe. Both scores are published together through a single volatile
+ * field, so readers never observe a torn home/away pair, and writers are serialized
+ * per match.
+ * <p>
+ * Starting a match reads its {@link MatchClock} once and takes the next start sequence,
+ * neither of which allocates; the start time is only turned into a {@link LocalDateTime}
+ * when it is first asked for.
  */
 public class Match {
+    /**
+     * Source of start sequence numbers, shared by all matches.
+     */
+    private static final AtomicLong START_SEQUENCE = new AtomicLong();
+
     private final Team homeTeam;
     private final Team awayTeam;
-    private int homeScore;
-    private int awayScore;
-    private final LocalDateTime startTime;
-    private boolean inProgress;
+    private volatile long score;
+    private final long startEpochNanos;
+    private LocalDateTime startTime;
+    private final long startSequence;
+    private final MatchListener listener;
+    private volatile boolean inProgress;
 
     /**
      * Constructs a new match between the specified home and away teams.
@@ -22,14 +40,72 @@ public class Match {
      * @throws IllegalArgumentException if either team is null
      */
     public Match(Team homeTeam, Team awayTeam) {
+        this(homeTeam, awayTeam, null);
+    }
+
+    /**
+     * Constructs a new match between the specified home and away teams, notifying the
+     * given listener after every score change and when the match finishes.
+     *
+     * @param homeTeam the home team (must not be null)
+     * @param awayTeam the away team (must not be null)
+     * @param listener the listener to notify of changes, or null for none
+     * @throws IllegalArgumentException if either team is null
+     */
+    public Match(Team homeTeam, Team awayTeam, MatchListener listener) {
+        this(homeTeam, awayTeam, MatchClock.SYSTEM, listener);
+    }
+
+    /**
+     * Constructs a new match between the specified home and away teams, started at the
+     * current time of the given clock.
+     *
+     * @param homeTeam the home team (must not be null)
+     * @param awayTeam the away team (must not be null)
+     * @param clock the clock to read the start time from (must not be null)
+     * @param listener the listener to notify of changes, or null for none
+     * @throws IllegalArgumentException if either team or the clock is null
+     */
+    public Match(Team homeTeam, Team awayTeam, MatchClock clock, MatchListener listener) {
+        this(homeTeam, awayTeam, 0, 0, readClock(clock), null, listener);
+    }
+
+    /**
+     * Restores an in-progress match with the given scores and start time, e.g. from a snapshot.
+     * The match is started after all matches constructed before it.
+     *
+     * @param homeTeam the home team (must not be null)
+     * @param awayTeam the away team (must not be null)
+     * @param homeScore the current home team score (must not be negative)
+     * @param awayScore the current away team score (must not be negative)
+     * @param startTime the start time of the match (must not be null)
+     * @param listener the listener to notify of changes, or null for none
+     * @throws IllegalArgumentException if either team or the start time is null, or a score is negative
+     */
+    public Match(Team homeTeam, Team awayTeam, int homeScore, int awayScore, LocalDateTime startTime,
+                 MatchListener listener) {
+        this(homeTeam, awayTeam, homeScore, awayScore, 0, requireStartTime(startTime), listener);
+    }
+
+    /**
+     * Constructs a match started at the given time, either as epoch nanoseconds still to be
+     * materialized or as an already known start time.
+     */
+    private Match(Team homeTeam, Team awayTeam, int homeScore, int awayScore, long startEpochNanos,
+                  LocalDateTime startTime, MatchListener listener) {
         if (homeTeam == null || awayTeam == null) {
             throw new IllegalArgumentException("Teams must not be null");
         }
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative");
+        }
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeScore = 0;
-        this.awayScore = 0;
-        this.startTime = LocalDateTime.now();
+        this.score = packScore(homeScore, awayScore);
+        this.startEpochNanos = startEpochNanos;
+        this.startTime = startTime;
+        this.startSequence = START_SEQUENCE.incrementAndGet();
+        this.listener = listener;
         this.inProgress = true;
     }
 
@@ -57,7 +133,7 @@ public class Match {
      * @return the home team's score
      */
     public int getHomeScore() {
-        return homeScore;
+        return homeScore(score);
     }
 
     /**
@@ -66,16 +142,44 @@ public class Match {
      * @return the away team's score
      */
     public int getAwayScore() {
-        return awayScore;
+        return awayScore(score);
     }
 
     /**
-     * Returns the start time of the match.
+     * Returns the start time of the match, in the system default zone.
      *
      * @return the start time of the match
      */
     public LocalDateTime getStartTime() {
-        return startTime;
+        LocalDateTime time = startTime;
+        if (time == null) {
+            // Racy but benign: the value is immutable, and every thread computes an equal one
+            time = LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(startEpochNanos, 1_000_000_000L),
+                    Math.floorMod(startEpochNanos, 1_000_000_000L)), ZoneId.systemDefault());
+            startTime = time;
+        }
+        return time;
+    }
+
+    /**
+     * Returns the numeric id of the match. Ids are unique among all matches of the running
+     * application and never change while the match exists; a match restored from a snapshot
+     * or journal gets a new id. The id is the start sequence of the match.
+     *
+     * @return the id of the match
+     */
+    public long getId() {
+        return startSequence;
+    }
+
+    /**
+     * Returns the start sequence of the match. Matches started later always have a
+     * greater sequence, which makes it a cheap and unambiguous start order.
+     *
+     * @return the start sequence of the match
+     */
+    public long getStartSequence() {
+        return startSequence;
     }
 
     /**
@@ -95,22 +199,30 @@ public class Match {
      * @throws IllegalStateException if the match is not in progress
      * @throws IllegalArgumentException if either score is negative
      */
-    public void updateScore(int homeScore, int awayScore) {
+    public synchronized void updateScore(int homeScore, int awayScore) {
         if (!inProgress) {
             throw new IllegalStateException("Cannot update score for a finished match");
         }
         if (homeScore < 0 || awayScore < 0) {
             throw new IllegalArgumentException("Scores cannot be negative");
         }
-        this.homeScore = homeScore;
-        this.awayScore = awayScore;
+        this.score = packScore(homeScore, awayScore);
+        if (listener != null) {
+            listener.scoreChanged(this);
+        }
     }
 
     /**
-     * Marks the match as finished.
+     * Marks the match as finished. Finishing an already finished match has no effect.
      */
-    public void finishMatch() {
+    public synchronized void finishMatch() {
+        if (!inProgress) {
+            return;
+        }
         this.inProgress = false;
+        if (listener != null) {
+            listener.matchFinished(this);
+        }
     }
 
     /**
@@ -119,7 +231,8 @@ public class Match {
      * @return the total score of the match
      */
     public int getTotalScore() {
-        return homeScore + awayScore;
+        long current = score;
+        return homeScore(current) + awayScore(current);
     }
 
     /**
@@ -130,6 +243,33 @@ public class Match {
      */
     @Override
     public String toString() {
-        return homeTeam.name() + " " + homeScore + " - " + awayTeam.name() + " " + awayScore;
+        long current = score;
+        return homeTeam.name() + " " + homeScore(current) + " - " + awayTeam.name() + " " + awayScore(current);
+    }
+
+    private static long readClock(MatchClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock must not be null");
+        }
+        return clock.epochNanos();
+    }
+
+    private static LocalDateTime requireStartTime(LocalDateTime startTime) {
+        if (startTime == null) {
+            throw new IllegalArgumentException("Start time must not be null");
+        }
+        return startTime;
+    }
+
+    private static long packScore(int homeScore, int awayScore) {
+        return ((long) homeScore << 32) | (awayScore & 0xFFFFFFFFL);
+    }
+
+    private static int homeScore(long score) {
+        return (int) (score >>> 32);
+    }
+
+    private static int awayScore(long score) {
+        return (int) score;
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.worldcup.scoreboard.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Source of match start times, read once whenever a match starts.
+ * <p>
+ * A clock reports plain epoch nanoseconds, so starting a match neither allocates nor looks
+ * up a time zone; {@link Match#getStartTime()} turns the reading into a {@link LocalDateTime}
+ * in the system default zone only when it is asked for. The start order of matches never
+ * depends on the clock: matches are ordered by their start sequence, so matches started
+ * within the same clock tick, or while a clock stands still, are still strictly ordered.
+ */
+@FunctionalInterface
+public interface MatchClock {
+    /**
+     * The system wall clock, with millisecond precision.
+     */
+    MatchClock SYSTEM = () -> System.currentTimeMillis() * 1_000_000L;
+
+    /**
+     * Returns the current time.
+     *
+     * @return the nanoseconds since the epoch, 1970-01-01T00:00:00Z
+     */
+    long epochNanos();
+
+    /**
+     * Returns a deterministic clock, e.g. for tests and replays. The clock reports the start
+     * time on its first reading and advances by the step on every further reading; a zero
+     * step gives a clock that stands still. The clock is thread-safe.
+     *
+     * @param start the first reported time, in the system default zone (non-null)
+     * @param step the advance per reading (non-null, not negative)
+     * @return the clock
+     * @throws IllegalArgumentException if start or step is null, or step is negative
+     */
+    static MatchClock stepping(LocalDateTime start, Duration step) {
+        if (start == null || step == null) {
+            throw new IllegalArgumentException("Start and step cannot be null");
+        }
+        if (step.isNegative()) {
+            throw new IllegalArgumentException("Step cannot be negative");
+        }
+        Instant instant = start.atZone(ZoneId.systemDefault()).toInstant();
+        AtomicLong next = new AtomicLong(instant.getEpochSecond() * 1_000_000_000L + instant.getNano());
+        long stepNanos = step.toNanos();
+        return () -> next.getAndAdd(stepNanos);
+    }
+}
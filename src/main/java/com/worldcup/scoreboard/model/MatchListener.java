@@ -0,0 +1,26 @@
+package com.worldcup.scoreboard.model;
+
+/**
+ * Callback notified about changes to a {@link Match}.
+ * <p>
+ * Used by the scoreboard service to keep its ordered index and board version in sync
+ * with the match, including changes made directly on the match.
+ * Callbacks are made while holding the lock of the match, so notifications for a single
+ * match are delivered in the order the changes happened.
+ */
+public interface MatchListener {
+    /**
+     * Called after the score of the given match has been updated.
+     *
+     * @param match the match whose score changed
+     */
+    void scoreChanged(Match match);
+
+    /**
+     * Called after the given match has been marked as finished.
+     *
+     * @param match the match that finished
+     */
+    default void matchFinished(Match match) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.worldcup.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The final result of a finished match, as kept in an archive of results.
+ * This is an immutable record class, meaning its state cannot be modified after creation.
+ *
+ * @param matchId the id the match had on the scoreboard
+ * @param homeTeam the home team
+ * @param awayTeam the away team
+ * @param homeScore the final home team score
+ * @param awayScore the final away team score
+ * @param startTime the start time of the match
+ */
+public record MatchResult(long matchId, Team homeTeam, Team awayTeam, int homeScore, int awayScore,
+                          LocalDateTime startTime) {
+
+    /**
+     * Returns the result in summary line format.
+     *
+     * @return the result, e.g. "Mexico 0 - Canada 5"
+     */
+    @Override
+    public String toString() {
+        return homeTeam.name() + " " + homeScore + " - " + awayTeam.name() + " " + awayScore;
+    }
+}
@@ -0,0 +1,16 @@
+package com.worldcup.scoreboard.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * The state of an in-progress match, as captured for a snapshot or used to restore one.
+ * This is an immutable record class, meaning its state cannot be modified after creation.
+ *
+ * @param homeTeam the home team
+ * @param awayTeam the away team
+ * @param homeScore the home team score
+ * @param awayScore the away team score
+ * @param startTime the start time of the match
+ */
+public record MatchState(Team homeTeam, Team awayTeam, int homeScore, int awayScore, LocalDateTime startTime) {
+}
@@ -0,0 +1,23 @@
+package com.worldcup.scoreboard.model;
+
+/**
+ * A match at a given position of the scoreboard summary, with its scores as captured at
+ * that position. This is an immutable record class, meaning its state cannot be modified
+ * after creation.
+ *
+ * @param position the one-based position in the summary
+ * @param match the match
+ * @param homeScore the home team score
+ * @param awayScore the away team score
+ */
+public record RankedMatch(int position, Match match, int homeScore, int awayScore) {
+    /**
+     * Returns the match in summary line format, e.g. {@code 1. Mexico 0 - Canada 5}.
+     *
+     * @return formatted summary line
+     */
+    @Override
+    public String toString() {
+        return position + ". " + match.getHomeTeam() + " " + homeScore + " - " + match.getAwayTeam() + " " + awayScore;
+    }
+}
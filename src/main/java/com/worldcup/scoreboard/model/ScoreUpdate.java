@@ -0,0 +1,12 @@
+package com.worldcup.scoreboard.model;
+
+/**
+ * A single score change to apply as part of a batch update.
+ * This is an immutable record class, meaning its state cannot be modified after creation.
+ *
+ * @param match the match to update
+ * @param homeScore the new home team score
+ * @param awayScore the new away team score
+ */
+public record ScoreUpdate(Match match, int homeScore, int awayScore) {
+}
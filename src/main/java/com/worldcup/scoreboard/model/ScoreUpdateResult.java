@@ -0,0 +1,41 @@
+package com.worldcup.scoreboard.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch score update: how many updates were applied and which ones failed.
+ * This is an immutable record class, meaning its state cannot be modified after creation.
+ *
+ * @param applied the number of updates that were applied
+ * @param failures the updates that were rejected, in batch order
+ */
+public record ScoreUpdateResult(int applied, List<Failure> failures) {
+    /**
+     * Constructs a new result, copying the failures into an unmodifiable list.
+     *
+     * @param applied the number of updates that were applied
+     * @param failures the updates that were rejected, in batch order
+     */
+    public ScoreUpdateResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * Checks whether every update of the batch was applied.
+     *
+     * @return true if no update failed
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * A rejected update of a batch.
+     *
+     * @param index the position of the update in the batch
+     * @param update the rejected update, or null if the batch contained a null entry
+     * @param error the reason the update was rejected
+     */
+    public record Failure(int index, ScoreUpdate update, RuntimeException error) {
+    }
+}
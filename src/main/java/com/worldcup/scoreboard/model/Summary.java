@@ -0,0 +1,20 @@
+package com.worldcup.scoreboard.model;
+
+/**
+ * A rendered scoreboard summary together with the board version it was rendered for.
+ * This is an immutable record class, so a summary can be cached and shared freely.
+ *
+ * @param version the board version the summary represents
+ * @param text the formatted summary text
+ */
+public record Summary(long version, String text) {
+    /**
+     * Returns the formatted summary text.
+     *
+     * @return the summary text
+     */
+    @Override
+    public String toString() {
+        return text;
+    }
+}
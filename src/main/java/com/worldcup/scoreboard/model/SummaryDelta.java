@@ -0,0 +1,62 @@
+package com.worldcup.scoreboard.model;
+
+import java.util.List;
+
+/**
+ * The changes to the scoreboard summary between two board versions.
+ * <p>
+ * A client holding the summary at {@code fromVersion} gets the summary at {@code toVersion}
+ * by removing the {@link Kind#REMOVED} matches, then placing every other entry at its
+ * position, in ascending position order. Matches without an entry keep their relative
+ * order. If the delta is {@link #full()}, the entries are the complete summary and replace
+ * whatever the client held.
+ * <p>
+ * This is an immutable record class, meaning its state cannot be modified after creation.
+ *
+ * @param fromVersion the version the delta starts from
+ * @param toVersion the version the delta leads to
+ * @param full whether the entries are a complete summary rather than a difference
+ * @param entries the changed matches, removed ones first, then in ascending position order
+ */
+public record SummaryDelta(long fromVersion, long toVersion, boolean full, List<Entry> entries) {
+    /**
+     * Creates a delta, copying the list of entries.
+     */
+    public SummaryDelta {
+        entries = List.copyOf(entries);
+    }
+
+    /**
+     * How a match changed between the two versions.
+     */
+    public enum Kind {
+        /**
+         * The match was started.
+         */
+        INSERTED,
+        /**
+         * The match was finished.
+         */
+        REMOVED,
+        /**
+         * The scores changed, but the total and therefore the order did not.
+         */
+        RESCORED,
+        /**
+         * The total score changed, so the match moved in the summary.
+         */
+        REORDERED
+    }
+
+    /**
+     * A single changed match.
+     *
+     * @param kind how the match changed
+     * @param position the one-based summary position at toVersion, zero for removed matches
+     * @param match the match
+     * @param homeScore the home team score at toVersion
+     * @param awayScore the away team score at toVersion
+     */
+    public record Entry(Kind kind, int position, Match match, int homeScore, int awayScore) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.worldcup.scoreboard.model;
+
+import java.util.List;
+
+/**
+ * One page of the scoreboard summary. This is an immutable record class, meaning its state
+ * cannot be modified after creation.
+ *
+ * @param version the board version the page was read at
+ * @param page the zero-based page number
+ * @param size the requested page size
+ * @param totalMatches the number of in-progress matches on the board
+ * @param matches the matches on this page, in summary order
+ */
+public record SummaryPage(long version, int page, int size, int totalMatches, List<RankedMatch> matches) {
+    /**
+     * Creates a page, copying the list of matches.
+     */
+    public SummaryPage {
+        matches = List.copyOf(matches);
+    }
+
+    /**
+     * Returns the number of pages of this size needed to show all matches.
+     *
+     * @return the total number of pages
+     */
+    public int totalPages() {
+        return (int) ((totalMatches + (long) size - 1) / size);
+    }
+
+    /**
+     * Checks whether a later page holds more matches.
+     *
+     * @return true if this is not the last page
+     */
+    public boolean hasNext() {
+        return (long) (page + 1) * size < totalMatches;
+    }
+}
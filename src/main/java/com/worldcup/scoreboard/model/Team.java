@@ -1,8 +1,5 @@
 package com.worldcup.scoreboard.model;
 
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 /**
  * Represents a team with a formatted name.
  * This is an immutable record class, meaning its state cannot be modified after creation.
@@ -34,24 +31,88 @@ public record Team(String name) {
     }
 
     /**
-     * Formats the team name by trimming whitespace, converting it to lowercase,
-     * and capitalizing the first letter of each word.
+     * Formats the team name by trimming whitespace, collapsing whitespace between words
+     * into a single space, converting it to lowercase, and capitalizing the first letter
+     * of each word.
+     * <p>
+     * Works in a single pass over the characters without regular expressions. A name that
+     * is already formatted is returned as is, without allocating.
      *
      * @param name the raw name to format
      * @return the formatted name
      */
-    private static String formatName(String name) {
-        if (name == null || name.isEmpty()) {
+    static String formatName(String name) {
+        if (name == null || name.isEmpty() || isFormatted(name)) {
             return name;
         }
 
-        // Trim and lowercase the entire string
-        name = name.trim().toLowerCase();
+        char[] formatted = new char[name.length()];
+        int length = 0;
+        boolean wordStart = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (isWhitespace(c)) {
+                wordStart = true;
+                continue;
+            }
+            if (wordStart && length > 0) {
+                formatted[length++] = ' ';
+            }
+            formatted[length++] = wordStart ? Character.toUpperCase(c) : Character.toLowerCase(c);
+            wordStart = false;
+        }
+        return new String(formatted, 0, length);
+    }
+
+    /**
+     * Checks whether the name is already in the format produced by {@link #formatName(String)}.
+     *
+     * @param name the name to check (must not be empty)
+     * @return true if formatting would not change the name
+     */
+    private static boolean isFormatted(String name) {
+        boolean wordStart = true;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == ' ') {
+                if (wordStart) {
+                    return false; // Leading or repeated space
+                }
+                wordStart = true;
+            } else if (isWhitespace(c)
+                    || c != (wordStart ? Character.toUpperCase(c) : Character.toLowerCase(c))) {
+                return false;
+            } else {
+                wordStart = false;
+            }
+        }
+        return !wordStart; // No trailing space
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c <= ' ' || Character.isWhitespace(c);
+    }
 
-        // Capitalize the first letter of each word
-        return Stream.of(name.split("\\s+"))
-                .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1))
-                .collect(Collectors.joining(" "));
+    /**
+     * Checks whether this team is equal to another object. Canonical team instances
+     * (see {@link TeamRegistry}) short-circuit on identity.
+     *
+     * @param o the object to compare with
+     * @return true if the other object is a team with the same name
+     */
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Team other && name.equals(other.name));
+    }
+
+    /**
+     * Returns the hash code of the team name.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return name.hashCode();
     }
 
     /**
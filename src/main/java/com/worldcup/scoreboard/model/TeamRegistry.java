@@ -0,0 +1,78 @@
+package com.worldcup.scoreboard.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizing registry of {@link Team} instances.
+ * <p>
+ * Returns the same {@code Team} instance for all raw names that format to the same team
+ * name, e.g. "san marino" and "SAN MARINO". Raw names seen before are resolved with a
+ * single hash lookup, without formatting or allocating. Equality checks between
+ * registered teams then short-circuit on identity.
+ * <p>
+ * The registry is thread-safe. It keeps every team and raw spelling it has seen, which
+ * is intended for the bounded set of team names of a competition.
+ */
+public class TeamRegistry {
+    private final ConcurrentMap<String, Team> teamsByRawName;
+    private final ConcurrentMap<String, Team> teamsByName;
+
+    /**
+     * Constructs an empty team registry.
+     */
+    public TeamRegistry() {
+        this.teamsByRawName = new ConcurrentHashMap<>();
+        this.teamsByName = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the canonical team for the given raw name, creating it on first use.
+     *
+     * @param rawName the raw team name (must not be null or empty)
+     * @return the canonical team instance
+     * @throws IllegalArgumentException if the name is invalid
+     */
+    public Team get(String rawName) {
+        if (rawName == null) {
+            throw new IllegalArgumentException("Name cannot be empty.");
+        }
+
+        Team team = teamsByRawName.get(rawName);
+        if (team != null) {
+            return team;
+        }
+
+        Team created = new Team(rawName);
+        Team existing = teamsByName.putIfAbsent(created.name(), created);
+        team = existing != null ? existing : created;
+        teamsByRawName.putIfAbsent(rawName, team);
+        return team;
+    }
+
+    /**
+     * Returns the canonical team for the given raw name without registering it, e.g. for
+     * lookups by arbitrary names, which must not grow the registry.
+     *
+     * @param rawName the raw team name (must not be null or empty)
+     * @return the canonical team instance, or null if no team with this name is registered
+     * @throws IllegalArgumentException if the name is invalid
+     */
+    public Team find(String rawName) {
+        if (rawName == null) {
+            throw new IllegalArgumentException("Name cannot be empty.");
+        }
+
+        Team team = teamsByRawName.get(rawName);
+        return team != null ? team : teamsByName.get(new Team(rawName).name());
+    }
+
+    /**
+     * Returns the number of distinct teams in the registry.
+     *
+     * @return the number of teams
+     */
+    public int size() {
+        return teamsByName.size();
+    }
+}
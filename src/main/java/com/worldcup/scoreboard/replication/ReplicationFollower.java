@@ -0,0 +1,311 @@
+package com.worldcup.scoreboard.replication;
+
+import com.worldcup.scoreboard.Scoreboard;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.worldcup.scoreboard.replication.ReplicationProtocol.*;
+
+/**
+ * Follower side of scoreboard replication: keeps a local {@link Scoreboard} in sync with a
+ * {@link ReplicationLeader} for serving reads.
+ * <p>
+ * A receiver thread connects to the leader, loads a snapshot if the leader asks for one,
+ * and applies the streamed changes in log order, giving replicated matches the start times
+ * they have on the leader. When the connection drops, the receiver reconnects and resumes
+ * from the last applied sequence, or loads a fresh snapshot if the leader no longer holds
+ * that part of the log. Loading a snapshot replaces the follower's scoreboard, so readers
+ * should get it from {@link #getScoreboard()} rather than keep it.
+ * <p>
+ * The follower's scoreboard must not be changed directly, as those changes would not be
+ * replicated and would make it diverge. Example usage:
+ * <pre>
+ * ReplicationFollower follower = ReplicationFollower.connect(new InetSocketAddress("localhost", 7070));
+ *
+ * String summary = follower.getScoreboard().getSummary();
+ * </pre>
+ */
+public class ReplicationFollower implements AutoCloseable {
+    /**
+     * The delay before reconnecting after the connection to the leader dropped.
+     */
+    static final Duration RECONNECT_DELAY = Duration.ofMillis(200);
+
+    private final InetSocketAddress leaderAddress;
+    private final Object progress;
+    private final Map<Long, Match> matches;
+    private final Map<Long, Long> snapshotSequences;
+    private Thread receiver;
+    private volatile ScoreboardService service;
+    private volatile Scoreboard scoreboard;
+    private volatile Socket socket;
+    private volatile boolean connected;
+    private volatile boolean closed;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile long lastLagNanos;
+    private volatile long maxLagNanos;
+    private volatile long appliedRecords;
+    private volatile long snapshots;
+    private long epoch;
+    private long nextStartNanos;
+
+    private ReplicationFollower(InetSocketAddress leaderAddress) {
+        this.leaderAddress = leaderAddress;
+        this.progress = new Object();
+        this.matches = new HashMap<>();
+        this.snapshotSequences = new HashMap<>();
+        this.service = new ScoreboardService(ScoreboardService.DEFAULT_HISTORY_SIZE, () -> nextStartNanos);
+        this.scoreboard = new Scoreboard(service);
+    }
+
+    /**
+     * Starts following the leader at the given address. Returns immediately; the follower
+     * connects, and keeps reconnecting, in the background.
+     *
+     * @param leaderAddress the address of the leader (non-null)
+     * @return the follower
+     * @throws IllegalArgumentException if leaderAddress is null
+     */
+    public static ReplicationFollower connect(InetSocketAddress leaderAddress) {
+        if (leaderAddress == null) {
+            throw new IllegalArgumentException("Leader address cannot be null");
+        }
+        ReplicationFollower follower = new ReplicationFollower(leaderAddress);
+        follower.receiver = Thread.ofPlatform().name("scoreboard-replication-follower").daemon()
+                .start(follower::receiveLoop);
+        return follower;
+    }
+
+    /**
+     * Returns the replicated scoreboard, for reads only.
+     *
+     * @return the current scoreboard
+     */
+    public Scoreboard getScoreboard() {
+        return scoreboard;
+    }
+
+    /**
+     * Returns the service behind the replicated scoreboard, for reads only.
+     *
+     * @return the current service
+     */
+    public ScoreboardService getService() {
+        return service;
+    }
+
+    /**
+     * Returns the progress and lag of this follower.
+     *
+     * @return the replication statistics
+     */
+    public ReplicationStats getStats() {
+        return new ReplicationStats(connected, appliedSequence, leaderSequence, lastLagNanos, maxLagNanos,
+                appliedRecords, snapshots);
+    }
+
+    /**
+     * Waits until the follower has applied the leader's log up to the given sequence, e.g.
+     * the {@link ReplicationLeader#getSequence()} read after a change on the leader.
+     *
+     * @param sequence the log sequence to wait for
+     * @param timeout the maximum time to wait (non-null)
+     * @return true if the sequence was applied, false if the timeout elapsed first
+     * @throws IllegalArgumentException if timeout is null
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitSequence(long sequence, Duration timeout) throws InterruptedException {
+        if (timeout == null) {
+            throw new IllegalArgumentException("Timeout cannot be null");
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (progress) {
+            while (appliedSequence < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                progress.wait(Math.max(1, remaining / 1_000_000));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Disconnects from the leader and stops following it. The scoreboard keeps its last state.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        Socket current = socket;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // Closing anyway
+            }
+        }
+        receiver.interrupt();
+        try {
+            receiver.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Follows the leader, reconnecting after every dropped connection until closed.
+     */
+    private void receiveLoop() {
+        while (!closed) {
+            try (Socket connection = new Socket()) {
+                socket = connection;
+                if (closed) {
+                    return; // Closed while not connected
+                }
+                connection.connect(leaderAddress);
+                connection.setTcpNoDelay(true);
+                follow(connection);
+            } catch (IOException e) {
+                // Leader unreachable or connection dropped
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                epoch = 0; // Diverged from the leader, resynchronize from a snapshot
+            } finally {
+                connected = false;
+            }
+            try {
+                Thread.sleep(RECONNECT_DELAY);
+            } catch (InterruptedException e) {
+                return; // Closed
+            }
+        }
+    }
+
+    private void follow(Socket connection) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+        out.writeInt(MAGIC);
+        out.writeLong(epoch);
+        out.writeLong(epoch == 0 ? -1 : appliedSequence);
+        out.flush();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream(), 1 << 16));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replication leader: " + leaderAddress);
+        }
+        long leaderEpoch = in.readLong();
+        if (in.readByte() == SNAPSHOT) {
+            loadSnapshot(in);
+            epoch = leaderEpoch;
+        }
+        connected = true;
+        while (true) {
+            if (in.available() == 0) {
+                synchronized (progress) {
+                    progress.notifyAll(); // Caught up with everything received so far
+                }
+            }
+            apply(in);
+        }
+    }
+
+    /**
+     * Replaces the scoreboard with one restored from the snapshot sent by the leader.
+     */
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        long snapshotSequence = in.readLong();
+        int count = in.readInt();
+        List<MatchState> states = new ArrayList<>(count);
+        long[] ids = new long[count];
+        long[] sequences = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = in.readLong();
+            sequences[i] = in.readLong();
+            Team homeTeam = new Team(in.readUTF());
+            Team awayTeam = new Team(in.readUTF());
+            int homeScore = in.readInt();
+            int awayScore = in.readInt();
+            LocalDateTime startTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            states.add(new MatchState(homeTeam, awayTeam, homeScore, awayScore, startTime));
+        }
+
+        ScoreboardService restored = ScoreboardService.restore(states, () -> nextStartNanos);
+        List<Match> restoredMatches = restored.getMatches(); // In start order, like the states
+        matches.clear();
+        snapshotSequences.clear();
+        for (int i = 0; i < count; i++) {
+            matches.put(ids[i], restoredMatches.get(i));
+            snapshotSequences.put(ids[i], sequences[i]);
+        }
+        service = restored;
+        scoreboard = new Scoreboard(restored);
+        leaderSequence = Math.max(leaderSequence, snapshotSequence);
+        snapshots++;
+        appliedSequence = snapshotSequence;
+    }
+
+    /**
+     * Reads one record and applies it. Changes already contained in the snapshot are skipped.
+     */
+    private void apply(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        if (type == HEARTBEAT) {
+            leaderSequence = in.readLong();
+            in.readLong(); // Timestamp
+            return;
+        }
+
+        long sequence = in.readLong();
+        long timestamp = in.readLong();
+        long matchId = in.readLong();
+        if (type == MATCH_STARTED) {
+            String homeTeam = in.readUTF();
+            String awayTeam = in.readUTF();
+            nextStartNanos = startEpochNanos(in.readLong(), in.readInt());
+            if (!matches.containsKey(matchId)) {
+                matches.put(matchId, service.startMatch(new Team(homeTeam), new Team(awayTeam)));
+            }
+        } else if (type == SCORE_UPDATED) {
+            int homeScore = in.readInt();
+            int awayScore = in.readInt();
+            Match match = matches.get(matchId);
+            if (match != null && sequence > snapshotSequences.getOrDefault(matchId, 0L)) {
+                service.updateScore(match, homeScore, awayScore);
+            }
+        } else if (type == MATCH_FINISHED) {
+            Match match = matches.remove(matchId);
+            snapshotSequences.remove(matchId);
+            if (match != null) {
+                service.finishMatch(match);
+            }
+        } else {
+            throw new IOException("Unknown replication record type " + type);
+        }
+
+        long lag = epochNanos() - timestamp;
+        lastLagNanos = lag;
+        if (lag > maxLagNanos) {
+            maxLagNanos = lag;
+        }
+        appliedRecords++;
+        leaderSequence = Math.max(leaderSequence, sequence);
+        appliedSequence = sequence;
+    }
+}
@@ -0,0 +1,381 @@
+package com.worldcup.scoreboard.replication;
+
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.service.ScoreboardListener;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.worldcup.scoreboard.replication.ReplicationProtocol.*;
+
+/**
+ * Leader side of scoreboard replication: streams the ordered mutation log of a
+ * {@link ScoreboardService} over TCP to any number of {@link ReplicationFollower}s.
+ * <p>
+ * Every match start, score update and finish is numbered with the next log sequence and
+ * kept in an in-memory backlog of the most recent records. Mutations only append to the
+ * backlog; each follower connection is served by its own virtual thread, which sends the
+ * records the follower has not seen yet, so a slow follower never delays the board. A
+ * follower that reconnects within the backlog resumes from the log tail. A new follower,
+ * a follower of an earlier leader, or one that has fallen behind the backlog first
+ * receives a snapshot of all in-progress matches and then the tail after it. Idle
+ * connections get a heartbeat with the latest sequence, so followers can tell how far
+ * behind they are.
+ * <p>
+ * Example usage:
+ * <pre>
+ * ReplicationLeader leader = ReplicationLeader.start(service, new InetSocketAddress(7070));
+ * </pre>
+ */
+public class ReplicationLeader implements ScoreboardListener, AutoCloseable {
+    /**
+     * The default number of most recent records kept for followers to resume from.
+     */
+    public static final int DEFAULT_BACKLOG = 64 * 1024;
+
+    /**
+     * The interval at which idle followers receive a heartbeat.
+     */
+    static final Duration HEARTBEAT_INTERVAL = Duration.ofMillis(100);
+
+    private static final int MAX_BATCH = 1024;
+
+    private final ScoreboardService service;
+    private final ServerSocket serverSocket;
+    private final long epoch;
+    private final LogRecord[] log;
+    private final int mask;
+    private final Map<Match, Long> matchSequences;
+    private final Set<Socket> followers;
+    private Thread acceptor;
+    private long lastSequence;
+    private volatile boolean closed;
+
+    private ReplicationLeader(ScoreboardService service, ServerSocket serverSocket, int backlog) {
+        this.service = service;
+        this.serverSocket = serverSocket;
+        this.epoch = ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        this.log = new LogRecord[Integer.highestOneBit(backlog - 1) << 1];
+        this.mask = log.length - 1;
+        this.matchSequences = new ConcurrentHashMap<>();
+        this.followers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Starts replicating the service to followers connecting to the given address, with
+     * the default backlog.
+     *
+     * @param service the service to replicate (non-null)
+     * @param address the address to listen on, port 0 for any free port (non-null)
+     * @return the running leader
+     * @throws IllegalArgumentException if service or address is null
+     * @throws IOException if the address cannot be bound
+     */
+    public static ReplicationLeader start(ScoreboardService service, InetSocketAddress address) throws IOException {
+        return start(service, address, DEFAULT_BACKLOG);
+    }
+
+    /**
+     * Starts replicating the service to followers connecting to the given address.
+     *
+     * @param service the service to replicate (non-null)
+     * @param address the address to listen on, port 0 for any free port (non-null)
+     * @param backlog the number of most recent records kept, rounded up to a power of two
+     *                (between 2 and 2^30)
+     * @return the running leader
+     * @throws IllegalArgumentException if service or address is null, or backlog is out of range
+     * @throws IOException if the address cannot be bound
+     */
+    public static ReplicationLeader start(ScoreboardService service, InetSocketAddress address, int backlog)
+            throws IOException {
+        if (service == null || address == null) {
+            throw new IllegalArgumentException("Service and address cannot be null");
+        }
+        if (backlog < 2 || backlog > 1 << 30) {
+            throw new IllegalArgumentException("Backlog must be between 2 and " + (1 << 30));
+        }
+
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        ReplicationLeader leader = new ReplicationLeader(service, serverSocket, backlog);
+        service.addListener(leader);
+        leader.acceptor = Thread.ofPlatform().name("scoreboard-replication-acceptor").daemon()
+                .start(leader::acceptLoop);
+        return leader;
+    }
+
+    /**
+     * Returns the address the leader listens on, with the actual port if port 0 was requested.
+     *
+     * @return the listening address
+     */
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    /**
+     * Returns the sequence of the most recent record, zero before the first change.
+     *
+     * @return the last log sequence
+     */
+    public long getSequence() {
+        synchronized (log) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * Returns the number of currently connected followers.
+     *
+     * @return the number of followers
+     */
+    public int getFollowerCount() {
+        return followers.size();
+    }
+
+    @Override
+    public void matchStarted(Match match) {
+        append(MATCH_STARTED, match, 0, 0);
+    }
+
+    @Override
+    public void scoreUpdated(Match match, int homeScore, int awayScore) {
+        append(SCORE_UPDATED, match, homeScore, awayScore);
+    }
+
+    @Override
+    public void matchFinished(Match match) {
+        append(MATCH_FINISHED, match, 0, 0);
+    }
+
+    /**
+     * Stops replicating and disconnects all followers.
+     */
+    @Override
+    public void close() {
+        service.removeListener(this);
+        synchronized (log) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            log.notifyAll();
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Closing anyway
+        }
+        for (Socket follower : followers) {
+            closeQuietly(follower);
+        }
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Numbers a change and appends it to the backlog. Called while holding the lock of the
+     * match, so the changes of a match are numbered in the order they were applied.
+     */
+    private void append(byte type, Match match, int homeScore, int awayScore) {
+        long timestamp = epochNanos();
+        synchronized (log) {
+            long sequence = ++lastSequence;
+            log[(int) (sequence & mask)] = new LogRecord(sequence, timestamp, type, match, homeScore, awayScore);
+            if (type == MATCH_FINISHED) {
+                matchSequences.remove(match);
+            } else {
+                matchSequences.put(match, sequence);
+            }
+            log.notifyAll();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                followers.add(socket);
+                Thread.ofVirtual().name("scoreboard-replication-sender").start(() -> serve(socket));
+            } catch (IOException e) {
+                // Closed, or a failed connection attempt
+            }
+        }
+    }
+
+    /**
+     * Brings a follower up to date and streams the log to it until it disconnects or falls
+     * behind the backlog.
+     */
+    private void serve(Socket socket) {
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 1 << 16));
+            if (in.readInt() != MAGIC) {
+                return;
+            }
+            long followerEpoch = in.readLong();
+            long followerSequence = in.readLong();
+            out.writeInt(MAGIC);
+            out.writeLong(epoch);
+
+            long sent;
+            synchronized (log) {
+                sent = followerEpoch == epoch && followerSequence <= lastSequence
+                        && followerSequence >= lastSequence - log.length ? followerSequence : -1;
+            }
+            if (sent >= 0) {
+                out.writeByte(RESUME);
+            } else {
+                out.writeByte(SNAPSHOT);
+                sent = writeSnapshot(out);
+            }
+            stream(out, sent);
+        } catch (IOException e) {
+            // Follower disconnected or fell behind; it reconnects on its own
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            followers.remove(socket);
+        }
+    }
+
+    /**
+     * Writes all in-progress matches with the sequence of their latest change.
+     *
+     * @return the sequence the snapshot covers; later records follow as the log tail
+     */
+    private long writeSnapshot(DataOutputStream out) throws IOException {
+        long snapshotSequence;
+        synchronized (log) {
+            snapshotSequence = lastSequence;
+        }
+
+        // Captured after the sequence, so it covers every record up to it; later changes
+        // already captured are skipped by the follower by their per-match sequence
+        List<Match> matches = service.getSnapshot().matches();
+        List<LogRecord> states = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            synchronized (match) {
+                if (match.isInProgress()) {
+                    states.add(new LogRecord(matchSequences.getOrDefault(match, 0L), 0, SCORE_UPDATED, match,
+                            match.getHomeScore(), match.getAwayScore()));
+                }
+            }
+        }
+
+        out.writeLong(snapshotSequence);
+        out.writeInt(states.size());
+        for (LogRecord state : states) {
+            out.writeLong(state.match().getId());
+            out.writeLong(state.sequence());
+            out.writeUTF(state.match().getHomeTeam().name());
+            out.writeUTF(state.match().getAwayTeam().name());
+            out.writeInt(state.homeScore());
+            out.writeInt(state.awayScore());
+            writeStartTime(out, state.match());
+        }
+        return snapshotSequence;
+    }
+
+    /**
+     * Sends the records after the given sequence as they are appended, and heartbeats while idle.
+     */
+    private void stream(DataOutputStream out, long sent) throws IOException, InterruptedException {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH);
+        long heartbeatMillis = HEARTBEAT_INTERVAL.toMillis();
+        while (true) {
+            long leaderSequence;
+            synchronized (log) {
+                if (lastSequence == sent && !closed) {
+                    log.wait(heartbeatMillis);
+                }
+                if (closed) {
+                    return;
+                }
+                if (sent < lastSequence - log.length) {
+                    throw new IOException("Follower fell behind the backlog");
+                }
+                for (long sequence = sent + 1; sequence <= lastSequence && batch.size() < MAX_BATCH; sequence++) {
+                    batch.add(log[(int) (sequence & mask)]);
+                }
+                leaderSequence = lastSequence;
+            }
+
+            if (batch.isEmpty()) {
+                out.writeByte(HEARTBEAT);
+                out.writeLong(leaderSequence);
+                out.writeLong(epochNanos());
+            }
+            for (LogRecord record : batch) {
+                writeRecord(out, record);
+                sent = record.sequence();
+            }
+            batch.clear();
+            out.flush();
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, LogRecord record) throws IOException {
+        out.writeByte(record.type());
+        out.writeLong(record.sequence());
+        out.writeLong(record.timestamp());
+        out.writeLong(record.match().getId());
+        if (record.type() == MATCH_STARTED) {
+            out.writeUTF(record.match().getHomeTeam().name());
+            out.writeUTF(record.match().getAwayTeam().name());
+            writeStartTime(out, record.match());
+        } else if (record.type() == SCORE_UPDATED) {
+            out.writeInt(record.homeScore());
+            out.writeInt(record.awayScore());
+        }
+    }
+
+    private static void writeStartTime(DataOutputStream out, Match match) throws IOException {
+        LocalDateTime startTime = match.getStartTime();
+        out.writeLong(startTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(startTime.getNano());
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already broken
+        }
+    }
+
+    /**
+     * A numbered change of the log, or the state of a match in a snapshot together with the
+     * sequence of its latest change.
+     *
+     * @param sequence the log sequence
+     * @param timestamp the time the change was logged, in epoch nanoseconds
+     * @param type the record type
+     * @param match the changed match
+     * @param homeScore the new home score of an update
+     * @param awayScore the new away score of an update
+     */
+    private record LogRecord(long sequence, long timestamp, byte type, Match match, int homeScore, int awayScore) {
+    }
+}
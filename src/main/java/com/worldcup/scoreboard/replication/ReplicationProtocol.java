@@ -0,0 +1,58 @@
+package com.worldcup.scoreboard.replication;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Constants and helpers of the replication protocol between {@link ReplicationLeader} and
+ * {@link ReplicationFollower}.
+ * <p>
+ * A follower opens the connection with the magic number, the epoch of the leader it last
+ * followed and the last sequence it applied. The leader answers with the magic number and
+ * its epoch, then either {@link #RESUME}, if the follower can continue from the log tail,
+ * or {@link #SNAPSHOT} followed by the snapshot sequence and all in-progress matches. After
+ * that the leader streams records, each starting with its type:
+ * <ul>
+ *     <li>{@link #MATCH_STARTED}: sequence, timestamp, match id, team names, start time</li>
+ *     <li>{@link #SCORE_UPDATED}: sequence, timestamp, match id, home and away score</li>
+ *     <li>{@link #MATCH_FINISHED}: sequence, timestamp, match id</li>
+ *     <li>{@link #HEARTBEAT}: last sequence of the leader, timestamp</li>
+ * </ul>
+ * Timestamps are epoch nanoseconds of the leader's wall clock; start times are sent as
+ * epoch seconds and nanoseconds of the local date-time, like in a scoreboard snapshot.
+ */
+final class ReplicationProtocol {
+    static final int MAGIC = 0x53435250; // "SCRP"
+
+    static final byte RESUME = 1;
+    static final byte SNAPSHOT = 2;
+
+    static final byte MATCH_STARTED = 1;
+    static final byte SCORE_UPDATED = 2;
+    static final byte MATCH_FINISHED = 3;
+    static final byte HEARTBEAT = 4;
+
+    private ReplicationProtocol() {
+    }
+
+    /**
+     * Returns the current wall clock time in epoch nanoseconds, comparable across processes
+     * on the same machine.
+     */
+    static long epochNanos() {
+        Instant now = Instant.now();
+        return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
+
+    /**
+     * Converts a start time received from the leader into the epoch nanoseconds reported by
+     * the follower's match clock, so the replicated match gets the same start time.
+     */
+    static long startEpochNanos(long localEpochSecond, int nano) {
+        Instant instant = LocalDateTime.ofEpochSecond(localEpochSecond, nano, ZoneOffset.UTC)
+                .atZone(ZoneId.systemDefault()).toInstant();
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+}
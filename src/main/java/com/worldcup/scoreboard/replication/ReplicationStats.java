@@ -0,0 +1,25 @@
+package com.worldcup.scoreboard.replication;
+
+/**
+ * Progress and lag of a {@link ReplicationFollower}. This is an immutable record class,
+ * meaning its state cannot be modified after creation.
+ *
+ * @param connected whether the follower is currently connected to the leader
+ * @param appliedSequence the log sequence of the last applied change
+ * @param leaderSequence the latest log sequence the leader has announced
+ * @param lastLagNanos the time between the leader logging and the follower applying the last change
+ * @param maxLagNanos the largest such time seen so far
+ * @param appliedRecords the number of changes applied from the log
+ * @param snapshots the number of snapshots loaded, one per full resynchronization
+ */
+public record ReplicationStats(boolean connected, long appliedSequence, long leaderSequence, long lastLagNanos,
+                               long maxLagNanos, long appliedRecords, long snapshots) {
+    /**
+     * Returns the number of changes the leader has announced but the follower has not applied yet.
+     *
+     * @return the lag in log records
+     */
+    public long sequenceLag() {
+        return Math.max(0, leaderSequence - appliedSequence);
+    }
+}
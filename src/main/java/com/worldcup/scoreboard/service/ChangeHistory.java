@@ -0,0 +1,117 @@
+package com.worldcup.scoreboard.service;
+
+import com.worldcup.scoreboard.model.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded history of the changes behind the most recent board versions.
+ * <p>
+ * A ring buffer holds one slot per version, overwriting the oldest version once full. Writers
+ * record a version right after bumping it, without taking a lock, and never replace a slot
+ * that already holds a newer version. A reader that reaches a version whose slot has not
+ * been written yet waits briefly for the writer, which is about to write it; a slot that
+ * has already been overwritten by a newer version, or a writer that does not record in
+ * time, means the history cannot answer and the caller falls back to a full summary.
+ */
+final class ChangeHistory {
+    /**
+     * The longest time a reader waits for a bumped version to be recorded.
+     */
+    static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+
+    /**
+     * Creates a history remembering at least the given number of versions.
+     *
+     * @param capacity the minimum number of versions to remember (positive)
+     */
+    ChangeHistory(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of versions this history can remember.
+     *
+     * @return the capacity in versions
+     */
+    int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * Records the changes that make up a version.
+     *
+     * @param version the version, just bumped by the caller
+     * @param changes the changes applied in that version
+     */
+    void record(long version, List<Change> changes) {
+        // A slow writer must not put an older version back into a slot a newer one already took
+        slots.accumulateAndGet((int) (version & mask), new Entry(version, changes),
+                (current, recorded) -> current != null && current.version > recorded.version ? current : recorded);
+    }
+
+    /**
+     * Collects the changes of all versions after {@code fromVersion} up to and including
+     * {@code toVersion}, in version order.
+     *
+     * @param fromVersion the last version already seen
+     * @param toVersion the latest published version
+     * @return the changes, or null if the history does not reach back to fromVersion or a
+     *         version in the range was not recorded in time
+     */
+    List<Change> changesBetween(long fromVersion, long toVersion) {
+        if (toVersion - fromVersion > slots.length()) {
+            return null;
+        }
+
+        List<Change> changes = new ArrayList<>();
+        long deadline = 0;
+        for (long version = fromVersion + 1; version <= toVersion; version++) {
+            int slot = (int) (version & mask);
+            Entry entry = slots.get(slot);
+            while (entry == null || entry.version < version) {
+                // Bumped, but not recorded yet
+                if (deadline == 0) {
+                    deadline = System.nanoTime() + MAX_WAIT_NANOS;
+                } else if (System.nanoTime() - deadline > 0) {
+                    return null;
+                }
+                Thread.onSpinWait();
+                entry = slots.get(slot);
+            }
+            if (entry.version > version) {
+                return null; // Overwritten while collecting
+            }
+            changes.addAll(entry.changes);
+        }
+        return changes;
+    }
+
+    /**
+     * The kind of a recorded change.
+     */
+    enum Kind {
+        STARTED, SCORED, FINISHED
+    }
+
+    /**
+     * A single change to a match.
+     *
+     * @param kind the kind of change
+     * @param match the changed match
+     * @param previousTotal the total score before a score change, unused for other kinds
+     */
+    record Change(Kind kind, Match match, int previousTotal) {
+    }
+
+    private record Entry(long version, List<Change> changes) {
+    }
+}
@@ -0,0 +1,326 @@
+package com.worldcup.scoreboard.service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable order-statistic map over unique, comparable keys.
+ * <p>
+ * Implemented as a persistent treap whose nodes track their subtree size, so finding a key,
+ * the rank of a key and the entry at a given rank all take O(log n) expected time. Changes
+ * never modify an index; they return a new one that copies only the O(log n) nodes on the
+ * changed path and shares all others. Any number of threads can therefore read an index
+ * without locking while writers derive and publish newer ones, e.g. by compare-and-set on
+ * a reference to the current index.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+final class RankIndex<K extends Comparable<K>, V> {
+    /**
+     * Random priorities stay below this bound, so nodes built in bulk always sit above them.
+     */
+    private static final int MAX_RANDOM_PRIORITY = Integer.MAX_VALUE - 64;
+
+    private static final RankIndex<?, ?> EMPTY = new RankIndex<>(null);
+
+    private final Node<K, V> root;
+
+    private RankIndex(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty index.
+     *
+     * @return an index without keys
+     */
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<K>, V> RankIndex<K, V> empty() {
+        return (RankIndex<K, V>) EMPTY;
+    }
+
+    /**
+     * Creates an index holding the given entries in linear time.
+     *
+     * @param sortedKeys the keys, in ascending order without duplicates
+     * @param values the value of each key, at the same position
+     * @return the new index
+     */
+    static <K extends Comparable<K>, V> RankIndex<K, V> build(K[] sortedKeys, V[] values) {
+        return new RankIndex<>(build(sortedKeys, values, 0, sortedKeys.length, 0));
+    }
+
+    /**
+     * Returns an index that maps the key to the value, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the changed index
+     */
+    RankIndex<K, V> put(K key, V value) {
+        Node<K, V> replaced = replace(root, key, value);
+        if (replaced != null) {
+            return new RankIndex<>(replaced);
+        }
+        int priority = ThreadLocalRandom.current().nextInt(MAX_RANDOM_PRIORITY);
+        return new RankIndex<>(insert(root, new Node<>(key, value, priority, null, null)));
+    }
+
+    /**
+     * Returns an index without the key.
+     *
+     * @param key the key to remove
+     * @return the changed index, or this index if the key is missing
+     */
+    RankIndex<K, V> remove(K key) {
+        Node<K, V> removed = remove(root, key);
+        return removed == root ? this : new RankIndex<>(removed);
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key
+     * @return the value, or null if the key is missing
+     */
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the key at the given zero-based rank.
+     *
+     * @param rank the rank of the key
+     * @return the value, or null if the rank is out of range
+     */
+    V select(long rank) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node.value;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the zero-based rank of a key, i.e. the number of smaller keys in the index.
+     *
+     * @param key the key
+     * @return the rank the key has, or would have if it were inserted
+     */
+    int rank(K key) {
+        int rank = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison == 0) {
+                return rank + size(node.left);
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     *
+     * @return the number of keys
+     */
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns an iterator over the values in key order, starting at the given rank. Locating
+     * the start takes O(log n), and every further value amortized constant time.
+     *
+     * @param fromRank the zero-based rank of the first value
+     * @return an iterator over the values from that rank on
+     */
+    Iterator<V> values(long fromRank) {
+        ArrayDeque<Node<K, V>> path = new ArrayDeque<>();
+        Node<K, V> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (fromRank <= leftSize) {
+                path.push(node); // Comes after the start, once its left subtree is done
+                if (fromRank == leftSize) {
+                    break;
+                }
+                node = node.left;
+            } else {
+                fromRank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public V next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<K, V> next = path.pop();
+                for (Node<K, V> child = next.right; child != null; child = child.left) {
+                    path.push(child);
+                }
+                return next.value;
+            }
+        };
+    }
+
+    private static <K extends Comparable<K>, V> Node<K, V> build(K[] keys, V[] values, int from, int to,
+                                                                int depth) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        // Balanced by construction; priorities decrease with depth to keep the heap order
+        return new Node<>(keys[middle], values[middle], Integer.MAX_VALUE - depth,
+                build(keys, values, from, middle, depth + 1), build(keys, values, middle + 1, to, depth + 1));
+    }
+
+    /**
+     * Copies the path to the key with the new value, or returns null if the key is missing.
+     */
+    private static <K extends Comparable<K>, V> Node<K, V> replace(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            return new Node<>(key, value, node.priority, node.left, node.right);
+        }
+        if (comparison < 0) {
+            Node<K, V> left = replace(node.left, key, value);
+            return left == null ? null : node.withLeft(left);
+        }
+        Node<K, V> right = replace(node.right, key, value);
+        return right == null ? null : node.withRight(right);
+    }
+
+    /**
+     * Inserts a node with a key that is not in the subtree yet.
+     */
+    private static <K extends Comparable<K>, V> Node<K, V> insert(Node<K, V> node, Node<K, V> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Split<K, V> split = split(node, inserted.key);
+            return new Node<>(inserted.key, inserted.value, inserted.priority, split.left, split.right);
+        }
+        return inserted.key.compareTo(node.key) < 0
+                ? node.withLeft(insert(node.left, inserted))
+                : node.withRight(insert(node.right, inserted));
+    }
+
+    /**
+     * Removes a key from the subtree, returning the subtree itself if the key is missing.
+     */
+    private static <K extends Comparable<K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : node.withLeft(left);
+        }
+        Node<K, V> right = remove(node.right, key);
+        return right == node.right ? node : node.withRight(right);
+    }
+
+    /**
+     * Splits a subtree that does not contain the key into the keys before and after it.
+     */
+    private static <K extends Comparable<K>, V> Split<K, V> split(Node<K, V> node, K key) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (node.key.compareTo(key) < 0) {
+            Split<K, V> split = split(node.right, key);
+            return new Split<>(node.withRight(split.left), split.right);
+        }
+        Split<K, V> split = split(node.left, key);
+        return new Split<>(split.left, node.withLeft(split.right));
+    }
+
+    /**
+     * Merges two subtrees where every key of the left one precedes every key of the right one.
+     */
+    private static <K extends Comparable<K>, V> Node<K, V> merge(Node<K, V> left, Node<K, V> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            return left.withRight(merge(left.right, right));
+        }
+        return right.withLeft(merge(left, right.left));
+    }
+
+    private static int size(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final int priority;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int size;
+
+        private Node(K key, V value, int priority, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = 1 + RankIndex.size(left) + RankIndex.size(right);
+        }
+
+        private Node<K, V> withLeft(Node<K, V> left) {
+            return new Node<>(key, value, priority, left, right);
+        }
+
+        private Node<K, V> withRight(Node<K, V> right) {
+            return new Node<>(key, value, priority, left, right);
+        }
+    }
+
+    private record Split<K, V>(Node<K, V> left, Node<K, V> right) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.worldcup.scoreboard.service;
+
+import com.worldcup.scoreboard.model.Match;
+
+/**
+ * Callback notified about every change applied to a {@link ScoreboardService}.
+ * <p>
+ * Notifications are made synchronously on the thread performing the change, after it has
+ * been published on the board and the board version has been bumped, so
+ * {@link ScoreboardService#getVersion()} already reflects it. Updates applied by
+ * {@link ScoreboardService#updateScores} are notified once the whole batch has been
+ * published. Changes to a single match, starting with its start, are delivered in order
+ * while holding the lock of that match, and match starts are delivered in start order. Listeners should
+ * return quickly, as they delay the mutation they are notified about.
+ * <p>
+ * Every change is first reported to the overload taking the board version it was published
+ * at, which by default forwards to the overload without it. Listeners that need the version
+ * override the former, as {@link ScoreboardService#getVersion()} may already have moved on
+ * by the time they are notified.
+ */
+public interface ScoreboardListener {
+    /**
+     * Called after a match has been started and added to the board.
+     *
+     * @param match the started match
+     */
+    default void matchStarted(Match match) {
+    }
+
+    /**
+     * Called after a match has been started and added to the board, with the version of the
+     * first board holding it. Forwards to {@link #matchStarted(Match)} by default.
+     *
+     * @param version the board version the start was published at
+     * @param match the started match
+     */
+    default void matchStarted(long version, Match match) {
+        matchStarted(match);
+    }
+
+    /**
+     * Called after the score of a match on the board has changed.
+     *
+     * @param match the rescored match
+     * @param homeScore the new home team score
+     * @param awayScore the new away team score
+     */
+    default void scoreUpdated(Match match, int homeScore, int awayScore) {
+    }
+
+    /**
+     * Called after the score of a match on the board has changed, with the version of the
+     * board holding the new score. Forwards to {@link #scoreUpdated(Match, int, int)} by default.
+     *
+     * @param version the board version the score was published at
+     * @param match the rescored match
+     * @param homeScore the new home team score
+     * @param awayScore the new away team score
+     */
+    default void scoreUpdated(long version, Match match, int homeScore, int awayScore) {
+        scoreUpdated(match, homeScore, awayScore);
+    }
+
+    /**
+     * Called after a rescored match has moved to a different position in the summary. Only
+     * the moved match is reported, not the matches it overtook or fell behind.
+     *
+     * @param match the moved match
+     * @param oldPosition the one-based summary position before the update
+     * @param newPosition the one-based summary position after the update
+     */
+    default void rankChanged(Match match, int oldPosition, int newPosition) {
+    }
+
+    /**
+     * Called after a rescored match has moved to a different position in the summary, with
+     * the version of the board holding the new position. Forwards to
+     * {@link #rankChanged(Match, int, int)} by default.
+     *
+     * @param version the board version the move was published at
+     * @param match the moved match
+     * @param oldPosition the one-based summary position before the update
+     * @param newPosition the one-based summary position after the update
+     */
+    default void rankChanged(long version, Match match, int oldPosition, int newPosition) {
+        rankChanged(match, oldPosition, newPosition);
+    }
+
+    /**
+     * Called after a match on the board has been finished.
+     *
+     * @param match the finished match
+     */
+    default void matchFinished(Match match) {
+    }
+
+    /**
+     * Called after a match on the board has been finished, with the version of the first
+     * board without it. Forwards to {@link #matchFinished(Match)} by default.
+     *
+     * @param version the board version the finish was published at
+     * @param match the finished match
+     */
+    default void matchFinished(long version, Match match) {
+        matchFinished(match);
+    }
+}
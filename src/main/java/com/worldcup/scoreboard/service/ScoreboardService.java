@@ -1,36 +1,265 @@
 package com.worldcup.scoreboard.service;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import com.worldcup.scoreboard.model.BoardSnapshot;
 import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.MatchListener;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.ScoreUpdate;
+import com.worldcup.scoreboard.model.ScoreUpdateResult;
+import com.worldcup.scoreboard.model.Summary;
+import com.worldcup.scoreboard.model.SummaryDelta;
+import com.worldcup.scoreboard.model.SummaryPage;
 import com.worldcup.scoreboard.model.Team;
 import com.worldcup.scoreboard.comparator.MatchComparator;
+import com.worldcup.scoreboard.metrics.Operation;
+import com.worldcup.scoreboard.metrics.ScoreboardMetrics;
 
 /**
  * Service for managing football match scoreboard operations.
  * <p>
  * Maintains a collection of matches and provides methods to start, update,
  * and finish matches, with validation for business rules.
+ * <p>
+ * The in-progress matches are published as an immutable board per version, holding every
+ * match with its scores in an ordered index following the {@link MatchComparator} contract
+ * and in start order. Both indexes are persistent {@link RankIndex}es: a change copies only
+ * the O(log n) nodes on its path, so generating a summary is a plain in-order walk without
+ * any sorting, and the top matches and any page of the summary can be read in time
+ * proportional to their size, independent of the board size.
+ * <p>
+ * The service is thread-safe. Writes lock only the match they touch and publish the next
+ * board by compare-and-set, so updates to different matches never wait for each other, and
+ * readers never take a lock at all. Every read works on a single published board, so it
+ * sees each change, including a whole {@link #updateScores batch}, either completely or not
+ * at all.
+ * <p>
+ * Every published board bumps the board version. The rendered summary
+ * is cached per version, so asking for a summary while nothing has changed returns the
+ * cached one in constant time without allocating. The changes behind the most recent
+ * versions are kept in a bounded history, so clients can ask for only what changed since
+ * the version they last saw. Every published board carries an immutable {@link BoardSnapshot}
+ * of all matches, a constant-size view of its indexes, so read-mostly callers share one
+ * ordered view of the board instead of each building their own.
+ * <p>
+ * Changes can be observed by registering a {@link ScoreboardListener}. Latencies and
+ * counters of the main operations are collected once {@link #enableMetrics()} has been
+ * called; until then, measuring costs a single volatile read per operation.
  */
 public class ScoreboardService {
-    private final List<Match> matches;
+    /**
+     * The default number of versions remembered for delta summaries. The history is
+     * allocated up front and keeps the matches of its versions reachable, so the default is
+     * small enough for many services; clients further behind get a full summary instead.
+     */
+    public static final int DEFAULT_HISTORY_SIZE = 1024;
+
+    /**
+     * The largest supported number of versions remembered for delta summaries.
+     */
+    public static final int MAX_HISTORY_SIZE = 1 << 30;
+
+    private final ConcurrentMap<Long, Match> matchesById;
+    private final ConcurrentMap<Team, Match> matchesByTeam;
+    private final AtomicReference<Board> board;
+    private final MatchListener matchListener;
+    private final ChangeHistory history;
+    private final ThreadLocal<Batch> currentBatch;
+    private final List<ScoreboardListener> listeners;
+    private final Object startLock;
+    private final MatchClock clock;
+    private volatile Summary cachedSummary;
+    private volatile ScoreboardMetrics metrics;
+
     /**
      * Constructs an empty scoreboard service.
      */
     public ScoreboardService() {
-        this.matches = new ArrayList<>();
+        this(List.of(), DEFAULT_HISTORY_SIZE, MatchClock.SYSTEM);
+    }
+
+    /**
+     * Constructs an empty scoreboard service that remembers the changes of the given number
+     * of most recent versions for delta summaries.
+     *
+     * @param historySize the number of versions to remember (between 1 and {@link #MAX_HISTORY_SIZE})
+     * @throws IllegalArgumentException if historySize is out of range
+     */
+    public ScoreboardService(int historySize) {
+        this(List.of(), historySize, MatchClock.SYSTEM);
+    }
+
+    /**
+     * Constructs an empty scoreboard service whose matches take their start times from the
+     * given clock, e.g. a deterministic one for tests or replays.
+     *
+     * @param historySize the number of versions to remember (between 1 and {@link #MAX_HISTORY_SIZE})
+     * @param clock the clock read when a match starts (non-null)
+     * @throws IllegalArgumentException if historySize is out of range or clock is null
+     */
+    public ScoreboardService(int historySize, MatchClock clock) {
+        this(List.of(), historySize, clock);
+    }
+
+    /**
+     * Constructs a scoreboard service holding the given restored matches.
+     *
+     * @param states the matches to restore, in start order
+     * @param historySize the number of versions to remember
+     * @param clock the clock read when a match starts
+     */
+    private ScoreboardService(List<MatchState> states, int historySize, MatchClock clock) {
+        if (historySize < 1 || historySize > MAX_HISTORY_SIZE) {
+            throw new IllegalArgumentException("History size must be between 1 and " + MAX_HISTORY_SIZE);
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        this.matchesById = new ConcurrentHashMap<>(Math.max(16, states.size() * 4 / 3 + 1));
+        this.matchesByTeam = new ConcurrentHashMap<>(Math.max(16, states.size() * 8 / 3 + 1));
+        this.matchListener = new MatchListener() {
+            @Override
+            public void scoreChanged(Match match) {
+                reindex(match);
+            }
+
+            @Override
+            public void matchFinished(Match match) {
+                // Leaves the board whether finished through the service or on the match itself
+                if (!matchesById.remove(match.getId(), match)) {
+                    return; // Not on this scoreboard
+                }
+                long version = publish(ChangeHistory.Kind.FINISHED, List.of(match)).after().version();
+                try {
+                    for (ScoreboardListener listener : listeners) {
+                        listener.matchFinished(version, match);
+                    }
+                } finally {
+                    // Freed only now, so listeners see this finish before any start of its teams,
+                    // and freed even if a listener fails
+                    matchesByTeam.remove(match.getHomeTeam(), match);
+                    matchesByTeam.remove(match.getAwayTeam(), match);
+                }
+            }
+        };
+        this.history = new ChangeHistory(historySize);
+        this.currentBatch = new ThreadLocal<>();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.startLock = new Object();
+
+        Match[] restored = new Match[states.size()];
+        for (int i = 0; i < restored.length; i++) {
+            MatchState state = states.get(i);
+            if (state == null) {
+                throw new IllegalArgumentException("Match state cannot be null");
+            }
+            if (state.homeTeam() != null && state.homeTeam().equals(state.awayTeam())) {
+                throw new IllegalArgumentException("Home and away teams cannot be the same");
+            }
+            restored[i] = new Match(state.homeTeam(), state.awayTeam(), state.homeScore(), state.awayScore(),
+                    state.startTime(), matchListener);
+        }
+        Long[] startSequences = new Long[restored.length];
+        ScoreLine[] startLines = new ScoreLine[restored.length];
+        for (int i = 0; i < restored.length; i++) {
+            Match match = restored[i];
+            startSequences[i] = match.getStartSequence();
+            startLines[i] = ScoreLine.of(match);
+            matchesById.put(match.getId(), match);
+            if (matchesByTeam.putIfAbsent(match.getHomeTeam(), match) != null
+                    || matchesByTeam.putIfAbsent(match.getAwayTeam(), match) != null) {
+                throw new IllegalArgumentException("A team cannot play in more than one restored match");
+            }
+        }
+        SortedLines ranking = SortedLines.of(restored);
+        // Both indexes are built in linear time from sorted input
+        Board restoredBoard = Board.of(0, RankIndex.build(ranking.keys, ranking.lines),
+                RankIndex.build(startSequences, startLines));
+        this.board = new AtomicReference<>(restoredBoard);
+        this.cachedSummary = restored.length == 0 ? new Summary(0, render(restoredBoard)) : null;
+    }
+
+    /**
+     * Creates a scoreboard service holding the given in-progress matches, e.g. as read from
+     * a snapshot. Matches keep their scores and start times, and their relative start order
+     * is the order of the list, so the summary ordering is preserved exactly, including the
+     * most-recently-started tie-break.
+     * <p>
+     * The ordered index is built in linear time for typical scores, which makes restoring
+     * very large boards fast.
+     *
+     * @param states the matches to restore, in start order (non-null)
+     * @return a new service holding the matches
+     * @throws IllegalArgumentException if states is null or contains an invalid match, or a
+     *                                  team plays in more than one match
+     */
+    public static ScoreboardService restore(List<MatchState> states) {
+        return restore(states, MatchClock.SYSTEM);
     }
 
     /**
-     * Starts a new match between two different teams.
+     * Creates a scoreboard service holding the given in-progress matches, like
+     * {@link #restore(List)}, whose subsequently started matches take their start times
+     * from the given clock.
+     *
+     * @param states the matches to restore, in start order (non-null)
+     * @param clock the clock read when a match starts (non-null)
+     * @return a new service holding the matches
+     * @throws IllegalArgumentException if states or clock is null, states contains an invalid
+     *                                  match, or a team plays in more than one match
+     */
+    public static ScoreboardService restore(List<MatchState> states, MatchClock clock) {
+        if (states == null) {
+            throw new IllegalArgumentException("Match states cannot be null");
+        }
+        return new ScoreboardService(states, DEFAULT_HISTORY_SIZE, clock);
+    }
+
+    /**
+     * Starts a new match between two different teams. A team can only play in one
+     * in-progress match at a time, which is checked in constant time against a team index.
      *
      * @param homeTeam the home team (non-null)
      * @param awayTeam the away team (non-null)
      * @return the created match
      * @throws IllegalArgumentException if either team is null
      * @throws IllegalArgumentException if both teams are the same
+     * @throws IllegalStateException if either team is already playing in an in-progress match
      */
     public Match startMatch(Team homeTeam, Team awayTeam) {
+        ScoreboardMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return start(homeTeam, awayTeam);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            Match match = start(homeTeam, awayTeam);
+            metrics.recordSuccess(Operation.START_MATCH, startNanos);
+            return match;
+        } catch (RuntimeException e) {
+            metrics.recordError(Operation.START_MATCH);
+            throw e;
+        }
+    }
+
+    private Match start(Team homeTeam, Team awayTeam) {
         if (homeTeam == null || awayTeam == null) {
             throw new IllegalArgumentException("Teams cannot be null");
         }
@@ -39,9 +268,27 @@ public class ScoreboardService {
             throw new IllegalArgumentException("Home and away teams cannot be the same");
         }
 
-        Match match = new Match(homeTeam, awayTeam);
-        matches.add(match);
-        return match;
+        // Starts are serialized, so listeners see them in start sequence order and no team
+        // can slip into a second match between the check and the insert
+        synchronized (startLock) {
+            if (matchesByTeam.containsKey(homeTeam) || matchesByTeam.containsKey(awayTeam)) {
+                throw new IllegalStateException("Team "
+                        + (matchesByTeam.containsKey(homeTeam) ? homeTeam : awayTeam) + " is already playing");
+            }
+            Match match = new Match(homeTeam, awayTeam, clock, matchListener);
+            // Held until listeners have seen the start, so a writer that finds the match by
+            // id or team cannot get a change of it notified first
+            synchronized (match) {
+                matchesById.put(match.getId(), match); // First, so a match found by team passes validation
+                matchesByTeam.put(homeTeam, match);
+                matchesByTeam.put(awayTeam, match);
+                long version = publish(ChangeHistory.Kind.STARTED, List.of(match)).after().version();
+                for (ScoreboardListener listener : listeners) {
+                    listener.matchStarted(version, match);
+                }
+            }
+            return match;
+        }
     }
 
     /**
@@ -54,15 +301,157 @@ public class ScoreboardService {
      * @throws IllegalStateException if match is not in progress or not found
      */
     public void updateScore(Match match, int homeScore, int awayScore) {
+        ScoreboardMetrics metrics = this.metrics;
+        if (metrics == null) {
+            validateUpdate(match);
+            match.updateScore(homeScore, awayScore);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            validateUpdate(match);
+            match.updateScore(homeScore, awayScore);
+            metrics.recordSuccess(Operation.UPDATE_SCORE, startNanos);
+        } catch (RuntimeException e) {
+            metrics.recordError(Operation.UPDATE_SCORE);
+            throw e;
+        }
+    }
+
+    /**
+     * Updates the score for an in-progress match identified by its id.
+     *
+     * @param matchId the id of the match to update
+     * @param homeScore new home team score
+     * @param awayScore new away team score
+     * @throws IllegalArgumentException if a score is negative
+     * @throws IllegalStateException if no in-progress match with this id is on the scoreboard
+     */
+    public void updateScore(long matchId, int homeScore, int awayScore) {
+        Match match = matchesById.get(matchId);
+        if (match == null) {
+            ScoreboardMetrics metrics = this.metrics;
+            if (metrics != null) {
+                metrics.recordError(Operation.UPDATE_SCORE);
+            }
+            throw new IllegalStateException("Match is not in progress or not found on the scoreboard");
+        }
+        updateScore(match, homeScore, awayScore);
+    }
+
+    /**
+     * Gets the match with the given id, in constant time.
+     *
+     * @param matchId the id of the match
+     * @return the match, or null if no match with this id is on the scoreboard
+     */
+    public Match getMatch(long matchId) {
+        return matchesById.get(matchId);
+    }
+
+    /**
+     * Gets the in-progress match a team is playing in, in constant time.
+     *
+     * @param team the team, home or away
+     * @return the match, or null if the team is not playing
+     */
+    public Match findMatchByTeam(Team team) {
+        return team == null ? null : matchesByTeam.get(team);
+    }
+
+    /**
+     * Applies a batch of score updates in one call.
+     * <p>
+     * All updates are validated first; invalid ones are reported in the result and do not
+     * abort the batch. The valid updates are then applied in batch order and published
+     * together as a single new board version, so readers see either none or all of them and
+     * the summary is re-rendered at most once per batch. If a match appears more than once,
+     * its last update wins. Listeners are notified once the whole batch has been published.
+     * <p>
+     * Only a concurrent writer of one of the same matches can make a score of the batch
+     * visible early, as its own change publishes the latest scores of that match.
+     *
+     * @param updates the updates to apply (non-null, entries may not be null)
+     * @return the number of applied updates and the rejected ones
+     * @throws IllegalArgumentException if updates is null
+     */
+    public ScoreUpdateResult updateScores(Collection<ScoreUpdate> updates) {
+        if (updates == null) {
+            throw new IllegalArgumentException("Updates cannot be null");
+        }
+
+        // Validate every entry before applying any of them
+        List<ScoreUpdateResult.Failure> failures = new ArrayList<>();
+        List<ScoreUpdate> valid = new ArrayList<>(updates.size());
+        List<Integer> validIndexes = new ArrayList<>(updates.size());
+        int index = 0;
+        for (ScoreUpdate update : updates) {
+            try {
+                if (update == null) {
+                    throw new IllegalArgumentException("Update cannot be null");
+                }
+                validateUpdate(update.match());
+                if (update.homeScore() < 0 || update.awayScore() < 0) {
+                    throw new IllegalArgumentException("Scores cannot be negative");
+                }
+                valid.add(update);
+                validIndexes.add(index);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                failures.add(new ScoreUpdateResult.Failure(index, update, e));
+            }
+            index++;
+        }
+
+        // Apply the valid entries, then publish them all as a single board
+        Batch batch = new Batch();
+        currentBatch.set(batch);
+        int applied = 0;
+        try {
+            for (int i = 0; i < valid.size(); i++) {
+                ScoreUpdate update = valid.get(i);
+                try {
+                    update.match().updateScore(update.homeScore(), update.awayScore());
+                    applied++;
+                } catch (IllegalStateException e) {
+                    // Finished concurrently after validation
+                    failures.add(new ScoreUpdateResult.Failure(validIndexes.get(i), update, e));
+                }
+            }
+        } finally {
+            currentBatch.remove();
+            if (!batch.matches.isEmpty()) {
+                Transition transition = publish(ChangeHistory.Kind.SCORED, batch.matches);
+                if (!listeners.isEmpty()) {
+                    for (Match match : batch.matches) {
+                        synchronized (match) {
+                            // Up to the latest board, in case a concurrent writer of the match
+                            // has already notified a newer change
+                            notifyScoreUpdated(match, transition.before(), board.get());
+                        }
+                    }
+                }
+            }
+        }
+
+        failures.sort(Comparator.comparingInt(ScoreUpdateResult.Failure::index));
+        return new ScoreUpdateResult(applied, failures);
+    }
+
+    /**
+     * Checks that a match can be updated.
+     *
+     * @param match the match to check
+     * @throws IllegalArgumentException if match is null
+     * @throws IllegalStateException if match is not in progress or not found
+     */
+    private void validateUpdate(Match match) {
         if (match == null) {
             throw new IllegalArgumentException("Match cannot be null");
         }
 
-        if (!matches.contains(match) || !match.isInProgress()) {
+        if (matchesById.get(match.getId()) != match || !match.isInProgress()) {
             throw new IllegalStateException("Match is not in progress or not found on the scoreboard");
         }
-
-        match.updateScore(homeScore, awayScore);
     }
 
     /**
@@ -73,22 +462,59 @@ public class ScoreboardService {
      * @throws IllegalStateException if match is not found
      */
     public void finishMatch(Match match) {
+        ScoreboardMetrics metrics = this.metrics;
+        if (metrics == null) {
+            finish(match);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            finish(match);
+            metrics.recordSuccess(Operation.FINISH_MATCH, startNanos);
+        } catch (RuntimeException e) {
+            metrics.recordError(Operation.FINISH_MATCH);
+            throw e;
+        }
+    }
+
+    private void finish(Match match) {
         if (match == null) {
             throw new IllegalArgumentException("Match cannot be null");
         }
 
-        if (!matches.contains(match)) {
-            // Check if this match was previously in the scoreboard (finished)
-            if (match.isInProgress()) {
-                // Match was never in the scoreboard
-                throw new IllegalStateException("Match not found on the scoreboard");
+        synchronized (match) {
+            if (matchesById.get(match.getId()) != match) {
+                // Check if this match was previously in the scoreboard (finished)
+                if (match.isInProgress()) {
+                    // Match was never in the scoreboard
+                    throw new IllegalStateException("Match not found on the scoreboard");
+                }
+                // Match was already finished - idempotent case
+                return;
             }
-            // Match was already finished - idempotent case
-            return;
+
+            // Leaves the board and bumps the version through the match listener
+            match.finishMatch();
         }
+    }
 
-        match.finishMatch();
-        matches.remove(match);  // Remove from scoreboard
+    /**
+     * Finishes and removes the match with the given id from the scoreboard.
+     *
+     * @param matchId the id of the match to finish
+     * @throws IllegalStateException if no match with this id is on the scoreboard, which
+     *                               includes matches that have already been finished
+     */
+    public void finishMatch(long matchId) {
+        Match match = matchesById.get(matchId);
+        if (match == null) {
+            ScoreboardMetrics metrics = this.metrics;
+            if (metrics != null) {
+                metrics.recordError(Operation.FINISH_MATCH);
+            }
+            throw new IllegalStateException("Match not found on the scoreboard");
+        }
+        finishMatch(match);
     }
 
     /**
@@ -99,20 +525,207 @@ public class ScoreboardService {
      * @return formatted summary string
      */
     public String getSummary() {
-        StringBuilder summary = new StringBuilder("Matches summary:\n");
+        return getVersionedSummary().text();
+    }
+
+    /**
+     * Returns the summary of in-progress matches together with the board version it
+     * represents. The rendered summary is cached, so while the board does not change
+     * this returns the same instance without any rendering.
+     *
+     * @return the summary for the current board version
+     */
+    public Summary getVersionedSummary() {
+        ScoreboardMetrics metrics = this.metrics;
+        if (metrics == null) {
+            return summary();
+        }
+        long startNanos = System.nanoTime();
+        Summary summary = summary();
+        metrics.recordSuccess(Operation.GET_SUMMARY, startNanos);
+        return summary;
+    }
+
+    private Summary summary() {
+        Board current = board.get();
+        Summary summary = cachedSummary;
+        if (summary != null && summary.version() == current.version()) {
+            return summary;
+        }
 
-        List<Match> sortedMatches = matches.stream()
-                .filter(Match::isInProgress)
-                .sorted(new MatchComparator(matches))
-                .toList();
+        summary = new Summary(current.version(), render(current));
+        Summary cached = cachedSummary;
+        if (cached == null || cached.version() < current.version()) {
+            cachedSummary = summary;
+        }
+        return summary;
+    }
+
+    /**
+     * Returns an immutable snapshot of all in-progress matches at the current board version,
+     * in summary order and in start order. The snapshot is built together with the board it
+     * views when a change is published, so this is a single volatile read, and every caller
+     * gets the same instance until the next change.
+     * <p>
+     * The lists of the snapshot are views of the persistent indexes of that board: iterating
+     * them takes constant time per match, and accessing one by position logarithmic time.
+     *
+     * @return the snapshot for the current board version
+     */
+    public BoardSnapshot getSnapshot() {
+        return board.get().snapshot();
+    }
+
+    /**
+     * Returns the top matches of the summary, in summary order. Only the returned matches
+     * are visited, so this takes time proportional to {@code count}, not to the board size.
+     *
+     * @param count the maximum number of matches to return (non-negative)
+     * @return up to {@code count} matches from the top of the summary
+     * @throws IllegalArgumentException if count is negative
+     */
+    public List<RankedMatch> getTopMatches(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative");
+        }
+
+        return collect(board.get().ranking().values(0), 0, count);
+    }
+
+    /**
+     * Returns a lazy iterator over the summary, in summary order. Entries are read from the
+     * ordered index as the iterator advances, so walking only the first few costs only as
+     * much. The iteration walks the board published when it was created, however long it
+     * takes.
+     *
+     * @return an iterator over the summary
+     */
+    public Iterator<RankedMatch> getSummaryIterator() {
+        return board.get().snapshot().iterator();
+    }
+
+    /**
+     * Returns one page of the summary. The first match of the page is located through the
+     * ordered index in logarithmic time, so this takes time proportional to {@code size}
+     * plus a log factor, not to the page number or the board size.
+     * <p>
+     * Each page is read from a single published board, so it lists every match
+     * exactly once with consistent scores. A match that moves across a page boundary between
+     * two page reads may appear on both pages or on neither.
+     *
+     * @param page the zero-based page number (non-negative)
+     * @param size the number of matches per page (positive)
+     * @return the requested page, empty if it lies past the last match
+     * @throws IllegalArgumentException if page is negative or size is not positive
+     */
+    public SummaryPage getSummaryPage(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page cannot be negative and size must be positive");
+        }
+
+        Board current = board.get();
+        long offset = (long) page * size;
+        List<RankedMatch> entries = offset >= current.size()
+                ? List.of()
+                : collect(current.ranking().values(offset), (int) offset, size);
+        return new SummaryPage(current.version(), page, size, current.size(), entries);
+    }
+
+    /**
+     * Collects up to {@code count} summary lines, numbering them from {@code offset + 1}.
+     */
+    private static List<RankedMatch> collect(Iterator<ScoreLine> lines, int offset, int count) {
+        List<RankedMatch> entries = new ArrayList<>(Math.min(count, 64));
+        while (entries.size() < count && lines.hasNext()) {
+            ScoreLine line = lines.next();
+            entries.add(new RankedMatch(offset + entries.size() + 1, line.match(), line.homeScore(), line.awayScore()));
+        }
+        return entries;
+    }
+
+    /**
+     * Starts collecting latencies, counters and gauges of this service. Enabling metrics
+     * that are already enabled returns the existing ones.
+     *
+     * @return the metrics of this service
+     */
+    public synchronized ScoreboardMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ScoreboardMetrics(() -> board.get().size(), () -> {
+                Summary summary = cachedSummary;
+                return summary == null ? 0 : summary.text().length();
+            });
+        }
+        return metrics;
+    }
+
+    /**
+     * Stops collecting metrics. Metrics already handed out keep their values but are no
+     * longer updated; a later {@link #enableMetrics()} starts from zero.
+     */
+    public synchronized void disableMetrics() {
+        metrics = null;
+    }
 
-        for (int i = 0; i < sortedMatches.size(); i++) {
-            Match match = sortedMatches.get(i);
-            summary.append(i + 1).append(". ")
+    /**
+     * Returns the metrics of this service.
+     *
+     * @return the metrics, or null if metrics are not enabled
+     */
+    public ScoreboardMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Registers a listener to be notified about every subsequent change to the board.
+     *
+     * @param listener the listener to add (non-null)
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addListener(ScoreboardListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(ScoreboardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the current board version. The version starts at zero and is bumped by
+     * every match start, score update, batch of score updates and finish.
+     *
+     * @return the current board version
+     */
+    public long getVersion() {
+        return board.get().version();
+    }
+
+    /**
+     * Renders the summary text by walking the ordered index of a board.
+     *
+     * @param rendered the board to render
+     * @return formatted summary string
+     */
+    private static String render(Board rendered) {
+        StringBuilder summary = new StringBuilder("Matches summary:\n");
+
+        int position = 0;
+        for (Iterator<ScoreLine> lines = rendered.ranking().values(0); lines.hasNext(); ) {
+            ScoreLine line = lines.next();
+            Match match = line.match();
+            summary.append(++position).append(". ")
                     .append(match.getHomeTeam()).append(" ")
-                    .append(match.getHomeScore()).append(" - ")
+                    .append(line.homeScore()).append(" - ")
                     .append(match.getAwayTeam()).append(" ")
-                    .append(match.getAwayScore())
+                    .append(line.awayScore())
                     .append("\n");
         }
 
@@ -120,11 +733,440 @@ public class ScoreboardService {
     }
 
     /**
-     * Gets a defensive copy of all matches for usage.
+     * Captures the state of all in-progress matches, in start order. All matches are read
+     * from one published board, so their scores are consistent with each other.
+     *
+     * @return new list containing the state of all in-progress matches
+     */
+    public List<MatchState> getMatchStates() {
+        Board current = board.get();
+        List<MatchState> states = new ArrayList<>(current.size());
+        for (Iterator<ScoreLine> lines = current.starts().values(0); lines.hasNext(); ) {
+            ScoreLine line = lines.next();
+            Match match = line.match();
+            states.add(new MatchState(match.getHomeTeam(), match.getAwayTeam(), line.homeScore(),
+                    line.awayScore(), match.getStartTime()));
+        }
+        return states;
+    }
+
+    /**
+     * Gets a defensive copy of all in-progress matches for usage, in start order. The copy
+     * is taken from the current {@link #getSnapshot() snapshot}, which callers that only
+     * read the matches can use directly instead.
      *
      * @return new list containing all matches
      */
     public List<Match> getMatches() {
-        return new ArrayList<>(matches);
+        return new ArrayList<>(getSnapshot().matches());
+    }
+
+    /**
+     * Returns what changed in the summary since the given version: the started, finished,
+     * rescored and reordered matches, each with its current position and scores. This takes
+     * time proportional to the number of changes, not to the board size.
+     * <p>
+     * If the version is older than the remembered history, not a version of this board, or a
+     * concurrent writer does not record its change in time, a full summary is returned instead,
+     * flagged as {@link SummaryDelta#full()}. Positions and scores are read from the board
+     * published at {@code toVersion}.
+     *
+     * @param sinceVersion the last version the client has seen
+     * @return the changes since that version
+     */
+    public SummaryDelta getDelta(long sinceVersion) {
+        Board current = board.get();
+        long currentVersion = current.version();
+        if (sinceVersion == currentVersion) {
+            return new SummaryDelta(sinceVersion, currentVersion, false, List.of());
+        }
+        List<ChangeHistory.Change> changes = sinceVersion >= 0 && sinceVersion < currentVersion
+                ? history.changesBetween(sinceVersion, currentVersion)
+                : null;
+        if (changes == null) {
+            return fullDelta(sinceVersion, current);
+        }
+
+        // Fold the changes into one net change per match
+        Map<Match, ChangeHistory.Change> netChanges = new HashMap<>();
+        for (ChangeHistory.Change change : changes) {
+            ChangeHistory.Change first = netChanges.putIfAbsent(change.match(), change);
+            if (first != null && change.kind() == ChangeHistory.Kind.FINISHED) {
+                if (first.kind() == ChangeHistory.Kind.STARTED) {
+                    netChanges.remove(change.match()); // Started and finished within the range
+                } else {
+                    netChanges.put(change.match(), change);
+                }
+            }
+        }
+
+        List<SummaryDelta.Entry> entries = new ArrayList<>(netChanges.size());
+        for (ChangeHistory.Change change : netChanges.values()) {
+            SummaryDelta.Entry entry = deltaEntry(change, current);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingInt(SummaryDelta.Entry::position));
+        return new SummaryDelta(sinceVersion, currentVersion, false, entries);
+    }
+
+    /**
+     * Describes the net change of a single match on the given board.
+     *
+     * @param change the first change of the match in the delta range, or its finish
+     * @param current the board the delta is read from
+     * @return the delta entry, or null if the match was started in the range and has
+     *         already been finished since
+     */
+    private static SummaryDelta.Entry deltaEntry(ChangeHistory.Change change, Board current) {
+        Match match = change.match();
+        ScoreLine line = current.starts().get(match.getStartSequence());
+        if (change.kind() == ChangeHistory.Kind.FINISHED || line == null) {
+            return change.kind() == ChangeHistory.Kind.STARTED
+                    ? null // Finished on a board published after the current one
+                    : new SummaryDelta.Entry(SummaryDelta.Kind.REMOVED, 0, match,
+                    match.getHomeScore(), match.getAwayScore());
+        }
+
+        SummaryDelta.Kind kind;
+        if (change.kind() == ChangeHistory.Kind.STARTED) {
+            kind = SummaryDelta.Kind.INSERTED;
+        } else if (change.previousTotal() == line.totalScore()) {
+            kind = SummaryDelta.Kind.RESCORED;
+        } else {
+            kind = SummaryDelta.Kind.REORDERED;
+        }
+        return new SummaryDelta.Entry(kind, current.ranking().rank(line.key()) + 1, match, line.homeScore(),
+                line.awayScore());
+    }
+
+    /**
+     * Builds a delta that replaces the whole summary.
+     */
+    private static SummaryDelta fullDelta(long sinceVersion, Board current) {
+        List<SummaryDelta.Entry> entries = new ArrayList<>(current.size());
+        for (Iterator<ScoreLine> lines = current.ranking().values(0); lines.hasNext(); ) {
+            ScoreLine line = lines.next();
+            entries.add(new SummaryDelta.Entry(SummaryDelta.Kind.INSERTED, entries.size() + 1, line.match(),
+                    line.homeScore(), line.awayScore()));
+        }
+        return new SummaryDelta(sinceVersion, current.version(), true, entries);
+    }
+
+    /**
+     * Publishes the current state of the given matches as the next board version and records
+     * the change in the history. Every attempt reads the board first and then each match
+     * under its lock: a match in progress is put on the board with its current scores, a
+     * finished one is taken off. Whichever writer of a match publishes last therefore leaves
+     * its latest state on the board, whatever order concurrent writers publish in.
+     *
+     * @param kind the kind of change
+     * @param changed the changed matches
+     * @return the boards before and after the change
+     */
+    private Transition publish(ChangeHistory.Kind kind, Collection<Match> changed) {
+        while (true) {
+            Board before = board.get();
+            RankIndex<SummaryKey, ScoreLine> ranking = before.ranking();
+            RankIndex<Long, ScoreLine> starts = before.starts();
+            for (Match match : changed) {
+                ScoreLine line;
+                synchronized (match) {
+                    line = match.isInProgress() ? ScoreLine.of(match) : null;
+                }
+                ScoreLine previous = starts.get(match.getStartSequence());
+                if (previous != null) {
+                    ranking = ranking.remove(previous.key());
+                }
+                if (line != null) {
+                    ranking = ranking.put(line.key(), line);
+                    starts = starts.put(match.getStartSequence(), line);
+                } else {
+                    starts = starts.remove(match.getStartSequence());
+                }
+            }
+
+            Board after = Board.of(before.version() + 1, ranking, starts);
+            if (board.compareAndSet(before, after)) {
+                List<ChangeHistory.Change> changes = new ArrayList<>(changed.size());
+                for (Match match : changed) {
+                    ScoreLine previous = before.starts().get(match.getStartSequence());
+                    changes.add(new ChangeHistory.Change(kind, match, previous == null ? 0 : previous.totalScore()));
+                }
+                history.record(after.version(), changes);
+                return new Transition(before, after);
+            }
+        }
+    }
+
+    /**
+     * Publishes a rescored match, or adds it to the batch running on this thread.
+     * Called while holding the lock of the match.
+     *
+     * @param match the match whose score changed
+     */
+    private void reindex(Match match) {
+        if (matchesById.get(match.getId()) != match) {
+            return; // Already removed from the scoreboard
+        }
+
+        Batch batch = currentBatch.get();
+        if (batch != null) {
+            batch.matches.add(match); // Published once the whole batch has been applied
+            return;
+        }
+
+        Transition transition = publish(ChangeHistory.Kind.SCORED, List.of(match));
+        if (!listeners.isEmpty()) {
+            notifyScoreUpdated(match, transition.before(), transition.after());
+        }
+    }
+
+    /**
+     * Notifies listeners of the scores of a match on the later board, and of its move if its
+     * position differs from the earlier board. Called while holding the lock of the match.
+     *
+     * @param match the rescored match
+     * @param before the board before the change
+     * @param after the board holding the change
+     */
+    private void notifyScoreUpdated(Match match, Board before, Board after) {
+        ScoreLine line = after.starts().get(match.getStartSequence());
+        if (line == null) {
+            return; // Finished since, and notified as such
+        }
+        ScoreLine previous = before.starts().get(match.getStartSequence());
+        int oldPosition = previous == null ? 0 : before.ranking().rank(previous.key()) + 1;
+        int newPosition = after.ranking().rank(line.key()) + 1;
+        for (ScoreboardListener listener : listeners) {
+            listener.scoreUpdated(after.version(), match, line.homeScore(), line.awayScore());
+            if (previous != null && oldPosition != newPosition) {
+                listener.rankChanged(after.version(), match, oldPosition, newPosition);
+            }
+        }
+    }
+
+    /**
+     * Restored matches sorted into summary order, ready to build the ordered index from in
+     * linear time.
+     */
+    private static final class SortedLines {
+        private final SummaryKey[] keys;
+        private final ScoreLine[] lines;
+
+        private SortedLines(SummaryKey[] keys, ScoreLine[] lines) {
+            this.keys = keys;
+            this.lines = lines;
+        }
+
+        /**
+         * Sorts matches by total score (descending) and start sequence (descending). Uses a
+         * counting sort over the totals when they are small, which they are for football.
+         *
+         * @param matches the matches, in start order
+         * @return the matches in index order
+         */
+        static SortedLines of(Match[] matches) {
+            int n = matches.length;
+            SummaryKey[] keys = new SummaryKey[n];
+            ScoreLine[] lines = new ScoreLine[n];
+            int maxTotal = 0;
+            for (Match match : matches) {
+                maxTotal = Math.max(maxTotal, match.getTotalScore());
+            }
+
+            if (maxTotal > 4 * n + 1024) {
+                Match[] sorted = matches.clone();
+                Arrays.sort(sorted, new MatchComparator());
+                for (int i = 0; i < n; i++) {
+                    lines[i] = ScoreLine.of(sorted[i]);
+                    keys[i] = lines[i].key();
+                }
+                return new SortedLines(keys, lines);
+            }
+
+            // Bucket start positions, highest total first
+            int[] positions = new int[maxTotal + 1];
+            for (Match match : matches) {
+                positions[match.getTotalScore()]++;
+            }
+            int position = 0;
+            for (int total = maxTotal; total >= 0; total--) {
+                int count = positions[total];
+                positions[total] = position;
+                position += count;
+            }
+            // Most recently started first within each total
+            for (int i = n - 1; i >= 0; i--) {
+                int slot = positions[matches[i].getTotalScore()]++;
+                lines[slot] = ScoreLine.of(matches[i]);
+                keys[slot] = lines[slot].key();
+            }
+            return new SortedLines(keys, lines);
+        }
+    }
+
+    /**
+     * State of a batch update running on the current thread.
+     */
+    private static final class Batch {
+        private final Set<Match> matches = new LinkedHashSet<>();
+    }
+
+    /**
+     * Immutable state of the board at one version: every in-progress match with its scores,
+     * in summary order and by start sequence.
+     *
+     * @param version the board version
+     * @param ranking the score lines by summary key
+     * @param starts the score lines by start sequence
+     * @param snapshot the snapshot viewing this board
+     */
+    private record Board(long version, RankIndex<SummaryKey, ScoreLine> ranking, RankIndex<Long, ScoreLine> starts,
+                         BoardSnapshot snapshot) {
+        static Board of(long version, RankIndex<SummaryKey, ScoreLine> ranking, RankIndex<Long, ScoreLine> starts) {
+            // Views rather than copies, so publishing the snapshot costs constant time
+            return new Board(version, ranking, starts,
+                    new BoardSnapshot(version, new RankingView(ranking), new StartOrderView(starts)));
+        }
+
+        int size() {
+            return starts.size();
+        }
+    }
+
+    /**
+     * Unmodifiable summary of a board, numbering its lines by position.
+     */
+    private static final class RankingView extends AbstractList<RankedMatch> {
+        private final RankIndex<SummaryKey, ScoreLine> ranking;
+
+        private RankingView(RankIndex<SummaryKey, ScoreLine> ranking) {
+            this.ranking = ranking;
+        }
+
+        @Override
+        public RankedMatch get(int index) {
+            ScoreLine line = index < 0 ? null : ranking.select(index);
+            if (line == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+            }
+            return new RankedMatch(index + 1, line.match(), line.homeScore(), line.awayScore());
+        }
+
+        @Override
+        public Iterator<RankedMatch> iterator() {
+            Iterator<ScoreLine> lines = ranking.values(0);
+            return new Iterator<>() {
+                private int position;
+
+                @Override
+                public boolean hasNext() {
+                    return lines.hasNext();
+                }
+
+                @Override
+                public RankedMatch next() {
+                    ScoreLine line = lines.next();
+                    return new RankedMatch(++position, line.match(), line.homeScore(), line.awayScore());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ranking.size();
+        }
+    }
+
+    /**
+     * Unmodifiable list of the matches of a board, in start order.
+     */
+    private static final class StartOrderView extends AbstractList<Match> {
+        private final RankIndex<Long, ScoreLine> starts;
+
+        private StartOrderView(RankIndex<Long, ScoreLine> starts) {
+            this.starts = starts;
+        }
+
+        @Override
+        public Match get(int index) {
+            ScoreLine line = index < 0 ? null : starts.select(index);
+            if (line == null) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+            }
+            return line.match();
+        }
+
+        @Override
+        public Iterator<Match> iterator() {
+            Iterator<ScoreLine> lines = starts.values(0);
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return lines.hasNext();
+                }
+
+                @Override
+                public Match next() {
+                    return lines.next().match();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return starts.size();
+        }
+    }
+
+    /**
+     * The boards before and after a published change.
+     *
+     * @param before the board the change was applied to
+     * @param after the published board
+     */
+    private record Transition(Board before, Board after) {
+    }
+
+    /**
+     * Scores of a match as published on a board.
+     *
+     * @param match the match
+     * @param homeScore the home team score at capture time
+     * @param awayScore the away team score at capture time
+     */
+    private record ScoreLine(Match match, int homeScore, int awayScore) {
+        static ScoreLine of(Match match) {
+            return new ScoreLine(match, match.getHomeScore(), match.getAwayScore());
+        }
+
+        int totalScore() {
+            return homeScore + awayScore;
+        }
+
+        SummaryKey key() {
+            return new SummaryKey(totalScore(), match.getStartSequence());
+        }
+    }
+
+    /**
+     * Immutable position of a match in the ordered index. Keys sort the same way as
+     * {@link MatchComparator}: by total score (descending), then by start sequence (most
+     * recently started first).
+     *
+     * @param totalScore the total score of the match
+     * @param startSequence the start sequence of the match
+     */
+    private record SummaryKey(int totalScore, long startSequence) implements Comparable<SummaryKey> {
+        @Override
+        public int compareTo(SummaryKey other) {
+            int scoreComparison = Integer.compare(other.totalScore, totalScore);
+            if (scoreComparison != 0) {
+                return scoreComparison;
+            }
+            return Long.compare(other.startSequence, startSequence);
+        }
     }
 }
\ No newline at end of file
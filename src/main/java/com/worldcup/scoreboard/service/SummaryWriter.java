@@ -0,0 +1,219 @@
+package com.worldcup.scoreboard.service;
+
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.Team;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes the summary of a {@link ScoreboardService} straight to a caller-supplied target,
+ * in the same format as {@link ScoreboardService#getSummary()}, without building a
+ * {@code String} first.
+ * <p>
+ * Byte targets receive UTF-8. The summary is encoded into a buffer owned by the writer,
+ * which is reused across calls and re-encoded only when the board version has changed.
+ * Team names are encoded once per team and then copied as bytes. Character targets receive
+ * the summary directly from the ordered index.
+ * <p>
+ * A writer is not thread-safe; use one writer per thread. Example usage:
+ * <pre>
+ * SummaryWriter writer = new SummaryWriter(service);
+ * writer.writeTo(channel);
+ * </pre>
+ */
+public final class SummaryWriter {
+    private static final byte[] HEADER = "Matches summary:\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int MAX_INT_DIGITS = 10;
+
+    private final ScoreboardService service;
+    private final Map<Team, byte[]> encodedNames;
+    private ByteBuffer encoded;
+    private long encodedVersion;
+
+    /**
+     * Creates a writer for the summary of the given service.
+     *
+     * @param service the service to write the summary of (non-null)
+     * @throws IllegalArgumentException if service is null
+     */
+    public SummaryWriter(ScoreboardService service) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        this.service = service;
+        this.encodedNames = new HashMap<>();
+        this.encoded = ByteBuffer.allocate(INITIAL_CAPACITY);
+        this.encodedVersion = -1;
+    }
+
+    /**
+     * Returns the UTF-8 encoded summary of the current board version as a read-only view of
+     * the writer's buffer. The view is valid until the next call on this writer.
+     *
+     * @return the encoded summary
+     */
+    public ByteBuffer encode() {
+        long version = service.getVersion();
+        if (version != encodedVersion) {
+            render();
+            encodedVersion = version; // Everything up to this version has been rendered
+        }
+        return encoded.asReadOnlyBuffer().flip();
+    }
+
+    /**
+     * Writes the UTF-8 encoded summary into the buffer.
+     *
+     * @param target the buffer to write to (non-null)
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if target is null
+     * @throws BufferOverflowException if the summary does not fit into the remaining space,
+     *                                 in which case nothing is written
+     */
+    public int writeTo(ByteBuffer target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        ByteBuffer summary = encode();
+        int length = summary.remaining();
+        target.put(summary);
+        return length;
+    }
+
+    /**
+     * Writes the UTF-8 encoded summary to the channel, blocking until all bytes are written
+     * if the channel is in blocking mode.
+     *
+     * @param target the channel to write to (non-null)
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if target is null
+     * @throws IOException if writing to the channel fails
+     */
+    public long writeTo(WritableByteChannel target) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        ByteBuffer summary = encode();
+        long written = 0;
+        while (summary.hasRemaining()) {
+            written += target.write(summary);
+        }
+        return written;
+    }
+
+    /**
+     * Writes the UTF-8 encoded summary to the stream, directly from the writer's buffer.
+     *
+     * @param target the stream to write to (non-null)
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if target is null
+     * @throws IOException if writing to the stream fails
+     */
+    public int writeTo(OutputStream target) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        int length = encode().remaining();
+        target.write(encoded.array(), 0, length);
+        return length;
+    }
+
+    /**
+     * Appends the summary to the given character target, walking the ordered index directly.
+     *
+     * @param target the target to append to (non-null)
+     * @throws IllegalArgumentException if target is null
+     * @throws IOException if appending fails
+     */
+    public void writeTo(Appendable target) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        target.append("Matches summary:\n");
+        Iterator<RankedMatch> lines = service.getSummaryIterator();
+        while (lines.hasNext()) {
+            RankedMatch line = lines.next();
+            appendInt(target, line.position());
+            target.append(". ").append(line.match().getHomeTeam().name()).append(' ');
+            appendInt(target, line.homeScore());
+            target.append(" - ").append(line.match().getAwayTeam().name()).append(' ');
+            appendInt(target, line.awayScore());
+            target.append('\n');
+        }
+    }
+
+    /**
+     * Encodes the summary into the writer's buffer.
+     */
+    private void render() {
+        encoded.clear().put(HEADER);
+        int lines = 0;
+        Iterator<RankedMatch> summary = service.getSummaryIterator();
+        while (summary.hasNext()) {
+            RankedMatch line = summary.next();
+            byte[] homeName = encodedName(line.match().getHomeTeam());
+            byte[] awayName = encodedName(line.match().getAwayTeam());
+            ensureRemaining(3 * MAX_INT_DIGITS + homeName.length + awayName.length + 7);
+            putInt(line.position());
+            encoded.put((byte) '.').put((byte) ' ').put(homeName).put((byte) ' ');
+            putInt(line.homeScore());
+            encoded.put((byte) ' ').put((byte) '-').put((byte) ' ').put(awayName).put((byte) ' ');
+            putInt(line.awayScore());
+            encoded.put((byte) '\n');
+            lines++;
+        }
+
+        // Drop names of teams that left the board, keeping the cache bounded by its size
+        if (encodedNames.size() > 4 * lines + 1024) {
+            encodedNames.clear();
+        }
+    }
+
+    private byte[] encodedName(Team team) {
+        byte[] name = encodedNames.get(team);
+        if (name == null) {
+            name = team.name().getBytes(StandardCharsets.UTF_8);
+            encodedNames.put(team, name);
+        }
+        return name;
+    }
+
+    private void ensureRemaining(int bytes) {
+        if (encoded.remaining() < bytes) {
+            int capacity = Math.max(encoded.capacity() * 2, encoded.position() + bytes);
+            encoded = ByteBuffer.allocate(capacity).put(encoded.flip());
+        }
+    }
+
+    /**
+     * Writes the decimal digits of a non-negative number as ASCII.
+     */
+    private void putInt(int value) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = encoded.position() + digits;
+        for (int i = end - 1; i >= encoded.position(); i--) {
+            encoded.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        encoded.position(end);
+    }
+
+    private static void appendInt(Appendable target, int value) throws IOException {
+        if (value >= 10) {
+            appendInt(target, value / 10);
+        }
+        target.append((char) ('0' + value % 10));
+    }
+}
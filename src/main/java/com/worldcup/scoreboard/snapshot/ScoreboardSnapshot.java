@@ -0,0 +1,182 @@
+package com.worldcup.scoreboard.snapshot;
+
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary snapshot of all in-progress matches of a {@link ScoreboardService}.
+ * <p>
+ * A snapshot stores every team name once, followed by one fixed-size record per match
+ * (team indexes, scores and start time) in start order. Restoring a snapshot rebuilds the
+ * board with the exact same summary ordering, including the most-recently-started tie-break,
+ * and builds the ordered index in linear time, so even boards of a million matches restore
+ * quickly. Example usage:
+ * <pre>
+ * ScoreboardSnapshot.write(service, Path.of("scoreboard.snapshot"));
+ *
+ * Scoreboard scoreboard = new Scoreboard(ScoreboardSnapshot.read(Path.of("scoreboard.snapshot")));
+ * </pre>
+ */
+public final class ScoreboardSnapshot {
+    static final int MAGIC = 0x53434253; // "SCBS"
+    static final int FORMAT_VERSION = 1;
+    static final int MATCH_RECORD_SIZE = 4 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private ScoreboardSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot of all in-progress matches of the service to the given file.
+     * The file is replaced atomically, so a crash never leaves a partial snapshot behind.
+     *
+     * @param service the service to snapshot (non-null)
+     * @param file the snapshot file (non-null)
+     * @throws IllegalArgumentException if service or file is null
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(ScoreboardService service, Path file) throws IOException {
+        if (service == null || file == null) {
+            throw new IllegalArgumentException("Service and file cannot be null");
+        }
+        write(service.getMatchStates(), file);
+    }
+
+    /**
+     * Writes a snapshot of the given in-progress matches to the given file, e.g. a state
+     * kept outside of a service. The file is replaced atomically, like by
+     * {@link #write(ScoreboardService, Path)}.
+     *
+     * @param states the matches to snapshot, in start order (non-null, entries may not be null)
+     * @param file the snapshot file (non-null)
+     * @throws IllegalArgumentException if states or file is null
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(List<MatchState> states, Path file) throws IOException {
+        if (states == null || file == null) {
+            throw new IllegalArgumentException("States and file cannot be null");
+        }
+
+        Map<Team, Integer> teamIndexes = new HashMap<>();
+        List<Team> teams = new ArrayList<>();
+        for (MatchState state : states) {
+            for (Team team : List.of(state.homeTeam(), state.awayTeam())) {
+                if (teamIndexes.putIfAbsent(team, teams.size()) == null) {
+                    teams.add(team);
+                }
+            }
+        }
+
+        Path absolute = file.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(teams.size());
+                for (Team team : teams) {
+                    byte[] name = team.name().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(name.length);
+                    out.write(name);
+                }
+                out.writeInt(states.size());
+                for (MatchState state : states) {
+                    out.writeInt(teamIndexes.get(state.homeTeam()));
+                    out.writeInt(teamIndexes.get(state.awayTeam()));
+                    out.writeInt(state.homeScore());
+                    out.writeInt(state.awayScore());
+                    out.writeLong(state.startTime().toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(state.startTime().getNano());
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Restores a scoreboard service from the given snapshot file.
+     *
+     * @param file the snapshot file (non-null)
+     * @return a new service holding all matches of the snapshot
+     * @throws IllegalArgumentException if file is null
+     * @throws IllegalStateException if the file is not a valid snapshot
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static ScoreboardService read(Path file) throws IOException {
+        return ScoreboardService.restore(readStates(file));
+    }
+
+    /**
+     * Reads the in-progress matches of the given snapshot file without restoring a service.
+     *
+     * @param file the snapshot file (non-null)
+     * @return the matches of the snapshot, in start order
+     * @throws IllegalArgumentException if file is null
+     * @throws IllegalStateException if the file is not a valid snapshot
+     * @throws IOException if the snapshot cannot be read
+     */
+    public static List<MatchState> readStates(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (in.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a scoreboard snapshot: " + file);
+            }
+            int formatVersion = in.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported snapshot format version " + formatVersion);
+            }
+
+            Team[] teams = new Team[in.getInt()];
+            for (int i = 0; i < teams.length; i++) {
+                byte[] name = new byte[in.getInt()];
+                in.get(name);
+                teams[i] = new Team(new String(name, StandardCharsets.UTF_8));
+            }
+
+            int matchCount = in.getInt();
+            if (matchCount < 0 || (long) matchCount * MATCH_RECORD_SIZE > in.remaining()) {
+                throw new IllegalStateException("Corrupt scoreboard snapshot: " + file);
+            }
+            List<MatchState> states = new ArrayList<>(matchCount);
+            for (int i = 0; i < matchCount; i++) {
+                Team homeTeam = teams[in.getInt()];
+                Team awayTeam = teams[in.getInt()];
+                int homeScore = in.getInt();
+                int awayScore = in.getInt();
+                LocalDateTime startTime = LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+                states.add(new MatchState(homeTeam, awayTeam, homeScore, awayScore, startTime));
+            }
+            return states;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalStateException("Corrupt scoreboard snapshot: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.worldcup.scoreboard.store;
+
+import com.worldcup.scoreboard.model.Team;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight handle to a match held by a {@link MatchStore}.
+ * <p>
+ * A handle holds no match state itself, only the slot of the match in the store's arrays and
+ * the generation of that slot. Every getter reads the store under its lock. Once the match
+ * has been finished and its slot reused for another match, the handle is stale: it reports
+ * the match as not in progress, and its other getters throw.
+ */
+public final class MatchHandle {
+    private final MatchStore store;
+    private final int slot;
+    private final int generation;
+
+    MatchHandle(MatchStore store, int slot, int generation) {
+        this.store = store;
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    MatchStore store() {
+        return store;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    int generation() {
+        return generation;
+    }
+
+    /**
+     * Gets the home team.
+     *
+     * @return the home team
+     * @throws IllegalStateException if the handle is stale
+     */
+    public Team getHomeTeam() {
+        return store.homeTeam(this);
+    }
+
+    /**
+     * Gets the away team.
+     *
+     * @return the away team
+     * @throws IllegalStateException if the handle is stale
+     */
+    public Team getAwayTeam() {
+        return store.awayTeam(this);
+    }
+
+    /**
+     * Gets the current home team score.
+     *
+     * @return the home team score
+     * @throws IllegalStateException if the handle is stale
+     */
+    public int getHomeScore() {
+        return store.homeScore(this);
+    }
+
+    /**
+     * Gets the current away team score.
+     *
+     * @return the away team score
+     * @throws IllegalStateException if the handle is stale
+     */
+    public int getAwayScore() {
+        return store.awayScore(this);
+    }
+
+    /**
+     * Gets the start time of the match, created from its stored primitive form.
+     *
+     * @return the start time
+     * @throws IllegalStateException if the handle is stale
+     */
+    public LocalDateTime getStartTime() {
+        return store.startTime(this);
+    }
+
+    /**
+     * Gets the position of the match in the start order of its store.
+     *
+     * @return the start sequence, unique within the store
+     * @throws IllegalStateException if the handle is stale
+     */
+    public long getStartSequence() {
+        return store.startSequence(this);
+    }
+
+    /**
+     * Checks if the match is in progress.
+     *
+     * @return true if the match is in progress, false once it has been finished
+     */
+    public boolean isInProgress() {
+        return store.isInProgress(this);
+    }
+
+    /**
+     * Returns a string representation of the match, e.g. {@code Mexico 0 - Canada 5}.
+     *
+     * @return formatted match string
+     */
+    @Override
+    public String toString() {
+        return store.describe(this);
+    }
+}
@@ -0,0 +1,356 @@
+package com.worldcup.scoreboard.store;
+
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.Team;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Scoreboard storage engine keeping all match state in parallel primitive arrays.
+ * <p>
+ * Each match occupies one slot of the arrays holding its team ids, scores, start sequence,
+ * start time and status; team names live once in a dictionary. Callers get a
+ * {@link MatchHandle}, which is just a slot reference. Compared to the object graph behind
+ * {@code ScoreboardService}, with its match, team, date-time and index node objects per
+ * match, this takes far less memory per match and lets the summary stream sequentially
+ * through a few arrays instead of chasing pointers.
+ * <p>
+ * Summaries follow the {@code MatchComparator} contract. The start order is kept in a
+ * separate array of slots, so a counting sort over the total scores, walking that array
+ * from the newest match, yields the summary order without comparing any matches.
+ * <p>
+ * Slots of finished matches are reused once the start order array is compacted, which
+ * happens when it holds more finished than in-progress matches. The store is thread-safe;
+ * all operations are serialized on the store.
+ * <p>
+ * Example usage:
+ * <pre>
+ * MatchStore store = new MatchStore();
+ *
+ * MatchHandle match = store.startMatch("Mexico", "Canada");
+ *
+ * store.updateScore(match, 0, 5);
+ *
+ * String summary = store.getSummary();
+ * </pre>
+ */
+public class MatchStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final byte FREE = 0;
+    private static final byte IN_PROGRESS = 1;
+    private static final byte FINISHED = 2;
+
+    private final TeamDictionary teams;
+    private final MatchClock clock;
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] startSequences;
+    private long[] startTimes;
+    private byte[] statuses;
+    private int[] generations;
+    private int slotCount;
+    private int[] freeSlots;
+    private int freeCount;
+    private int[] startOrder;
+    private int startOrderSize;
+    private int liveCount;
+    private long nextStartSequence;
+
+    /**
+     * Constructs an empty match store.
+     */
+    public MatchStore() {
+        this(MatchClock.SYSTEM);
+    }
+
+    /**
+     * Constructs an empty match store whose matches take their start times from the given
+     * clock, e.g. a deterministic one for tests or replays.
+     *
+     * @param clock the clock read when a match starts (non-null)
+     * @throws IllegalArgumentException if clock is null
+     */
+    public MatchStore(MatchClock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+        this.teams = new TeamDictionary();
+        this.homeTeamIds = new int[INITIAL_CAPACITY];
+        this.awayTeamIds = new int[INITIAL_CAPACITY];
+        this.homeScores = new int[INITIAL_CAPACITY];
+        this.awayScores = new int[INITIAL_CAPACITY];
+        this.startSequences = new long[INITIAL_CAPACITY];
+        this.startTimes = new long[INITIAL_CAPACITY];
+        this.statuses = new byte[INITIAL_CAPACITY];
+        this.generations = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+        this.startOrder = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Starts a new match between two different teams. The match starts with a score of 0-0.
+     *
+     * @param homeTeamName the home team name (must not be null or empty)
+     * @param awayTeamName the away team name (must not be null or empty)
+     * @return a handle to the started match
+     * @throws IllegalArgumentException if either team name is invalid or both are the same team
+     */
+    public synchronized MatchHandle startMatch(String homeTeamName, String awayTeamName) {
+        int homeTeamId = teams.idOf(homeTeamName);
+        int awayTeamId = teams.idOf(awayTeamName);
+        if (homeTeamId == awayTeamId) {
+            throw new IllegalArgumentException("Home and away teams cannot be the same");
+        }
+
+        int slot = allocateSlot();
+        homeTeamIds[slot] = homeTeamId;
+        awayTeamIds[slot] = awayTeamId;
+        homeScores[slot] = 0;
+        awayScores[slot] = 0;
+        startSequences[slot] = ++nextStartSequence;
+        startTimes[slot] = clock.epochNanos();
+        statuses[slot] = IN_PROGRESS;
+        int generation = ++generations[slot];
+
+        if (startOrderSize == startOrder.length) {
+            startOrder = Arrays.copyOf(startOrder, startOrderSize * 2);
+        }
+        startOrder[startOrderSize++] = slot;
+        liveCount++;
+        return new MatchHandle(this, slot, generation);
+    }
+
+    /**
+     * Updates the score of an in-progress match.
+     *
+     * @param match the match to update (non-null)
+     * @param homeScore new home team score
+     * @param awayScore new away team score
+     * @throws IllegalArgumentException if match is null or a score is negative
+     * @throws IllegalStateException if match is not in progress or not found
+     */
+    public synchronized void updateScore(MatchHandle match, int homeScore, int awayScore) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        if (!isLive(match)) {
+            throw new IllegalStateException("Match is not in progress or not found on the scoreboard");
+        }
+        if (homeScore < 0 || awayScore < 0) {
+            throw new IllegalArgumentException("Scores cannot be negative");
+        }
+        homeScores[match.slot()] = homeScore;
+        awayScores[match.slot()] = awayScore;
+    }
+
+    /**
+     * Finishes a match and removes it from the summary. Finishing a match again has no effect.
+     *
+     * @param match the match to finish (non-null)
+     * @throws IllegalArgumentException if match is null
+     * @throws IllegalStateException if match belongs to another store
+     */
+    public synchronized void finishMatch(MatchHandle match) {
+        if (match == null) {
+            throw new IllegalArgumentException("Match cannot be null");
+        }
+        if (match.store() != this) {
+            throw new IllegalStateException("Match not found on the scoreboard");
+        }
+        if (!isLive(match)) {
+            return; // Already finished - idempotent case
+        }
+
+        statuses[match.slot()] = FINISHED;
+        liveCount--;
+        if (startOrderSize - liveCount > Math.max(liveCount, INITIAL_CAPACITY)) {
+            compact();
+        }
+    }
+
+    /**
+     * Returns the number of in-progress matches.
+     *
+     * @return the number of matches
+     */
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    /**
+     * Generates a summary of in-progress matches in the same format and order as
+     * {@code ScoreboardService.getSummary()}:
+     * 1. Total score (descending)
+     * 2. Most recently started (if scores equal)
+     *
+     * @return formatted summary string
+     */
+    public synchronized String getSummary() {
+        int[] sorted = sortedSlots();
+        StringBuilder summary = new StringBuilder(17 + sorted.length * 32).append("Matches summary:\n");
+        for (int i = 0; i < sorted.length; i++) {
+            int slot = sorted[i];
+            summary.append(i + 1).append(". ")
+                    .append(teams.team(homeTeamIds[slot]).name()).append(' ')
+                    .append(homeScores[slot]).append(" - ")
+                    .append(teams.team(awayTeamIds[slot]).name()).append(' ')
+                    .append(awayScores[slot])
+                    .append('\n');
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns the slots of all in-progress matches in summary order.
+     */
+    private int[] sortedSlots() {
+        int maxTotal = 0;
+        for (int i = 0; i < startOrderSize; i++) {
+            int slot = startOrder[i];
+            if (statuses[slot] == IN_PROGRESS) {
+                maxTotal = Math.max(maxTotal, homeScores[slot] + awayScores[slot]);
+            }
+        }
+
+        int[] sorted = new int[liveCount];
+        if (maxTotal > 4 * liveCount + 1024) {
+            // Totals too sparse for counting: sort keys of inverted total and start order instead
+            long[] keys = new long[liveCount];
+            int count = 0;
+            for (int i = startOrderSize - 1; i >= 0; i--) {
+                int slot = startOrder[i];
+                if (statuses[slot] == IN_PROGRESS) {
+                    long invertedTotal = Integer.MAX_VALUE - (homeScores[slot] + awayScores[slot]);
+                    keys[count++] = invertedTotal << 32 | (startOrderSize - 1 - i);
+                }
+            }
+            Arrays.sort(keys);
+            for (int i = 0; i < count; i++) {
+                sorted[i] = startOrder[startOrderSize - 1 - (int) keys[i]];
+            }
+            return sorted;
+        }
+
+        // Bucket start positions, highest total first
+        int[] positions = new int[maxTotal + 1];
+        for (int i = 0; i < startOrderSize; i++) {
+            int slot = startOrder[i];
+            if (statuses[slot] == IN_PROGRESS) {
+                positions[homeScores[slot] + awayScores[slot]]++;
+            }
+        }
+        int position = 0;
+        for (int total = maxTotal; total >= 0; total--) {
+            int count = positions[total];
+            positions[total] = position;
+            position += count;
+        }
+        // Most recently started first within each total
+        for (int i = startOrderSize - 1; i >= 0; i--) {
+            int slot = startOrder[i];
+            if (statuses[slot] == IN_PROGRESS) {
+                sorted[positions[homeScores[slot] + awayScores[slot]]++] = slot;
+            }
+        }
+        return sorted;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == statuses.length) {
+            int capacity = slotCount * 2;
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Drops finished matches from the start order and releases their slots for reuse.
+     */
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < startOrderSize; i++) {
+            int slot = startOrder[i];
+            if (statuses[slot] == IN_PROGRESS) {
+                startOrder[kept++] = slot;
+            } else {
+                statuses[slot] = FREE;
+                if (freeCount == freeSlots.length) {
+                    freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+                }
+                freeSlots[freeCount++] = slot;
+            }
+        }
+        startOrderSize = kept;
+    }
+
+    private boolean isLive(MatchHandle match) {
+        return match.store() == this && generations[match.slot()] == match.generation()
+                && statuses[match.slot()] == IN_PROGRESS;
+    }
+
+    /**
+     * Checks that the slot of a handle still holds its match, finished or not.
+     */
+    private int slotOf(MatchHandle match) {
+        int slot = match.slot();
+        if (generations[slot] != match.generation() || statuses[slot] == FREE) {
+            throw new IllegalStateException("Match is no longer held by the store");
+        }
+        return slot;
+    }
+
+    synchronized Team homeTeam(MatchHandle match) {
+        return teams.team(homeTeamIds[slotOf(match)]);
+    }
+
+    synchronized Team awayTeam(MatchHandle match) {
+        return teams.team(awayTeamIds[slotOf(match)]);
+    }
+
+    synchronized int homeScore(MatchHandle match) {
+        return homeScores[slotOf(match)];
+    }
+
+    synchronized int awayScore(MatchHandle match) {
+        return awayScores[slotOf(match)];
+    }
+
+    synchronized long startSequence(MatchHandle match) {
+        return startSequences[slotOf(match)];
+    }
+
+    synchronized LocalDateTime startTime(MatchHandle match) {
+        long nanos = startTimes[slotOf(match)];
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                Math.floorMod(nanos, 1_000_000_000L)), ZoneId.systemDefault());
+    }
+
+    synchronized boolean isInProgress(MatchHandle match) {
+        return isLive(match);
+    }
+
+    synchronized String describe(MatchHandle match) {
+        int slot = match.slot();
+        if (generations[slot] != match.generation() || statuses[slot] == FREE) {
+            return "Finished match";
+        }
+        return teams.team(homeTeamIds[slot]).name() + " " + homeScores[slot] + " - "
+                + teams.team(awayTeamIds[slot]).name() + " " + awayScores[slot];
+    }
+}
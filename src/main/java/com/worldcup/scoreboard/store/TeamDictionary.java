@@ -0,0 +1,63 @@
+package com.worldcup.scoreboard.store;
+
+import com.worldcup.scoreboard.model.Team;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary assigning dense integer ids to teams, so that a {@link MatchStore} can refer to
+ * teams by id. Names are formatted like {@link Team} names and every team is held once,
+ * however many matches it plays. Not thread-safe; guarded by the store.
+ */
+final class TeamDictionary {
+    private final Map<String, Integer> ids;
+    private Team[] teams;
+    private int size;
+
+    TeamDictionary() {
+        this.ids = new HashMap<>();
+        this.teams = new Team[16];
+    }
+
+    /**
+     * Returns the id of the team with the given name, assigning a new id on first use.
+     *
+     * @param rawName the team name, formatted like {@link Team} names
+     * @return the team id
+     * @throws IllegalArgumentException if the name is invalid
+     */
+    int idOf(String rawName) {
+        Team team = new Team(rawName);
+        Integer id = ids.get(team.name());
+        if (id != null) {
+            return id;
+        }
+        if (size == teams.length) {
+            teams = Arrays.copyOf(teams, size * 2);
+        }
+        teams[size] = team;
+        ids.put(team.name(), size);
+        return size++;
+    }
+
+    /**
+     * Returns the team with the given id.
+     *
+     * @param id the team id
+     * @return the team
+     */
+    Team team(int id) {
+        return teams[id];
+    }
+
+    /**
+     * Returns the number of distinct teams.
+     *
+     * @return the number of teams
+     */
+    int size() {
+        return size;
+    }
+}
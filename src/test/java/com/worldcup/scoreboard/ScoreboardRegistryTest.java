@@ -0,0 +1,157 @@
+package com.worldcup.scoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.GlobalRankedMatch;
+import com.worldcup.scoreboard.model.Match;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScoreboardRegistry} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Registries are created without automatic
+ * eviction, so idle scoreboards are only evicted when a test asks for it.
+ */
+class ScoreboardRegistryTest {
+
+    private ScoreboardRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoreboardRegistry(4, Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void getScoreboardShouldCreateBoardOncePerCompetition() {
+        // Act
+        Scoreboard worldCup = registry.getScoreboard("World Cup");
+
+        // Assert
+        assertSame(worldCup, registry.getScoreboard("World Cup"), "Same competition should map to the same board");
+        assertNotSame(worldCup, registry.getScoreboard("Friendlies"), "Competitions should have separate boards");
+        assertEquals(Set.of("Friendlies", "World Cup"), registry.getCompetitions());
+        assertNull(registry.findScoreboard("League"), "Find should not create a board");
+        assertThrows(IllegalArgumentException.class, () -> registry.getScoreboard(null));
+    }
+
+    @Test
+    void removeScoreboardShouldDropCompetition() {
+        // Arrange
+        registry.getScoreboard("World Cup");
+
+        // Act
+        boolean removed = registry.removeScoreboard("World Cup");
+
+        // Assert
+        assertTrue(removed, "Existing board should be removed");
+        assertFalse(registry.removeScoreboard("World Cup"), "Missing board should not be removed");
+        assertTrue(registry.getCompetitions().isEmpty());
+    }
+
+    @Test
+    void evictIdleShouldKeepBoardsChangedSinceLastSweep() {
+        // Arrange
+        registry.getScoreboard("Idle");
+        Scoreboard busy = registry.getScoreboard("Busy");
+        busy.finishMatch(busy.startMatch("Mexico", "Canada"));
+
+        // Act
+        int evicted = registry.evictIdle();
+
+        // Assert
+        assertEquals(1, evicted, "Only the unchanged board should be evicted");
+        assertEquals(Set.of("Busy"), registry.getCompetitions());
+        assertEquals(1, registry.evictIdle(), "Board should be evicted once it stops changing");
+    }
+
+    @Test
+    void evictIdleShouldKeepBoardsWithMatchesInProgress() {
+        // Arrange
+        Scoreboard live = registry.getScoreboard("Live");
+        Match match = live.startMatch("Mexico", "Canada");
+        registry.evictIdle();
+
+        // Act
+        int evicted = registry.evictIdle();
+
+        // Assert
+        assertEquals(0, evicted, "Board with a match in progress should not be evicted");
+        assertSame(live, registry.findScoreboard("Live"));
+        live.finishMatch(match);
+        registry.evictIdle();
+        assertEquals(1, registry.evictIdle(), "Board should be evicted once its matches are finished");
+    }
+
+    @Test
+    void globalSummaryShouldMergeCompetitionsInComparatorOrder() {
+        // Arrange
+        Scoreboard worldCup = registry.getScoreboard("World Cup");
+        Scoreboard friendlies = registry.getScoreboard("Friendlies");
+        Match mexico = worldCup.startMatch("Mexico", "Canada");
+        Match spain = friendlies.startMatch("Spain", "Brazil");
+        worldCup.startMatch("Germany", "France");
+        Match uruguay = friendlies.startMatch("Uruguay", "Italy");
+        worldCup.updateScore(mexico, 0, 5);
+        friendlies.updateScore(spain, 10, 2);
+        friendlies.updateScore(uruguay, 6, 6);
+
+        // Act
+        String summary = registry.getGlobalSummary();
+        List<GlobalRankedMatch> top = registry.getGlobalTopMatches(2);
+
+        // Assert
+        assertEquals("""
+                Matches summary:
+                1. [Friendlies] Uruguay 6 - Italy 6
+                2. [Friendlies] Spain 10 - Brazil 2
+                3. [World Cup] Mexico 0 - Canada 5
+                4. [World Cup] Germany 0 - France 0
+                """, summary, "Equal totals should be ordered by start across competitions");
+        assertEquals(2, top.size());
+        assertEquals("2. [Friendlies] Spain 10 - Brazil 2", top.get(1).toString());
+    }
+
+    @Test
+    void scoreboardsShouldUseTheConfiguredHistorySize() {
+        // Arrange
+        try (ScoreboardRegistry small = new ScoreboardRegistry(1, Duration.ZERO, 2)) {
+            Scoreboard scoreboard = small.getScoreboard("World Cup");
+            Match match = scoreboard.startMatch("Mexico", "Canada");
+            long seen = scoreboard.getVersion();
+            scoreboard.updateScore(match, 1, 0);
+            scoreboard.updateScore(match, 2, 0);
+
+            // Act
+            boolean recentIsDelta = !scoreboard.getDelta(seen).full();
+            scoreboard.updateScore(match, 3, 0);
+            boolean olderIsDelta = !scoreboard.getDelta(seen).full();
+
+            // Assert
+            assertTrue(recentIsDelta, "Versions within the history should give a delta");
+            assertFalse(olderIsDelta, "Versions beyond the history should give a full summary");
+        }
+    }
+
+    @Test
+    void constructorShouldRejectInvalidArguments() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScoreboardRegistry(0, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScoreboardRegistry(1, Duration.ZERO, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ScoreboardRegistry(1, null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new ScoreboardRegistry(1, Duration.ofSeconds(-1)))
+        );
+    }
+}
@@ -0,0 +1,182 @@
+package com.worldcup.scoreboard.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchResult;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ResultArchive} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Results are archived from matches finished on
+ * a {@link ScoreboardService}.
+ */
+class ResultArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findByTeamShouldReturnResultsOfFinishedMatches() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        ResultArchive archive = ResultArchive.open(service);
+        Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(match1, 0, 5);
+        service.finishMatch(match1);
+        Match match2 = service.startMatch(new Team("Spain"), new Team("Mexico"));
+        service.updateScore(match2, 1, 2);
+        match2.finishMatch(); // Finished directly on the match
+        service.startMatch(new Team("Mexico"), new Team("Brazil"));
+
+        // Act
+        List<MatchResult> results = archive.findByTeam(new Team("Mexico"));
+
+        // Assert
+        assertEquals(List.of("Mexico 0 - Canada 5", "Spain 1 - Mexico 2"),
+                results.stream().map(MatchResult::toString).toList(), "Live match should not be archived");
+        assertEquals(match1.getId(), results.get(0).matchId());
+        assertEquals(match1.getStartTime(), results.get(0).startTime());
+        assertEquals(List.of(), archive.findByTeam(new Team("Germany")), "Unknown team should have no results");
+    }
+
+    @Test
+    void findByStartTimeShouldReturnResultsWithinRange() {
+        // Arrange
+        LocalDateTime day = LocalDateTime.of(2026, 6, 11, 0, 0);
+        ScoreboardService service = ScoreboardService.restore(List.of(
+                new MatchState(new Team("Mexico"), new Team("Canada"), 0, 5, day.plusHours(18)),
+                new MatchState(new Team("Spain"), new Team("Brazil"), 10, 2, day.plusDays(1).plusHours(18)),
+                new MatchState(new Team("Germany"), new Team("France"), 2, 2, day.plusDays(2).plusHours(18))));
+        ResultArchive archive = ResultArchive.open(service);
+        for (Match match : service.getMatches()) {
+            service.finishMatch(match);
+        }
+
+        // Act
+        List<MatchResult> results = archive.findByStartTime(day.plusDays(1), day.plusDays(3));
+
+        // Assert
+        assertEquals(List.of("Germany 2 - France 2", "Spain 10 - Brazil 2"),
+                results.stream().map(MatchResult::toString).sorted().toList());
+        assertEquals(day.plusDays(1).plusHours(18), results.stream()
+                .filter(result -> result.homeTeam().name().equals("Spain")).findFirst().orElseThrow().startTime());
+    }
+
+    @Test
+    void sealedSegmentsShouldBeCompactAndSpillToDisk() throws Exception {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        List<Long> mexicoIds = new ArrayList<>();
+        try (ResultArchive archive = ResultArchive.open(service, directory, 0, Long.MAX_VALUE, Duration.ZERO)) {
+
+            // Act
+            for (int i = 0; i < ResultArchive.SEGMENT_SIZE + 10; i++) {
+                Match match = service.startMatch(new Team("Home " + i % 40), new Team("Away " + i % 40));
+                service.updateScore(match, i % 5, i % 3);
+                service.finishMatch(match);
+                if (i % 40 == 7) {
+                    mexicoIds.add(match.getId());
+                }
+            }
+            archive.awaitSpills();
+
+            // Assert
+            assertEquals(ResultArchive.SEGMENT_SIZE + 10, archive.size());
+            assertEquals(0, archive.getMemoryBytes(), "Sealed segment should be spilled with a zero memory budget");
+            assertTrue(archive.getDiskBytes() < ResultArchive.SEGMENT_SIZE * 20L,
+                    "Results should take less than 20 bytes each, but took " + archive.getDiskBytes());
+            assertEquals(mexicoIds, archive.findByTeam(new Team("Home 7")).stream().map(MatchResult::matchId).toList(),
+                    "Spilled segment should still be queried");
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1, files.count());
+            }
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count(), "Spilled segments should be deleted on close");
+        }
+    }
+
+    @Test
+    void segmentsBeyondBudgetOrAgeShouldBeEvicted() throws IOException {
+        // Arrange
+        List<MatchState> oldMatches = new ArrayList<>();
+        for (int i = 0; i < ResultArchive.SEGMENT_SIZE; i++) {
+            oldMatches.add(new MatchState(new Team("Home " + i), new Team("Away " + i), 1, 0,
+                    LocalDateTime.now().minusDays(3)));
+        }
+        ScoreboardService oldService = ScoreboardService.restore(oldMatches);
+        ScoreboardService service = new ScoreboardService();
+        ResultArchive byAge = ResultArchive.open(oldService, null, Long.MAX_VALUE, 0, Duration.ofDays(1));
+        ResultArchive byBudget = ResultArchive.open(service, null, 0, 0, Duration.ZERO);
+
+        // Act
+        for (Match match : oldService.getMatches()) {
+            oldService.finishMatch(match);
+        }
+        for (int i = 0; i < ResultArchive.SEGMENT_SIZE + 1; i++) {
+            service.finishMatch(service.startMatch(new Team("Mexico"), new Team("Canada")));
+        }
+
+        // Assert
+        assertEquals(0, byAge.size(), "Segment older than the maximum age should be dropped");
+        assertEquals(1, byBudget.size(), "Segment beyond the memory budget should be dropped without spill directory");
+        assertEquals(1, byBudget.findByTeam(new Team("Mexico")).size());
+    }
+
+    @Test
+    void spillFailureShouldDropSegmentWithoutFailingTheFinish() throws Exception {
+        // Arrange
+        Path spillDirectory = directory.resolve("spill");
+        ScoreboardService service = new ScoreboardService();
+        try (ResultArchive archive = ResultArchive.open(service, spillDirectory, 0, Long.MAX_VALUE, Duration.ZERO)) {
+            Files.delete(spillDirectory); // Every spill fails from now on
+
+            // Act
+            for (int i = 0; i < ResultArchive.SEGMENT_SIZE + 1; i++) {
+                Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+                assertDoesNotThrow(() -> service.finishMatch(match));
+            }
+            archive.awaitSpills();
+
+            // Assert
+            assertEquals(1, archive.getSpillFailures(), "Failed spill should be counted");
+            assertEquals(1, archive.size(), "Segment that cannot be spilled should be dropped");
+            assertEquals(0, archive.getMemoryBytes());
+            assertEquals(0, archive.getDiskBytes());
+            assertEquals(1, archive.findByTeam(new Team("Mexico")).size());
+        }
+    }
+
+    @Test
+    void openShouldRejectInvalidArguments() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ResultArchive.open(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResultArchive.open(service, directory, -1, 0, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResultArchive.open(service, directory, 0, 0, Duration.ofDays(-1))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ResultArchive.open(service).findByTeam(null))
+        );
+    }
+}
@@ -6,21 +6,17 @@ import org.junit.jupiter.api.Test;
 import com.worldcup.scoreboard.model.Match;
 import com.worldcup.scoreboard.model.Team;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * Unit tests for the {@link MatchComparator} class.
  * <p>
  * Tests validate that matches are correctly sorted by total score (descending) and,
- * if scores are equal, by insertion order (most recent first).
+ * if scores are equal, by start order (most recent first).
  * Includes cases for different scores, equal scores, and edge cases.
  */
 class MatchComparatorTest {
     private MatchComparator comparator;
-    private List<Match> matches;
     private Match match1;
     private Match match2;
     private Match match3;
@@ -28,7 +24,6 @@ class MatchComparatorTest {
     @BeforeEach
     void setUp() {
         // Arrange - initialize test data
-        matches = new ArrayList<>();
         Team homeTeam1 = new Team("Home1");
         Team awayTeam1 = new Team("Away1");
         Team homeTeam2 = new Team("Home2");
@@ -40,11 +35,7 @@ class MatchComparatorTest {
         match2 = new Match(homeTeam2, awayTeam2);
         match3 = new Match(homeTeam3, awayTeam3);
 
-        matches.add(match1);
-        matches.add(match2);
-        matches.add(match3);
-
-        comparator = new MatchComparator(matches);
+        comparator = new MatchComparator();
     }
 
     @Test
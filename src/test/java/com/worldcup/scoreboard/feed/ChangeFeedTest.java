@@ -0,0 +1,228 @@
+package com.worldcup.scoreboard.feed;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.ScoreUpdate;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ChangeFeed} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Events are delivered on the calling thread,
+ * so every test runs deterministically.
+ */
+class ChangeFeedTest {
+
+    private ScoreboardService service;
+    private ChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScoreboardService();
+        feed = new ChangeFeed(service, Runnable::run);
+    }
+
+    @Test
+    void subscriberShouldReceiveEveryChangeWithItsVersion() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        feed.subscribe(subscriber);
+
+        // Act
+        Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = service.startMatch(new Team("Spain"), new Team("Brazil"));
+        service.updateScore(match1, 1, 0);
+        service.finishMatch(match2);
+
+        // Assert
+        assertEquals(List.of(
+                new ScoreboardEvent.MatchStarted(1, match1),
+                new ScoreboardEvent.MatchStarted(2, match2),
+                new ScoreboardEvent.ScoreChanged(3, match1, 1, 0),
+                new ScoreboardEvent.RankChanged(3, match1, 2, 1),
+                new ScoreboardEvent.MatchFinished(4, match2)
+        ), subscriber.events, "Events should be delivered in order with the version that includes them");
+    }
+
+    @Test
+    void slowSubscriberShouldReceiveCoalescedLatestState() {
+        // Arrange - no demand yet
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        feed.subscribe(subscriber);
+        Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = service.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Act - many updates while the subscriber lags behind
+        for (int goals = 1; goals <= 100; goals++) {
+            service.updateScore(match1, goals, 0);
+        }
+        service.updateScore(match2, 200, 0);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // Assert - one event per kind and match, in the order matches first changed
+        assertEquals(List.of(
+                new ScoreboardEvent.MatchStarted(1, match1),
+                new ScoreboardEvent.ScoreChanged(102, match1, 100, 0),
+                new ScoreboardEvent.RankChanged(3, match1, 2, 1),
+                new ScoreboardEvent.MatchStarted(2, match2),
+                new ScoreboardEvent.ScoreChanged(103, match2, 200, 0),
+                new ScoreboardEvent.RankChanged(103, match2, 2, 1)
+        ), subscriber.events, "Only the latest state of each match should be delivered");
+    }
+
+    @Test
+    void batchUpdatesShouldCarryTheVersionOfTheBatch() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        feed.subscribe(subscriber);
+        Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = service.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Act
+        service.updateScores(List.of(new ScoreUpdate(match1, 1, 0), new ScoreUpdate(match2, 2, 0)));
+
+        // Assert
+        assertEquals(3, service.getVersion());
+        assertEquals(List.of(
+                new ScoreboardEvent.ScoreChanged(3, match1, 1, 0),
+                new ScoreboardEvent.ScoreChanged(3, match2, 2, 0)
+        ), subscriber.events.subList(2, subscriber.events.size()), "Batch events should carry the batch version");
+    }
+
+    @Test
+    void laggingSubscriberShouldDropMatchesFinishedBeforeTheirStartWasDelivered() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        feed.subscribe(subscriber);
+        Match seen = service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Act - the subscriber lags while many short-lived matches come and go
+        service.finishMatch(seen);
+        for (int i = 0; i < 1_000; i++) {
+            service.finishMatch(service.startMatch(new Team("Home" + i), new Team("Away" + i)));
+        }
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(List.of(
+                new ScoreboardEvent.MatchStarted(1, seen),
+                new ScoreboardEvent.MatchFinished(2, seen)
+        ), subscriber.events, "Only matches the subscriber has seen started should be reported finished");
+    }
+
+    @Test
+    void subscriberShouldOnlyReceiveRequestedNumberOfEvents() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(1);
+        feed.subscribe(subscriber);
+
+        // Act
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Assert
+        assertEquals(1, subscriber.events.size(), "Delivery should respect the demand");
+        subscriber.subscription.request(1);
+        assertEquals(2, subscriber.events.size(), "Pending event should be delivered on request");
+    }
+
+    @Test
+    void cancelShouldStopDeliveryAndStopListening() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        feed.subscribe(subscriber);
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Act
+        subscriber.subscription.cancel();
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Assert
+        assertEquals(1, subscriber.events.size(), "No events should be delivered after cancel");
+        assertEquals(0, feed.getSubscriberCount(), "Cancelled subscriber should be removed");
+    }
+
+    @Test
+    void invalidRequestShouldSignalError() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        feed.subscribe(subscriber);
+
+        // Act
+        subscriber.subscription.request(0);
+
+        // Assert
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error, "Non-positive request should fail");
+        assertEquals(0, feed.getSubscriberCount(), "Failed subscriber should be removed");
+    }
+
+    @Test
+    void closeShouldCompleteSubscribers() {
+        // Arrange
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        feed.subscribe(subscriber);
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Act
+        feed.close();
+
+        // Assert
+        assertFalse(subscriber.completed, "Pending events should be delivered before completion");
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.events.size());
+        assertTrue(subscriber.completed, "Subscriber should be completed after its pending events");
+
+        RecordingSubscriber late = new RecordingSubscriber(0);
+        feed.subscribe(late);
+        assertTrue(late.completed, "Subscribing to a closed feed should complete right away");
+    }
+
+    @Test
+    void subscribeShouldRejectNullSubscriber() {
+        assertThrows(NullPointerException.class, () -> feed.subscribe(null));
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final long initialDemand;
+        private final List<ScoreboardEvent> events = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.worldcup.scoreboard.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScoreboardHttpServer} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Requests are sent to a server bound to a free
+ * port on localhost.
+ */
+class ScoreboardHttpServerTest {
+
+    private ScoreboardService service;
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ScoreboardService();
+        server = ScoreboardHttpServer.start(service, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        client.close();
+    }
+
+    @Test
+    void summaryShouldBeServedWithVersionETag() throws Exception {
+        // Arrange
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(match, 0, 5);
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Act
+        HttpResponse<String> response = get("/summary", null, null);
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals(service.getSummary(), response.body());
+        assertEquals("\"summary-" + service.getVersion() + "\"", response.headers().firstValue("ETag").orElseThrow());
+        assertEquals("text/plain; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    void unchangedBoardShouldAnswerNotModified() throws Exception {
+        // Arrange
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        String etag = get("/summary.json", null, null).headers().firstValue("ETag").orElseThrow();
+
+        // Act
+        HttpResponse<String> unchanged = get("/summary.json", etag, null);
+        service.updateScore(match, 1, 0);
+        HttpResponse<String> changed = get("/summary.json", etag, null);
+
+        // Assert
+        assertEquals(304, unchanged.statusCode());
+        assertEquals("", unchanged.body());
+        assertEquals(200, changed.statusCode());
+        assertNotEquals(etag, changed.headers().firstValue("ETag").orElseThrow());
+        assertTrue(changed.body().contains("\"homeTeam\":\"Mexico\",\"homeScore\":1"), changed.body());
+    }
+
+    @Test
+    void viewsShouldHaveTheirOwnETags() throws Exception {
+        // Arrange
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+        String summary = get("/summary", null, null).headers().firstValue("ETag").orElseThrow();
+
+        // Act
+        HttpResponse<String> top = get("/top?count=1", summary, null);
+        HttpResponse<String> otherTop = get("/top?count=2", top.headers().firstValue("ETag").orElseThrow(), null);
+        HttpResponse<String> json = get("/summary.json", summary, null);
+
+        // Assert
+        assertEquals(200, top.statusCode(), "Summary tag should not validate the top view");
+        assertEquals(200, otherTop.statusCode(), "Top tag should not validate another count");
+        assertEquals(200, json.statusCode(), "Text tag should not validate the JSON view");
+        assertEquals(4, Stream.of(summary, top.headers().firstValue("ETag").orElseThrow(),
+                        otherTop.headers().firstValue("ETag").orElseThrow(), json.headers().firstValue("ETag").orElseThrow())
+                .distinct().count(), "Every representation should have its own tag");
+    }
+
+    @Test
+    void largeBodiesShouldBeGzippedForClientsAcceptingGzip() throws Exception {
+        // Arrange
+        for (int i = 0; i < 50; i++) {
+            service.startMatch(new Team("Home " + i), new Team("Away " + i));
+        }
+
+        // Act
+        HttpResponse<byte[]> response = client.send(request("/summary", null, "gzip, deflate"),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElseThrow());
+        assertEquals("\"summary-" + service.getVersion() + "-gzip\"",
+                response.headers().firstValue("ETag").orElseThrow());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertEquals(service.getSummary(), new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(response.body().length < service.getSummary().length() / 2);
+    }
+
+    @Test
+    void topAndMatchViewsShouldBeServedAsTextAndJson() throws Exception {
+        // Arrange
+        Match mexico = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(mexico, 0, 5);
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+        Match germany = service.startMatch(new Team("Germany"), new Team("France"));
+        service.updateScore(germany, 2, 2);
+
+        // Act
+        HttpResponse<String> topText = get("/top?count=2", null, null);
+        HttpResponse<String> topJson = get("/top.json?count=1", null, null);
+        HttpResponse<String> matchText = get("/matches/" + mexico.getId(), null, null);
+        HttpResponse<String> matchJson = get("/matches/" + mexico.getId() + ".json", null, null);
+
+        // Assert
+        assertEquals("Top matches:\n1. Mexico 0 - Canada 5\n2. Germany 2 - France 2\n", topText.body());
+        assertEquals("{\"version\":" + service.getVersion() + ",\"totalMatches\":3,\"matches\":[{\"position\":1,"
+                + "\"id\":" + mexico.getId() + ",\"homeTeam\":\"Mexico\",\"homeScore\":0,\"awayTeam\":\"Canada\","
+                + "\"awayScore\":5}]}", topJson.body());
+        assertEquals("application/json", topJson.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals("Mexico 0 - Canada 5\n", matchText.body());
+        assertTrue(matchJson.body().contains("\"startTime\":\"" + mexico.getStartTime() + "\""), matchJson.body());
+    }
+
+    @Test
+    void invalidRequestsShouldBeRejected() throws Exception {
+        // Arrange
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.finishMatch(match);
+
+        // Act
+        HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri("/summary"))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(405, post.statusCode());
+        assertEquals("GET, HEAD", post.headers().firstValue("Allow").orElseThrow());
+        assertEquals(404, get("/matches/" + match.getId(), null, null).statusCode(), "Finished match should not be served");
+        assertEquals(404, get("/matches/abc", null, null).statusCode());
+        assertEquals(404, get("/unknown", null, null).statusCode());
+        assertEquals(400, get("/top?count=-1", null, null).statusCode());
+        assertEquals(400, get("/top?count=" + (ScoreboardHttpServer.MAX_TOP_COUNT + 1), null, null).statusCode());
+    }
+
+    @Test
+    void headerParsingShouldFollowHttpRules() {
+        // Assert
+        assertAll(
+                () -> assertTrue(ScoreboardHttpServer.acceptsGzip("deflate, gzip;q=0.5")),
+                () -> assertTrue(ScoreboardHttpServer.acceptsGzip("*")),
+                () -> assertFalse(ScoreboardHttpServer.acceptsGzip("gzip;q=0")),
+                () -> assertFalse(ScoreboardHttpServer.acceptsGzip("identity")),
+                () -> assertTrue(ScoreboardHttpServer.matches("\"top-10-1\", W/\"top-10-7-gzip\"", "top-10", 7)),
+                () -> assertTrue(ScoreboardHttpServer.matches("*", "summary", 7)),
+                () -> assertFalse(ScoreboardHttpServer.matches("\"summary-6\"", "summary", 7)),
+                () -> assertFalse(ScoreboardHttpServer.matches("\"top-10-7\"", "top-5", 7))
+        );
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch, String acceptEncoding) throws Exception {
+        return client.send(request(path, ifNoneMatch, acceptEncoding), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path, String ifNoneMatch, String acceptEncoding) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return request.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,124 @@
+package com.worldcup.scoreboard.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.worldcup.scoreboard.Scoreboard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EventLogParser} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested.
+ */
+class EventLogParserTest {
+    private static final String LOG = """
+            START;Mexico;Canada
+            START;Spain;Brazil
+            START;Germany;France
+            SCORE;1;0;5
+            SCORE;2;10;2
+            # half time
+            SCORE;3;2;2
+            FINISH;3
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parseShouldApplyEventsToScoreboard() throws IOException {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard();
+        Path log = Files.writeString(directory.resolve("season.log"), LOG);
+
+        // Act
+        EventLogStats stats = new EventLogParser(scoreboard).parse(log);
+
+        // Assert
+        assertEquals(new EventLogStats(7, 0), stats);
+        assertEquals("""
+                Matches summary:
+                1. Spain 10 - Brazil 2
+                2. Mexico 0 - Canada 5
+                """, scoreboard.getSummary());
+    }
+
+    @Test
+    void parseShouldHandleLinesCrossingRegionBoundaries() throws IOException {
+        // Arrange
+        Scoreboard expected = new Scoreboard();
+        Scoreboard scoreboard = new Scoreboard();
+        Path log = Files.writeString(directory.resolve("season.log"), LOG.replace("\n", "\r\n") + "SCORE;1;1;5");
+
+        // Act
+        new EventLogParser(expected).parse(log);
+        EventLogStats stats = new EventLogParser(scoreboard, 24).parse(log);
+
+        // Assert
+        assertEquals(new EventLogStats(8, 0), stats);
+        assertEquals(expected.getSummary(), scoreboard.getSummary(), "Region size should not change the outcome");
+        assertTrue(scoreboard.getSummary().contains("Mexico 1 - Canada 5"), "Final line without terminator should be parsed");
+    }
+
+    @Test
+    void parseShouldCountAndSkipRejectedEvents() throws IOException {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard();
+        Path log = Files.writeString(directory.resolve("season.log"), """
+                START;Mexico;Canada
+                START;Mexico;Mexico
+                START;;Canada
+                GOAL;1
+                SCORE;1;x;0
+                SCORE;2;1;0
+                SCORE;7;1;0
+                SCORE;1;1;0;9
+                SCORE;1;1;0
+                FINISH;1
+                FINISH;1
+                """);
+
+        // Act
+        EventLogStats stats = new EventLogParser(scoreboard).parse(log);
+
+        // Assert
+        assertEquals(new EventLogStats(3, 8), stats);
+        assertEquals("Matches summary:\n", scoreboard.getSummary());
+    }
+
+    @Test
+    void parseShouldRestartMatchNumbersForEveryLog() throws IOException {
+        // Arrange
+        Scoreboard scoreboard = new Scoreboard();
+        EventLogParser parser = new EventLogParser(scoreboard);
+        Path first = Files.writeString(directory.resolve("first.log"), "START;Mexico;Canada\n");
+        Path second = Files.writeString(directory.resolve("second.log"), "START;Spain;Brazil\nSCORE;1;3;2\n");
+
+        // Act
+        parser.parse(first);
+        parser.parse(second);
+
+        // Assert
+        assertEquals("""
+                Matches summary:
+                1. Spain 3 - Brazil 2
+                2. Mexico 0 - Canada 0
+                """, scoreboard.getSummary());
+    }
+
+    @Test
+    void parseShouldRejectLinesLongerThanRegion() throws IOException {
+        // Arrange
+        Path log = Files.writeString(directory.resolve("season.log"), LOG);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> new EventLogParser(new Scoreboard(), 8).parse(log));
+        assertThrows(IllegalArgumentException.class, () -> new EventLogParser(new Scoreboard()).parse(null));
+    }
+}
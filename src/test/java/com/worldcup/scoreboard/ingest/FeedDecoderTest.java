@@ -0,0 +1,64 @@
+package com.worldcup.scoreboard.ingest;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Team;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link FeedDecoder} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested.
+ */
+class FeedDecoderTest {
+
+    @Test
+    void decodeShouldNumberStartedMatches() {
+        // Arrange
+        FeedDecoder decoder = new FeedDecoder();
+
+        // Act
+        FeedCommand first = decoder.decode("START;Mexico;Canada");
+        FeedCommand second = decoder.decode("START;Spain;Brazil");
+        FeedCommand update = decoder.decode("SCORE;2;3;2");
+        FeedCommand finish = decoder.decode("FINISH;1");
+
+        // Assert
+        assertAll(
+                () -> assertEquals(new FeedCommand.Start(1, new Team("Mexico"), new Team("Canada")), first),
+                () -> assertEquals(new FeedCommand.Start(2, new Team("Spain"), new Team("Brazil")), second),
+                () -> assertEquals(new FeedCommand.Update(2, 3, 2), update),
+                () -> assertEquals(new FeedCommand.Finish(1), finish)
+        );
+    }
+
+    @Test
+    void decodeShouldSkipBlankAndCommentLines() {
+        // Arrange
+        FeedDecoder decoder = new FeedDecoder();
+
+        // Assert
+        assertNull(decoder.decode(""));
+        assertNull(decoder.decode("   "));
+        assertNull(decoder.decode("# provider heartbeat"));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedLines() {
+        // Arrange
+        FeedDecoder decoder = new FeedDecoder();
+        decoder.decode("START;Mexico;Canada");
+
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode(null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("GOAL;1")),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("START;Mexico")),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("START;;Canada")),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("SCORE;1;x;0")),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("SCORE;2;1;0")),
+                () -> assertThrows(IllegalArgumentException.class, () -> decoder.decode("FINISH;0"))
+        );
+    }
+}
@@ -0,0 +1,218 @@
+package com.worldcup.scoreboard.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.service.ScoreboardListener;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link IngestionPipeline} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Feeds are local files or in-memory pipes
+ * standing in for provider connections.
+ */
+class IngestionPipelineTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void pipelineShouldApplyFeedToScoreboard() throws IOException, InterruptedException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Path file = Files.writeString(directory.resolve("provider-a.feed"), """
+                START;Mexico;Canada
+                START;Spain;Brazil
+                START;Germany;France
+                SCORE;1;0;5
+                SCORE;2;10;2
+                SCORE;3;2;2
+                FINISH;3
+                """);
+
+        // Act
+        try (IngestionPipeline pipeline = new IngestionPipeline(service)) {
+            pipeline.addFeed(new FileScoreFeed("provider-a", file));
+            assertTrue(pipeline.awaitCompletion(TIMEOUT), "Feed should be ingested completely");
+
+            // Assert
+            FeedStats stats = pipeline.getFeedStats("provider-a");
+            assertAll(
+                    () -> assertEquals(7, stats.received()),
+                    () -> assertEquals(7, stats.applied()),
+                    () -> assertEquals(0, stats.rejected()),
+                    () -> assertEquals(0, stats.backlog()),
+                    () -> assertTrue(stats.completed())
+            );
+        }
+        assertEquals("""
+                Matches summary:
+                1. Spain 10 - Brazil 2
+                2. Mexico 0 - Canada 5
+                """, service.getSummary());
+    }
+
+    @Test
+    void pipelineShouldKeepFeedsApartAndCountRejectedMessages() throws IOException, InterruptedException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Path first = Files.writeString(directory.resolve("a.feed"), "START;Mexico;Canada\nSCORE;1;1;0\n");
+        Path second = Files.writeString(directory.resolve("b.feed"),
+                "START;Spain;Brazil\nBROKEN\nSCORE;1;-1;0\nSCORE;1;2;0\n");
+
+        // Act
+        try (IngestionPipeline pipeline = new IngestionPipeline(service)) {
+            pipeline.addFeed(new FileScoreFeed("a", first));
+            pipeline.addFeed(new FileScoreFeed("b", second));
+            assertTrue(pipeline.awaitCompletion(TIMEOUT));
+            List<FeedStats> stats = pipeline.getFeedStats();
+
+            // Assert
+            assertEquals(List.of("a", "b"), stats.stream().map(FeedStats::feed).toList());
+            assertEquals(2, stats.get(1).rejected(), "Malformed line and negative score should be rejected");
+            assertEquals(2, stats.get(1).applied());
+            assertThrows(IllegalArgumentException.class, () -> pipeline.addFeed(new FileScoreFeed("a", first)));
+        }
+        assertEquals("""
+                Matches summary:
+                1. Spain 2 - Brazil 0
+                2. Mexico 1 - Canada 0
+                """, service.getSummary(), "Match numbers should be local to each feed");
+    }
+
+    @Test
+    void pipelineShouldKeepApplyingWhenListenerFails() throws IOException, InterruptedException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        service.addListener(new ScoreboardListener() {
+            @Override
+            public void scoreUpdated(Match match, int homeScore, int awayScore) {
+                throw new UnsupportedOperationException("Listener failure");
+            }
+        });
+        Path file = Files.writeString(directory.resolve("provider-a.feed"),
+                "START;Mexico;Canada\nSCORE;1;0;5\nSTART;Spain;Brazil\n");
+
+        // Act
+        try (IngestionPipeline pipeline = new IngestionPipeline(service)) {
+            pipeline.addFeed(new FileScoreFeed("provider-a", file));
+            assertTrue(pipeline.awaitCompletion(TIMEOUT), "Writer should survive the failing listener");
+
+            // Assert
+            FeedStats stats = pipeline.getFeedStats("provider-a");
+            assertEquals(2, stats.applied());
+            assertEquals(1, stats.rejected(), "Failed command should be counted");
+        }
+        assertEquals("""
+                Matches summary:
+                1. Mexico 0 - Canada 5
+                2. Spain 0 - Brazil 0
+                """, service.getSummary());
+    }
+
+    @Test
+    void pipelineShouldApplyLiveFeedAsMessagesArrive() throws IOException, InterruptedException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        PipedOutputStream provider = new PipedOutputStream();
+        PipedInputStream connection = new PipedInputStream(provider);
+
+        try (IngestionPipeline pipeline = new IngestionPipeline(service, 1)) {
+            pipeline.addFeed(new ScoreFeed() {
+                @Override
+                public String name() {
+                    return "live";
+                }
+
+                @Override
+                public InputStream open() {
+                    return connection;
+                }
+            });
+
+            // Act
+            provider.write("START;Mexico;Canada\nSCORE;1;0;1\n".getBytes(StandardCharsets.UTF_8));
+            provider.flush();
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (pipeline.getFeedStats("live").applied() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Assert
+            assertEquals("Matches summary:\n1. Mexico 0 - Canada 1\n", service.getSummary());
+            assertFalse(pipeline.awaitCompletion(Duration.ofMillis(10)), "Open connection should not complete");
+            assertTrue(pipeline.getFeedStats("live").maxLagNanos() > 0, "Lag should be measured");
+
+            provider.close();
+            assertTrue(pipeline.awaitCompletion(TIMEOUT), "Closed connection should complete the feed");
+        }
+    }
+
+    @Test
+    void pipelineShouldCompleteFeedsWhoseProviderThrows() throws InterruptedException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+
+        try (IngestionPipeline pipeline = new IngestionPipeline(service)) {
+
+            // Act
+            pipeline.addFeed(new ScoreFeed() {
+                @Override
+                public String name() {
+                    return "refused";
+                }
+
+                @Override
+                public InputStream open() {
+                    throw new IllegalStateException("Provider unavailable");
+                }
+            });
+            pipeline.addFeed(new ScoreFeed() {
+                @Override
+                public String name() {
+                    return "broken";
+                }
+
+                @Override
+                public InputStream open() {
+                    return new InputStream() {
+                        @Override
+                        public int read() {
+                            throw new IllegalStateException("Provider crashed");
+                        }
+                    };
+                }
+            });
+
+            // Assert
+            assertTrue(pipeline.awaitCompletion(TIMEOUT), "Failing providers should end their feeds");
+            assertTrue(pipeline.getFeedStats("refused").completed());
+            assertTrue(pipeline.getFeedStats("broken").completed());
+        }
+    }
+
+    @Test
+    void constructorShouldRejectInvalidArguments() {
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new IngestionPipeline(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new IngestionPipeline(new ScoreboardService(), 0))
+        );
+    }
+}
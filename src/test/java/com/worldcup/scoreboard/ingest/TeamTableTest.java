@@ -0,0 +1,56 @@
+package com.worldcup.scoreboard.ingest;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Team;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TeamTable} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested.
+ */
+class TeamTableTest {
+
+    @Test
+    void resolveShouldReturnCanonicalTeamForEqualBytes() {
+        // Arrange
+        TeamTable table = new TeamTable();
+        ByteBuffer names = ByteBuffer.wrap("Mexico;Canada;Mexico;MEXICO".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        Team first = table.resolve(names, 0, 6);
+        Team canada = table.resolve(names, 7, 13);
+        Team second = table.resolve(names, 14, 20);
+        Team upper = table.resolve(names, 21, 27);
+
+        // Assert
+        assertSame(first, second, "Same bytes should resolve to the same team");
+        assertSame(first, upper, "Spellings of the same team should be canonicalized");
+        assertEquals(new Team("Canada"), canada);
+        assertEquals(3, table.size(), "Every raw spelling should be decoded only once");
+    }
+
+    @Test
+    void resolveShouldKeepTeamsWhenGrowing() {
+        // Arrange
+        TeamTable table = new TeamTable();
+        Team[] teams = new Team[500];
+
+        // Act
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = table.resolve(ByteBuffer.wrap(("Team " + i).getBytes(StandardCharsets.UTF_8)), 0, ("Team " + i).length());
+        }
+
+        // Assert
+        for (int i = 0; i < teams.length; i++) {
+            byte[] name = ("Team " + i).getBytes(StandardCharsets.UTF_8);
+            assertSame(teams[i], table.resolve(ByteBuffer.wrap(name), 0, name.length));
+        }
+        assertThrows(IllegalArgumentException.class, () -> table.resolve(ByteBuffer.wrap(new byte[]{'a'}), 0, 1));
+    }
+}
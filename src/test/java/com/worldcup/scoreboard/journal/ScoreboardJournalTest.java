@@ -0,0 +1,298 @@
+package com.worldcup.scoreboard.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScoreboardJournal} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Each test records changes of a
+ * {@link ScoreboardService} and recovers them by opening the journal again.
+ */
+class ScoreboardJournalTest {
+    private static final int SMALL_SEGMENT_SIZE = 2048;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void openShouldRecoverRecordedMatches() throws IOException {
+        // Arrange
+        ScoreboardService service;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory)) {
+            service = journal.getService();
+            Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+            Match match2 = service.startMatch(new Team("Spain"), new Team("Brazil"));
+            Match match3 = service.startMatch(new Team("Germany"), new Team("France"));
+            service.updateScore(match1, 0, 5);
+            service.updateScore(match2, 3, 2);
+            service.updateScore(match3, 2, 2);
+            service.finishMatch(match3);
+        }
+
+        // Act
+        ScoreboardService recovered = recover();
+
+        // Assert
+        assertEquals(service.getSummary(), recovered.getSummary(), "Recovered board should match the original");
+        assertEquals(2, recovered.getMatches().size(), "Finished match should not be recovered");
+    }
+
+    @Test
+    void openShouldContinueRecordingAfterRecovery() throws IOException {
+        // Arrange
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory)) {
+            journal.getService().startMatch(new Team("Mexico"), new Team("Canada"));
+        }
+
+        // Act - recover, then keep changing the recovered board
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory)) {
+            ScoreboardService recovered = journal.getService();
+            Match mexico = recovered.getMatches().get(0);
+            recovered.updateScore(mexico, 1, 1);
+            recovered.startMatch(new Team("Spain"), new Team("Brazil"));
+        }
+        ScoreboardService recoveredAgain = recover();
+
+        // Assert
+        assertEquals("""
+                Matches summary:
+                1. Mexico 1 - Canada 1
+                2. Spain 0 - Brazil 0
+                """, recoveredAgain.getSummary(), "Changes after recovery should be recorded too");
+    }
+
+    @Test
+    void openShouldRecoverStartTimesAndStartOrder() throws IOException {
+        // Arrange
+        LocalDateTime kickoff = LocalDateTime.of(2026, 6, 11, 18, 0, 0, 123_456_789);
+        MatchClock clock = MatchClock.stepping(kickoff, Duration.ZERO);
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO, clock)) {
+            ScoreboardService service = journal.getService();
+            service.startMatch(new Team("Mexico"), new Team("Canada"));
+            service.startMatch(new Team("Spain"), new Team("Brazil"));
+        }
+
+        // Act
+        ScoreboardService recovered = recover();
+
+        // Assert
+        List<Match> matches = recovered.getMatches();
+        assertEquals(kickoff, matches.get(0).getStartTime(), "Start time should be recovered exactly");
+        assertEquals(kickoff, matches.get(1).getStartTime());
+        assertEquals("""
+                Matches summary:
+                1. Spain 0 - Brazil 0
+                2. Mexico 0 - Canada 0
+                """, recovered.getSummary(), "Most recently started match should still come first");
+    }
+
+    @Test
+    void openShouldRecoverUpdatesRacingTheirMatchStart() throws Exception {
+        // Arrange
+        int matches = 2_000;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService service = journal.getService();
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                // Act - update every match as soon as it can be found, while it is still starting
+                Future<?> updater = executor.submit(() -> {
+                    for (int i = 0; i < matches; i++) {
+                        Team home = new Team("Home " + i);
+                        Match match;
+                        while ((match = service.findMatchByTeam(home)) == null) {
+                            Thread.onSpinWait();
+                        }
+                        service.updateScore(match, 1, 0);
+                    }
+                });
+                for (int i = 0; i < matches; i++) {
+                    service.startMatch(new Team("Home " + i), new Team("Away " + i));
+                }
+                updater.get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        // Assert
+        List<Match> recovered = recover().getMatches();
+        assertEquals(matches, recovered.size());
+        for (Match match : recovered) {
+            assertEquals(1, match.getHomeScore(), "Update of " + match + " should be recorded after its start");
+        }
+    }
+
+    @Test
+    void journalShouldRollOverToNewSegments() throws IOException {
+        // Arrange
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService service = journal.getService();
+            Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+            for (int goals = 1; goals <= 200; goals++) {
+                service.updateScore(match, goals, 0);
+            }
+        }
+
+        // Act
+        ScoreboardService recovered = recover();
+
+        // Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() > 1, "Journal should be split into several segments");
+        }
+        assertEquals("Matches summary:\n1. Mexico 200 - Canada 0\n", recovered.getSummary(),
+                "Recovery should read all segments in order");
+    }
+
+    @Test
+    void journalShouldRecordTeamNamesLongerThanASegment() throws IOException {
+        // Arrange
+        String longName = "Long " + "x".repeat(3 * SMALL_SEGMENT_SIZE);
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService service = journal.getService();
+            service.startMatch(new Team("Mexico"), new Team("Canada"));
+            Match match = service.startMatch(new Team(longName), new Team("Brazil"));
+
+            // Act
+            service.updateScore(match, 2, 1);
+        }
+
+        // Assert
+        ScoreboardService recovered = recover();
+        assertEquals(2, recovered.getMatches().size());
+        Match match = recovered.getMatches().get(1);
+        assertEquals(new Team(longName), match.getHomeTeam(), "Long team name should be recovered in full");
+        assertEquals(2, match.getHomeScore(), "Records after the oversized one should be recovered");
+    }
+
+    @Test
+    void checkpointShouldDeleteCoveredSegments() throws IOException {
+        // Arrange
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService service = journal.getService();
+            Match mexico = service.startMatch(new Team("Mexico"), new Team("Canada"));
+            Match spain = service.startMatch(new Team("Spain"), new Team("Brazil"));
+            Match germany = service.startMatch(new Team("Germany"), new Team("France"));
+            for (int goals = 1; goals <= 200; goals++) {
+                service.updateScore(mexico, goals, 0);
+            }
+            service.finishMatch(spain);
+
+            // Act
+            journal.checkpoint();
+            service.updateScore(germany, 2, 2);
+            service.finishMatch(mexico);
+            service.startMatch(new Team("Uruguay"), new Team("Italy"));
+        }
+
+        // Assert
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "Only the checkpoint and the segment after it should be left");
+        }
+        assertEquals("""
+                Matches summary:
+                1. Germany 2 - France 2
+                2. Uruguay 0 - Italy 0
+                """, recover().getSummary(), "Records after the checkpoint should apply on top of it");
+    }
+
+    @Test
+    void closeShouldStopRecordingQuietly() throws IOException {
+        // Arrange
+        ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO);
+        ScoreboardService service = journal.getService();
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Act
+        journal.close();
+
+        // Assert
+        assertDoesNotThrow(() -> journal.scoreUpdated(match, 3, 0), "A late listener call should be ignored");
+        assertDoesNotThrow(() -> service.updateScore(match, 1, 0));
+        assertThrows(IllegalStateException.class, journal::checkpoint);
+        assertEquals("Matches summary:\n1. Mexico 0 - Canada 0\n", recover().getSummary(),
+                "Changes after closing should not be recorded");
+    }
+
+    @Test
+    void openShouldIgnoreTornRecordAtEndOfJournal() throws IOException {
+        // Arrange
+        long validLength;
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService service = journal.getService();
+            Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+            service.updateScore(match, 1, 0);
+        }
+        Path segment = directory.resolve(JournalSegment.fileName(0));
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            validLength = findEndOfData(file);
+            file.seek(validLength);
+            file.writeInt(21); // Length of a score update, but no valid checksum or body
+            file.writeInt(12345);
+        }
+
+        // Act
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO)) {
+            ScoreboardService recovered = journal.getService();
+            recovered.updateScore(recovered.getMatches().get(0), 2, 0);
+        }
+        ScoreboardService recoveredAgain = recover();
+
+        // Assert
+        assertEquals("Matches summary:\n1. Mexico 2 - Canada 0\n", recoveredAgain.getSummary(),
+                "Torn record should be dropped and overwritten by later records");
+    }
+
+    @Test
+    void openShouldRejectInvalidArguments() {
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ScoreboardJournal.open(null)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ScoreboardJournal.open(directory, 64, Duration.ZERO)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ofMillis(-1))),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ScoreboardJournal.open(directory, SMALL_SEGMENT_SIZE, Duration.ZERO, null))
+        );
+    }
+
+    private ScoreboardService recover() throws IOException {
+        try (ScoreboardJournal journal = ScoreboardJournal.open(directory)) {
+            return journal.getService();
+        }
+    }
+
+    private static long findEndOfData(RandomAccessFile file) throws IOException {
+        long position = 0;
+        while (true) {
+            file.seek(position);
+            int length = file.readInt();
+            if (length == 0) {
+                return position;
+            }
+            position += JournalSegment.HEADER_SIZE + length;
+        }
+    }
+}
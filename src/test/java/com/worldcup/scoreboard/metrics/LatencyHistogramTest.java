@@ -0,0 +1,70 @@
+package com.worldcup.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void bucketsShouldCoverAllValuesWithBoundedError() {
+        // Arrange
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456, 1_000_000_007L, Long.MAX_VALUE};
+
+        // Assert
+        for (long value : values) {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            assertTrue(highest >= value, "Bucket of " + value + " should contain it");
+            assertTrue(highest - value <= value / 64, "Bucket of " + value + " should be within 1/64 of it");
+        }
+    }
+
+    @Test
+    void snapshotShouldReportPercentiles() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // Act
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertAll(
+                () -> assertEquals(1000, snapshot.count()),
+                () -> assertEquals(500_500, snapshot.mean()),
+                () -> assertEquals(500_000, snapshot.p50(), 500_000 / 64.0),
+                () -> assertEquals(990_000, snapshot.p99(), 990_000 / 64.0),
+                () -> assertEquals(1_000_000, snapshot.max())
+        );
+    }
+
+    @Test
+    void percentilesShouldNotExceedMax() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        // Act
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(1_000_001, snapshot.p999(), "Percentile should be capped by the recorded maximum");
+    }
+
+        @Test
+    void emptySnapshotShouldBeZero() {
+        // Act
+        LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+        // Assert
+        assertEquals(new LatencySnapshot(0, 0, 0, 0, 0, 0, 0), snapshot);
+    }
+}
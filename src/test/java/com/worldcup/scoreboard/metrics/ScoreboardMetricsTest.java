@@ -0,0 +1,110 @@
+package com.worldcup.scoreboard.metrics;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScoreboardMetrics} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Metrics are collected from a
+ * {@link ScoreboardService} with metrics enabled.
+ */
+class ScoreboardMetricsTest {
+
+    @Test
+    void serviceShouldNotCollectMetricsUntilEnabled() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+
+        // Act
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Assert
+        assertNull(service.getMetrics(), "Metrics should be disabled by default");
+        ScoreboardMetrics metrics = service.enableMetrics();
+        assertEquals(0, metrics.getOperationMetrics(Operation.START_MATCH).count(),
+                "Operations before enabling should not be counted");
+        assertSame(metrics, service.enableMetrics(), "Enabling twice should keep the metrics");
+    }
+
+    @Test
+    void serviceShouldCountOperationsAndErrors() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        ScoreboardMetrics metrics = service.enableMetrics();
+
+        // Act
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+        service.updateScore(match, 0, 5);
+        service.updateScore(match.getId(), 1, 5);
+        assertThrows(IllegalArgumentException.class, () -> service.updateScore(match, -1, 5));
+        assertThrows(IllegalStateException.class, () -> service.updateScore(-1, 1, 5));
+        String summary = service.getSummary();
+        service.finishMatch(match);
+        assertThrows(IllegalStateException.class, () -> service.finishMatch(match.getId()));
+
+        // Assert
+        assertAll(
+                () -> assertEquals(2, metrics.getOperationMetrics(Operation.START_MATCH).count()),
+                () -> assertEquals(2, metrics.getOperationMetrics(Operation.UPDATE_SCORE).count()),
+                () -> assertEquals(2, metrics.getOperationMetrics(Operation.UPDATE_SCORE).errors()),
+                () -> assertEquals(1, metrics.getOperationMetrics(Operation.GET_SUMMARY).count()),
+                () -> assertEquals(1, metrics.getOperationMetrics(Operation.FINISH_MATCH).count()),
+                () -> assertEquals(1, metrics.getOperationMetrics(Operation.FINISH_MATCH).errors()),
+                () -> assertEquals(1, metrics.getBoardSize()),
+                () -> assertEquals(summary.length(), metrics.getSummaryLength())
+        );
+    }
+
+    @Test
+    void disableMetricsShouldStopCollecting() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        ScoreboardMetrics metrics = service.enableMetrics();
+
+        // Act
+        service.disableMetrics();
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+
+        // Assert
+        assertNull(service.getMetrics());
+        assertEquals(0, metrics.getOperationMetrics(Operation.START_MATCH).count());
+    }
+
+    @Test
+    void registerMBeanShouldExposeMetricsOverJmx() throws JMException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        ScoreboardMetrics metrics = service.enableMetrics();
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // Act
+        ObjectName name = metrics.registerMBean("metrics-test");
+        try {
+            TabularData counts = (TabularData) server.getAttribute(name, "OperationCounts");
+            CompositeData startCount = counts.get(new Object[]{Operation.START_MATCH.name()});
+
+            // Assert
+            assertEquals(1L, server.getAttribute(name, "BoardSize"));
+            assertEquals(1L, startCount.get("value"));
+            assertThrows(IllegalStateException.class, () -> metrics.registerMBean("metrics-test"));
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertFalse(server.isRegistered(name), "Unregistered MBean should be gone");
+    }
+}
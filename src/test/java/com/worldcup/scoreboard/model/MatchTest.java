@@ -3,6 +3,7 @@ package com.worldcup.scoreboard.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -149,4 +150,41 @@ class MatchTest {
                 "Start time should be set to current time when match is created"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void startTimeShouldComeFromInjectedClock() {
+        // Arrange
+        LocalDateTime kickoff = LocalDateTime.of(2026, 6, 11, 18, 0, 0, 123_456_789);
+        MatchClock clock = MatchClock.stepping(kickoff, Duration.ofMinutes(5));
+
+        // Act
+        Match first = new Match(homeTeam, awayTeam, clock, null);
+        Match second = new Match(new Team("Mexico"), new Team("Canada"), clock, null);
+
+        // Assert
+        assertEquals(kickoff, first.getStartTime());
+        assertEquals(kickoff.plusMinutes(5), second.getStartTime());
+        assertSame(first.getStartTime(), first.getStartTime(), "Start time should be materialized once");
+    }
+
+    @Test
+    void matchesStartedAtSameInstantShouldBeOrderedBySequence() {
+        // Arrange
+        MatchClock stopped = MatchClock.stepping(LocalDateTime.of(2026, 6, 11, 18, 0), Duration.ZERO);
+
+        // Act
+        Match first = new Match(homeTeam, awayTeam, stopped, null);
+        Match second = new Match(new Team("Mexico"), new Team("Canada"), stopped, null);
+
+        // Assert
+        assertEquals(first.getStartTime(), second.getStartTime());
+        assertTrue(second.getStartSequence() > first.getStartSequence(), "Later start should have greater sequence");
+    }
+
+    @Test
+    void constructorShouldRejectNullClock() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> new Match(homeTeam, awayTeam, (MatchClock) null, null));
+        assertThrows(IllegalArgumentException.class, () -> MatchClock.stepping(LocalDateTime.now(), Duration.ofSeconds(-1)));
+    }
+}
@@ -0,0 +1,86 @@
+package com.worldcup.scoreboard.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TeamRegistry} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Each test focuses on a specific aspect of the
+ * {@link TeamRegistry} class, such as canonicalization, validation and sizing.
+ */
+class TeamRegistryTest {
+
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    void getShouldReturnSameInstanceForSameRawName() {
+        // Act
+        Team first = registry.get("Mexico");
+        Team second = registry.get("Mexico");
+
+        // Assert
+        assertSame(first, second, "Same raw name should resolve to the same team instance");
+    }
+
+    @Test
+    void getShouldReturnSameInstanceForEquivalentRawNames() {
+        // Act
+        Team first = registry.get("san marino");
+        Team second = registry.get("  SAN   MARINO ");
+
+        // Assert
+        assertSame(first, second, "Equivalent raw names should resolve to the same team instance");
+        assertEquals("San Marino", first.name(), "Canonical team should have the formatted name");
+        assertEquals(1, registry.size(), "Registry should contain one team");
+    }
+
+    @Test
+    void getShouldReturnDifferentInstancesForDifferentNames() {
+        // Act
+        Team spain = registry.get("Spain");
+        Team brazil = registry.get("Brazil");
+
+        // Assert
+        assertNotEquals(spain, brazil, "Different names should resolve to different teams");
+        assertEquals(2, registry.size(), "Registry should contain two teams");
+    }
+
+    @Test
+    void findShouldResolveRegisteredTeamsWithoutRegisteringNewOnes() {
+        // Arrange
+        Team mexico = registry.get("Mexico");
+
+        // Act
+        Team found = registry.find("  MEXICO ");
+        Team unknown = registry.find("Atlantis");
+
+        // Assert
+        assertSame(mexico, found, "Equivalent raw name should resolve to the registered team");
+        assertNull(unknown, "Unknown name should not resolve to a team");
+        assertEquals(1, registry.size(), "Lookups should not register teams");
+        assertThrows(IllegalArgumentException.class, () -> registry.find(null));
+    }
+
+    @Test
+    void getShouldRejectInvalidNames() {
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> registry.get(null),
+                        "Registry should reject null names"),
+                () -> assertThrows(IllegalArgumentException.class, () -> registry.get(""),
+                        "Registry should reject empty names"),
+                () -> assertThrows(IllegalArgumentException.class, () -> registry.get("AB"),
+                        "Registry should reject short names")
+        );
+        assertEquals(0, registry.size(), "Invalid names should not be registered");
+    }
+}
@@ -101,6 +101,33 @@ class TeamTest {
         );
     }
 
+    @Test
+    void constructorShouldCollapseWhitespaceBetweenWords() {
+        // Assert
+        assertAll(
+                () -> assertEquals("San Marino", new Team("san   marino").name(), "Repeated spaces should be collapsed"),
+                () -> assertEquals("San Marino", new Team("\tsan\t\nmarino\n").name(), "Tabs and newlines should be collapsed"),
+                () -> assertEquals("Bosnia And Herzegovina", new Team(" bosnia  AND herzegovina ").name(),
+                        "Every word should be capitalized")
+        );
+    }
+
+    @Test
+    void constructorShouldRejectBlankNames() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> new Team("     "),
+                "Constructor should throw IllegalArgumentException when name is blank");
+    }
+
+    @Test
+    void formatNameShouldReturnSameInstanceForFormattedName() {
+        // Arrange
+        String name = "New Zealand";
+
+        // Assert
+        assertSame(name, Team.formatName(name), "Already formatted names should not be copied");
+    }
+
     @Test
     void constructorShouldAcceptNonAsciiCharacters() {
         // Arrange
@@ -0,0 +1,133 @@
+package com.worldcup.scoreboard.replication;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ReplicationLeader} and {@link ReplicationFollower} classes.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Leaders and followers run as separate
+ * instances connected over localhost.
+ */
+class ReplicationLeaderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void followersShouldCatchUpFromSnapshotAndFollowLogTail() throws Exception {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Match mexico = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(mexico, 0, 5);
+        try (ReplicationLeader leader = ReplicationLeader.start(service, localhost());
+             ReplicationFollower first = ReplicationFollower.connect(leader.getAddress());
+             ReplicationFollower second = ReplicationFollower.connect(leader.getAddress())) {
+
+            // Act
+            Match spain = service.startMatch(new Team("Spain"), new Team("Brazil"));
+            service.updateScore(spain, 10, 2);
+            service.updateScore(mexico, 1, 5);
+            Match germany = service.startMatch(new Team("Germany"), new Team("France"));
+            service.finishMatch(germany);
+            service.startMatch(new Team("Germany"), new Team("Uruguay")); // Teams free again after the finish
+
+            // Assert
+            for (ReplicationFollower follower : List.of(first, second)) {
+                assertTrue(follower.awaitSequence(leader.getSequence(), TIMEOUT), "Follower should catch up");
+                assertEquals(service.getSummary(), follower.getScoreboard().getSummary());
+                assertEquals(mexico.getStartTime(), follower.getService().findMatchByTeam(new Team("Mexico"))
+                        .getStartTime(), "Snapshot should keep start times");
+                assertEquals(spain.getStartTime(), follower.getService().findMatchByTeam(new Team("Spain"))
+                        .getStartTime(), "Log tail should keep start times");
+                ReplicationStats stats = follower.getStats();
+                assertTrue(stats.connected());
+                assertEquals(1, stats.snapshots());
+                assertEquals(0, stats.sequenceLag());
+                assertTrue(stats.maxLagNanos() >= stats.lastLagNanos());
+            }
+            assertEquals(2, leader.getFollowerCount());
+        }
+    }
+
+    @Test
+    void followerShouldConvergeWhenFallingBehindSmallBacklog() throws Exception {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            matches.add(service.startMatch(new Team("Home " + i), new Team("Away " + i)));
+        }
+        try (ReplicationLeader leader = ReplicationLeader.start(service, localhost(), 4);
+             ReplicationFollower follower = ReplicationFollower.connect(leader.getAddress())) {
+
+            // Act
+            for (int goal = 1; goal <= 200; goal++) {
+                service.updateScore(matches.get(goal % matches.size()), goal, 0);
+            }
+
+            // Assert
+            assertTrue(follower.awaitSequence(leader.getSequence(), TIMEOUT), "Follower should catch up");
+            assertEquals(service.getSummary(), follower.getScoreboard().getSummary());
+        }
+    }
+
+    @Test
+    void followerShouldResynchronizeWithRestartedLeader() throws Exception {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+        ReplicationLeader leader = ReplicationLeader.start(service, localhost());
+        InetSocketAddress address = leader.getAddress();
+        try (ReplicationFollower follower = ReplicationFollower.connect(address)) {
+            assertTrue(follower.awaitSequence(0, TIMEOUT));
+            waitForSummary(follower, service.getSummary());
+
+            // Act
+            leader.close();
+            ScoreboardService restarted = new ScoreboardService();
+            restarted.startMatch(new Team("Spain"), new Team("Brazil"));
+            try (ReplicationLeader next = ReplicationLeader.start(restarted, address)) {
+
+                // Assert
+                assertEquals(address, next.getAddress(), "New leader should listen where the old one did");
+                waitForSummary(follower, restarted.getSummary());
+                assertEquals(2, follower.getStats().snapshots(), "New leader should send a new snapshot");
+            }
+        }
+    }
+
+    @Test
+    void startShouldRejectInvalidArguments() {
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> ReplicationLeader.start(null, localhost())),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> ReplicationLeader.start(new ScoreboardService(), localhost(), 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> ReplicationFollower.connect(null))
+        );
+    }
+
+    private static InetSocketAddress localhost() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    private static void waitForSummary(ReplicationFollower follower, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!expected.equals(follower.getScoreboard().getSummary()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, follower.getScoreboard().getSummary());
+    }
+}
@@ -0,0 +1,62 @@
+package com.worldcup.scoreboard.service;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ChangeHistory} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested.
+ */
+class ChangeHistoryTest {
+
+    private final Match match = new Match(new Team("Mexico"), new Team("Canada"));
+
+    @Test
+    void changesBetweenShouldReturnChangesInVersionOrder() {
+        // Arrange
+        ChangeHistory history = new ChangeHistory(4);
+        ChangeHistory.Change started = new ChangeHistory.Change(ChangeHistory.Kind.STARTED, match, 0);
+        ChangeHistory.Change scored = new ChangeHistory.Change(ChangeHistory.Kind.SCORED, match, 0);
+        history.record(1, List.of(started));
+        history.record(2, List.of(scored));
+
+        // Act
+        List<ChangeHistory.Change> changes = history.changesBetween(0, 2);
+
+        // Assert
+        assertEquals(List.of(started, scored), changes);
+    }
+
+    @Test
+    void recordShouldNotReplaceNewerVersionInSameSlot() {
+        // Arrange
+        ChangeHistory history = new ChangeHistory(2);
+        ChangeHistory.Change change = new ChangeHistory.Change(ChangeHistory.Kind.SCORED, match, 0);
+        history.record(3, List.of(change));
+
+        // Act - a slow writer records version 1 after version 3 took its slot
+        history.record(1, List.of(change));
+
+        // Assert
+        assertNull(history.changesBetween(0, 1), "Overwritten version should fall back to a full summary");
+        assertEquals(List.of(change), history.changesBetween(2, 3));
+    }
+
+    @Test
+    void changesBetweenShouldGiveUpOnVersionThatIsNeverRecorded() {
+        // Arrange
+        ChangeHistory history = new ChangeHistory(4);
+
+        // Act & Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> assertNull(history.changesBetween(0, 1),
+                "Unrecorded version should fall back to a full summary"));
+    }
+}
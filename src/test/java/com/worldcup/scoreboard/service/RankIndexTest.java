@@ -0,0 +1,125 @@
+package com.worldcup.scoreboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RankIndex} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Results are checked against a sorted map.
+ */
+class RankIndexTest {
+
+    @Test
+    void selectShouldReturnKeyAtRankAfterRandomChanges() {
+        // Arrange
+        RankIndex<Integer, String> index = RankIndex.empty();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        Random random = new Random(7);
+
+        // Act
+        for (int i = 0; i < 5_000; i++) {
+            int key = random.nextInt(1_000);
+            if (expected.containsKey(key) && random.nextBoolean()) {
+                expected.remove(key);
+                index = index.remove(key);
+            } else {
+                expected.put(key, "v" + i);
+                index = index.put(key, "v" + i);
+            }
+        }
+
+        // Assert
+        List<Integer> sorted = new ArrayList<>(expected.keySet());
+        assertEquals(sorted.size(), index.size(), "Size should match the number of keys");
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            Integer key = sorted.get(rank);
+            assertEquals(expected.get(key), index.select(rank), "Value at rank " + rank);
+            assertEquals(expected.get(key), index.get(key), "Value of key " + key);
+            assertEquals(rank, index.rank(key), "Rank of key " + key);
+        }
+        assertNull(index.select(sorted.size()), "Rank past the end should return null");
+        assertNull(index.get(1_000), "Missing key should have no value");
+    }
+
+    @Test
+    void buildShouldCreateIndexThatSupportsLaterChanges() {
+        // Arrange
+        Integer[] keys = new Integer[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 2;
+        }
+
+        // Act
+        RankIndex<Integer, Integer> index = RankIndex.build(keys, keys).put(51, 51).remove(0);
+
+        // Assert
+        List<Integer> expected = new ArrayList<>(List.of(keys));
+        expected.remove(Integer.valueOf(0));
+        expected.add(51);
+        Collections.sort(expected);
+        assertEquals(expected.size(), index.size());
+        for (int rank = 0; rank < expected.size(); rank++) {
+            assertEquals(expected.get(rank), index.select(rank), "Key at rank " + rank);
+        }
+    }
+
+    @Test
+    void valuesShouldIterateInKeyOrderFromRank() {
+        // Arrange
+        RankIndex<Integer, Integer> index = RankIndex.empty();
+        for (int key : List.of(5, 1, 9, 3, 7)) {
+            index = index.put(key, key);
+        }
+
+        // Act
+        List<Integer> fromStart = new ArrayList<>();
+        index.values(0).forEachRemaining(fromStart::add);
+        List<Integer> fromMiddle = new ArrayList<>();
+        index.values(2).forEachRemaining(fromMiddle::add);
+        Iterator<Integer> pastEnd = index.values(5);
+
+        // Assert
+        assertEquals(List.of(1, 3, 5, 7, 9), fromStart);
+        assertEquals(List.of(5, 7, 9), fromMiddle);
+        assertFalse(pastEnd.hasNext(), "Iteration past the end should be empty");
+    }
+
+    @Test
+    void changesShouldLeaveEarlierIndexUnchanged() {
+        // Arrange
+        RankIndex<Integer, String> before = RankIndex.<Integer, String>empty().put(1, "a").put(2, "b");
+
+        // Act
+        RankIndex<Integer, String> after = before.put(2, "c").put(3, "d").remove(1);
+
+        // Assert
+        assertEquals(2, before.size());
+        assertEquals("a", before.get(1));
+        assertEquals("b", before.get(2));
+        assertEquals(2, after.size());
+        assertEquals("c", after.get(2));
+        assertEquals(0, after.rank(2));
+    }
+
+    @Test
+    void removeShouldIgnoreMissingKey() {
+        // Arrange
+        RankIndex<Integer, Integer> index = RankIndex.<Integer, Integer>empty().put(1, 1);
+
+        // Act
+        RankIndex<Integer, Integer> removed = index.remove(2);
+
+        // Assert
+        assertSame(index, removed, "Removing a missing key should change nothing");
+    }
+}
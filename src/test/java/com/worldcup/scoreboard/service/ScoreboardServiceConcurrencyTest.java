@@ -0,0 +1,212 @@
+package com.worldcup.scoreboard.service;
+
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.comparator.MatchComparator;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.ScoreUpdate;
+import com.worldcup.scoreboard.model.Team;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress tests for concurrent use of the {@link ScoreboardService} class.
+ * <p>
+ * Writer threads each own a disjoint set of matches and update them in parallel while
+ * reader threads keep generating summaries. The tests verify that no update is lost and
+ * that summaries never show a torn score or a partially applied batch. Write throughput is measured by the
+ * {@code ConcurrentScoreboardBenchmark} of the benchmarks module instead.
+ */
+class ScoreboardServiceConcurrencyTest {
+
+    private static final int MATCHES_PER_WRITER = 50;
+    private static final int UPDATES_PER_WRITER = 20_000;
+
+    @Test
+    void concurrentUpdatesShouldNotLoseUpdates() throws Exception {
+        // Arrange
+        ScoreboardService scoreboard = new ScoreboardService();
+        int writers = 4;
+        List<List<Match>> ownedMatches = startMatches(scoreboard, writers);
+
+        // Act
+        runWriters(scoreboard, ownedMatches);
+
+        // Assert - the last update of every match is the one that sticks
+        for (List<Match> matches : ownedMatches) {
+            for (Match match : matches) {
+                assertEquals(lastHomeScore(matches.indexOf(match)), match.getHomeScore(),
+                        "Last home score update should not be lost");
+                assertEquals(lastAwayScore(matches.indexOf(match)), match.getAwayScore(),
+                        "Last away score update should not be lost");
+            }
+        }
+
+        // Assert - the ordered index agrees with a full sort
+        List<Match> expectedOrder = scoreboard.getMatches();
+        expectedOrder.sort(new MatchComparator());
+        StringBuilder expectedSummary = new StringBuilder("Matches summary:\n");
+        for (int i = 0; i < expectedOrder.size(); i++) {
+            expectedSummary.append(i + 1).append(". ").append(expectedOrder.get(i)).append("\n");
+        }
+        assertEquals(expectedSummary.toString(), scoreboard.getSummary(),
+                "Summary should match the comparator order after concurrent updates");
+    }
+
+    @Test
+    void concurrentSummariesShouldNeverShowTornOrDuplicateScores() throws Exception {
+        // Arrange
+        ScoreboardService scoreboard = new ScoreboardService();
+        List<Match> matches = startMatches(scoreboard, 1).get(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // Act - writer always sets equal home and away scores, readers check every line
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                int goals = i % 10;
+                scoreboard.updateScore(matches.get(i % matches.size()), goals, goals);
+            }
+            running.set(false);
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(executor.submit(() -> {
+                while (running.get()) {
+                    assertConsistentSummary(scoreboard.getSummary());
+                }
+            }));
+        }
+
+        // Assert
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void concurrentReadersShouldNeverObserveAPartialBatch() throws Exception {
+        // Arrange
+        ScoreboardService scoreboard = new ScoreboardService();
+        List<Match> matches = startMatches(scoreboard, 1).get(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // Act - every batch sets all matches to the same new score, readers check they agree
+        Future<?> writer = executor.submit(() -> {
+            for (int round = 1; round <= 2_000; round++) {
+                List<ScoreUpdate> updates = new ArrayList<>(matches.size());
+                for (Match match : matches) {
+                    updates.add(new ScoreUpdate(match, round % 10, round % 7));
+                }
+                scoreboard.updateScores(updates);
+            }
+            running.set(false);
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        readers.add(executor.submit(() -> {
+            while (running.get()) {
+                Set<String> scores = new HashSet<>();
+                for (String line : scoreboard.getSummary().split("\n")) {
+                    if (line.contains(" - ")) {
+                        String[] sides = line.substring(line.indexOf(". ") + 2).split(" - ");
+                        scores.add(sides[0].split(" ")[1] + ":" + sides[1].split(" ")[1]);
+                    }
+                }
+                assertEquals(1, scores.size(), "Summary should show all or none of a batch: " + scores);
+            }
+        }));
+        readers.add(executor.submit(() -> {
+            while (running.get()) {
+                List<RankedMatch> ranking = scoreboard.getSnapshot().ranking();
+                assertEquals(matches.size(), ranking.size(), "Snapshot should list every match once");
+                for (RankedMatch entry : ranking) {
+                    assertEquals(ranking.get(0).homeScore(), entry.homeScore(),
+                            "Snapshot should show all or none of a batch");
+                    assertEquals(ranking.get(0).awayScore(), entry.awayScore(),
+                            "Snapshot should show all or none of a batch");
+                }
+            }
+        }));
+
+        // Assert
+        writer.get(30, TimeUnit.SECONDS);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private static List<List<Match>> startMatches(ScoreboardService scoreboard, int writers) {
+        List<List<Match>> ownedMatches = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            List<Match> matches = new ArrayList<>();
+            for (int m = 0; m < MATCHES_PER_WRITER; m++) {
+                matches.add(scoreboard.startMatch(new Team("Home" + w + "x" + m), new Team("Away" + w + "x" + m)));
+            }
+            ownedMatches.add(matches);
+        }
+        return ownedMatches;
+    }
+
+    private static void runWriters(ScoreboardService scoreboard, List<List<Match>> ownedMatches) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ownedMatches.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<Match> matches : ownedMatches) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < UPDATES_PER_WRITER; i++) {
+                    int index = i % matches.size();
+                    int round = i / matches.size();
+                    scoreboard.updateScore(matches.get(index), round + index % 3, round);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+
+    private static int lastHomeScore(int index) {
+        return lastRound(index) + index % 3;
+    }
+
+    private static int lastAwayScore(int index) {
+        return lastRound(index);
+    }
+
+    private static int lastRound(int index) {
+        return (UPDATES_PER_WRITER - 1 - index) / MATCHES_PER_WRITER;
+    }
+
+    private static void assertConsistentSummary(String summary) {
+        Set<String> teams = new HashSet<>();
+        String[] lines = summary.split("\n");
+        for (int i = 1; i < lines.length; i++) {
+            // Line format: "<position>. <Home> <homeScore> - <Away> <awayScore>"
+            String[] sides = lines[i].substring(lines[i].indexOf(". ") + 2).split(" - ");
+            String[] home = sides[0].split(" ");
+            String[] away = sides[1].split(" ");
+            assertEquals(home[1], away[1], "Summary line should never show a torn score: " + lines[i]);
+            assertTrue(teams.add(home[0]), "Summary should not list a match twice: " + lines[i]);
+        }
+    }
+}
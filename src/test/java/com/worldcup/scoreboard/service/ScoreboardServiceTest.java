@@ -2,10 +2,24 @@ package com.worldcup.scoreboard.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.metrics.ScoreboardMetrics;
+import com.worldcup.scoreboard.model.BoardSnapshot;
 import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.RankedMatch;
+import com.worldcup.scoreboard.model.ScoreUpdate;
+import com.worldcup.scoreboard.model.ScoreUpdateResult;
+import com.worldcup.scoreboard.model.Summary;
+import com.worldcup.scoreboard.model.SummaryDelta;
+import com.worldcup.scoreboard.model.SummaryPage;
 import com.worldcup.scoreboard.model.Team;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -239,4 +253,580 @@ class ScoreboardServiceTest {
                 "Scoreboard should remain empty after duplicate finish");
     }
 
-}
\ No newline at end of file
+    @Test
+    void getSummaryShouldReflectReorderingAfterScoreUpdates() {
+        // Arrange
+        Match match1 = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        scoreboard.updateScore(match1, 1, 0);
+
+        // Act - overtake match1, then fall back to an equal total
+        scoreboard.updateScore(match2, 2, 0);
+        scoreboard.updateScore(match2, 1, 0);
+
+        // Assert - equal totals, so the most recently started match comes first
+        String expectedSummary = """
+                Matches summary:
+                1. Spain 1 - Brazil 0
+                2. Mexico 1 - Canada 0
+                """;
+
+        assertEquals(expectedSummary, scoreboard.getSummary(),
+                "Summary should follow score updates and tie-break on start order");
+    }
+
+    @Test
+    void getSummaryShouldSkipMatchFinishedDirectly() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        scoreboard.startMatch(new Team("Team3"), new Team("Team4"));
+
+        // Act
+        match.finishMatch();
+
+        // Assert
+        assertEquals("Matches summary:\n1. Team3 0 - Team4 0\n", scoreboard.getSummary(),
+                "Summary should not contain a match that is no longer in progress");
+    }
+
+    @Test
+    void matchFinishedDirectlyShouldLeaveTheBoard() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        scoreboard.startMatch(new Team("Team3"), new Team("Team4"));
+        ScoreboardMetrics metrics = scoreboard.enableMetrics();
+
+        // Act
+        match.finishMatch();
+
+        // Assert
+        assertNull(scoreboard.getMatch(match.getId()), "Finished match should not be found by id");
+        assertEquals(1, scoreboard.getMatches().size());
+        assertEquals(1, metrics.getBoardSize(), "Finished match should not be counted");
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch(match.getId()));
+        assertDoesNotThrow(() -> scoreboard.finishMatch(match), "Finishing again should have no effect");
+    }
+
+    @Test
+    void finishMatchShouldFreeTeamsWhenListenerFails() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        scoreboard.addListener(new ScoreboardListener() {
+            @Override
+            public void matchFinished(Match finished) {
+                throw new IllegalStateException("Listener failure");
+            }
+        });
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch(match));
+
+        // Assert
+        assertFalse(match.isInProgress(), "Match should be finished despite the failing listener");
+        assertNull(scoreboard.findMatchByTeam(homeTeam), "Teams should leave the index");
+        assertDoesNotThrow(() -> scoreboard.startMatch(homeTeam, awayTeam), "Teams should be free to play again");
+    }
+
+    @Test
+    void everyMutationShouldBumpTheVersion() {
+        // Arrange
+        long initialVersion = scoreboard.getVersion();
+
+        // Act & Assert
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        assertEquals(initialVersion + 1, scoreboard.getVersion(), "Starting a match should bump the version");
+
+        scoreboard.updateScore(match, 1, 0);
+        assertEquals(initialVersion + 2, scoreboard.getVersion(), "Updating a score should bump the version");
+
+        match.updateScore(2, 0);
+        assertEquals(initialVersion + 3, scoreboard.getVersion(), "Direct score updates should bump the version");
+
+        scoreboard.finishMatch(match);
+        assertEquals(initialVersion + 4, scoreboard.getVersion(), "Finishing a match should bump the version");
+
+        scoreboard.finishMatch(match);
+        assertEquals(initialVersion + 4, scoreboard.getVersion(), "Repeated finish should not bump the version");
+    }
+
+    @Test
+    void getVersionedSummaryShouldReturnCachedSummaryWhileNothingChanges() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+
+        // Act
+        Summary first = scoreboard.getVersionedSummary();
+        Summary second = scoreboard.getVersionedSummary();
+
+        // Assert
+        assertSame(first, second, "Unchanged board should return the cached summary");
+        assertEquals(scoreboard.getVersion(), first.version(), "Summary should carry the current version");
+        assertEquals("Matches summary:\n1. Hometeam 0 - Awayteam 0\n", first.text());
+
+        // Act - change the board
+        scoreboard.updateScore(match, 1, 0);
+        Summary third = scoreboard.getVersionedSummary();
+
+        // Assert
+        assertNotSame(first, third, "Changed board should render a new summary");
+        assertTrue(third.version() > first.version(), "New summary should carry a newer version");
+        assertEquals("Matches summary:\n1. Hometeam 1 - Awayteam 0\n", third.text());
+    }
+
+    @Test
+    void updateScoresShouldApplyAllValidUpdatesAsOneVersion() {
+        // Arrange
+        Match match1 = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        long versionBefore = scoreboard.getVersion();
+
+        // Act
+        ScoreUpdateResult result = scoreboard.updateScores(List.of(
+                new ScoreUpdate(match1, 0, 5),
+                new ScoreUpdate(match2, 10, 2)));
+
+        // Assert
+        assertTrue(result.isSuccessful(), "All updates should be applied");
+        assertEquals(2, result.applied(), "Both updates should be counted");
+        assertEquals(versionBefore + 1, scoreboard.getVersion(), "Batch should be published as one version");
+        assertEquals("""
+                Matches summary:
+                1. Spain 10 - Brazil 2
+                2. Mexico 0 - Canada 5
+                """, scoreboard.getSummary(), "Summary should reflect the whole batch");
+    }
+
+    @Test
+    void updateScoresShouldReportFailuresWithoutAbortingBatch() {
+        // Arrange
+        Match finished = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match live = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        scoreboard.finishMatch(finished);
+        List<ScoreUpdate> updates = new ArrayList<>();
+        updates.add(new ScoreUpdate(finished, 1, 0));
+        updates.add(null);
+        updates.add(new ScoreUpdate(live, -1, 0));
+        updates.add(new ScoreUpdate(live, 2, 1));
+
+        // Act
+        ScoreUpdateResult result = scoreboard.updateScores(updates);
+
+        // Assert
+        assertEquals(1, result.applied(), "Only the valid update should be applied");
+        assertEquals(3, result.failures().size(), "Every invalid update should be reported");
+        assertEquals(0, result.failures().get(0).index());
+        assertInstanceOf(IllegalStateException.class, result.failures().get(0).error(),
+                "Finished match should be rejected");
+        assertEquals(1, result.failures().get(1).index());
+        assertInstanceOf(IllegalArgumentException.class, result.failures().get(1).error(),
+                "Null entry should be rejected");
+        assertEquals(2, result.failures().get(2).index());
+        assertInstanceOf(IllegalArgumentException.class, result.failures().get(2).error(),
+                "Negative score should be rejected");
+        assertEquals(2, live.getHomeScore(), "Valid update should be applied");
+        assertEquals(1, live.getAwayScore(), "Valid update should be applied");
+    }
+
+    @Test
+    void updateScoresShouldNotBumpVersionWhenNothingApplied() {
+        // Arrange
+        long versionBefore = scoreboard.getVersion();
+
+        // Act
+        ScoreUpdateResult result = scoreboard.updateScores(List.of(new ScoreUpdate(null, 1, 1)));
+
+        // Assert
+        assertEquals(0, result.applied(), "No update should be applied");
+        assertEquals(versionBefore, scoreboard.getVersion(), "Version should not change");
+    }
+
+    @Test
+    void getTopMatchesShouldReturnTopOfSummaryInOrder() {
+        // Arrange
+        Match match1 = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        scoreboard.startMatch(new Team("Germany"), new Team("France"));
+        scoreboard.updateScore(match1, 0, 5);
+        scoreboard.updateScore(match2, 1, 0);
+
+        // Act
+        List<RankedMatch> top = scoreboard.getTopMatches(2);
+
+        // Assert
+        assertEquals(2, top.size(), "Only the requested number of matches should be returned");
+        assertEquals("1. Mexico 0 - Canada 5", top.get(0).toString());
+        assertEquals("2. Spain 1 - Brazil 0", top.get(1).toString());
+        assertEquals(3, scoreboard.getTopMatches(10).size(), "Count larger than the board should return all matches");
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopMatches(-1),
+                "Negative count should be rejected");
+    }
+
+    @Test
+    void getSummaryPageShouldSplitSummaryIntoPages() {
+        // Arrange - random scores, some matches finished
+        Random random = new Random(42);
+        List<Match> started = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Match match = scoreboard.startMatch(new Team("Home" + i), new Team("Away" + i));
+            scoreboard.updateScore(match, random.nextInt(5), random.nextInt(5));
+            started.add(match);
+        }
+        for (int i = 0; i < 200; i += 7) {
+            scoreboard.finishMatch(started.get(i));
+        }
+        started.get(1).finishMatch(); // Finished directly on the match
+
+        // Act - concatenate all pages
+        StringBuilder pages = new StringBuilder("Matches summary:\n");
+        SummaryPage page = scoreboard.getSummaryPage(0, 20);
+        int pageCount = 1;
+        for (RankedMatch match : page.matches()) {
+            pages.append(match).append("\n");
+        }
+        while (page.hasNext()) {
+            page = scoreboard.getSummaryPage(page.page() + 1, 20);
+            pageCount++;
+            for (RankedMatch match : page.matches()) {
+                pages.append(match).append("\n");
+            }
+        }
+
+        // Assert
+        assertEquals(scoreboard.getSummary(), pages.toString(), "Pages should follow the summary order");
+        assertEquals(170, page.totalMatches(), "Finished matches should not be counted");
+        assertEquals(page.totalPages(), pageCount, "Every page should be visited");
+        assertTrue(scoreboard.getSummaryPage(100, 20).matches().isEmpty(), "Page past the end should be empty");
+    }
+
+    @Test
+    void getSummaryPageShouldRejectInvalidArguments() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryPage(-1, 20)),
+                () -> assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryPage(0, 0))
+        );
+    }
+
+    @Test
+    void getSummaryPageShouldWorkOnRestoredBoard() {
+        // Arrange
+        ScoreboardService original = new ScoreboardService();
+        for (int i = 0; i < 50; i++) {
+            Match match = original.startMatch(new Team("Home" + i), new Team("Away" + i));
+            original.updateScore(match, i % 4, i % 3);
+        }
+        ScoreboardService restored = ScoreboardService.restore(original.getMatchStates());
+
+        // Act
+        SummaryPage expected = original.getSummaryPage(3, 7);
+        SummaryPage actual = restored.getSummaryPage(3, 7);
+
+        // Assert
+        assertEquals(expected.matches().toString(), actual.matches().toString(),
+                "Restored board should page the same way as the original");
+        assertEquals(50, actual.totalMatches());
+    }
+
+    @Test
+    void getDeltaShouldReportChangesSinceVersion() {
+        // Arrange
+        Match mexico = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match spain = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        Match germany = scoreboard.startMatch(new Team("Germany"), new Team("France"));
+        long seen = scoreboard.getVersion();
+
+        // Act
+        scoreboard.updateScore(mexico, 1, 0);
+        scoreboard.updateScore(mexico, 0, 1);
+        scoreboard.updateScore(spain, 2, 0);
+        scoreboard.finishMatch(germany);
+        Match uruguay = scoreboard.startMatch(new Team("Uruguay"), new Team("Italy"));
+        Match argentina = scoreboard.startMatch(new Team("Argentina"), new Team("Australia"));
+        scoreboard.finishMatch(argentina);
+        SummaryDelta delta = scoreboard.getDelta(seen);
+
+        // Assert
+        assertFalse(delta.full(), "Recent version should produce a difference");
+        assertEquals(seen, delta.fromVersion());
+        assertEquals(scoreboard.getVersion(), delta.toVersion());
+        assertEquals(List.of(
+                new SummaryDelta.Entry(SummaryDelta.Kind.REMOVED, 0, germany, 0, 0),
+                new SummaryDelta.Entry(SummaryDelta.Kind.REORDERED, 1, spain, 2, 0),
+                new SummaryDelta.Entry(SummaryDelta.Kind.REORDERED, 2, mexico, 0, 1),
+                new SummaryDelta.Entry(SummaryDelta.Kind.INSERTED, 3, uruguay, 0, 0)
+        ), delta.entries(), "Match started and finished since the version should not be reported");
+    }
+
+    @Test
+    void getDeltaShouldReportRescoredMatchWithUnchangedTotal() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        scoreboard.updateScore(match, 1, 0);
+        long seen = scoreboard.getVersion();
+
+        // Act
+        scoreboard.updateScores(List.of(new ScoreUpdate(match, 0, 1)));
+        SummaryDelta delta = scoreboard.getDelta(seen);
+
+        // Assert
+        assertEquals(List.of(new SummaryDelta.Entry(SummaryDelta.Kind.RESCORED, 1, match, 0, 1)), delta.entries(),
+                "Batch update keeping the total should be reported as rescored");
+        assertTrue(scoreboard.getDelta(delta.toVersion()).entries().isEmpty(), "Current version should have no changes");
+    }
+
+    @Test
+    void getDeltaShouldFallBackToFullSummaryForUnknownVersions() {
+        // Arrange
+        ScoreboardService small = new ScoreboardService(4);
+        Match match = small.startMatch(homeTeam, awayTeam);
+        for (int goals = 1; goals <= 10; goals++) {
+            small.updateScore(match, goals, 0);
+        }
+
+        // Act
+        SummaryDelta tooOld = small.getDelta(1);
+        SummaryDelta future = small.getDelta(small.getVersion() + 1);
+        SummaryDelta recent = small.getDelta(small.getVersion() - 2);
+
+        // Assert
+        List<SummaryDelta.Entry> all = List.of(new SummaryDelta.Entry(SummaryDelta.Kind.INSERTED, 1, match, 10, 0));
+        assertTrue(tooOld.full(), "Version older than the history should get a full summary");
+        assertEquals(all, tooOld.entries());
+        assertTrue(future.full(), "Unknown version should get a full summary");
+        assertFalse(recent.full(), "Version within the history should get a difference");
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardService(0));
+    }
+
+    @Test
+    void applyingDeltasShouldReproduceSummary() {
+        // Arrange - a client holding the summary at some version
+        Random random = new Random(11);
+        List<Match> live = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            live.add(scoreboard.startMatch(new Team("Home" + i), new Team("Away" + i)));
+        }
+        List<SummaryDelta.Entry> client = new ArrayList<>(scoreboard.getDelta(-1).entries());
+        long seen = scoreboard.getVersion();
+
+        for (int round = 0; round < 20; round++) {
+            // Act - random changes, then apply the delta on the client
+            for (int i = 0; i < 10; i++) {
+                Match match = live.get(random.nextInt(live.size()));
+                int action = random.nextInt(10);
+                if (action == 0) {
+                    scoreboard.finishMatch(match);
+                    live.remove(match);
+                } else if (action == 1) {
+                    live.add(scoreboard.startMatch(new Team("Home" + round + "x" + i), new Team("Away" + round + "x" + i)));
+                } else {
+                    scoreboard.updateScore(match, random.nextInt(5), random.nextInt(5));
+                }
+            }
+            SummaryDelta delta = scoreboard.getDelta(seen);
+            applyDelta(client, delta);
+            seen = delta.toVersion();
+
+            // Assert
+            StringBuilder summary = new StringBuilder("Matches summary:\n");
+            for (SummaryDelta.Entry entry : client) {
+                summary.append(client.indexOf(entry) + 1).append(". ").append(entry.match().getHomeTeam()).append(" ")
+                        .append(entry.homeScore()).append(" - ").append(entry.match().getAwayTeam()).append(" ")
+                        .append(entry.awayScore()).append("\n");
+            }
+            assertEquals(scoreboard.getSummary(), summary.toString(), "Client should follow the summary in round " + round);
+        }
+    }
+
+    private static void applyDelta(List<SummaryDelta.Entry> client, SummaryDelta delta) {
+        if (delta.full()) {
+            client.clear();
+        }
+        for (SummaryDelta.Entry entry : delta.entries()) {
+            client.removeIf(held -> held.match() == entry.match());
+        }
+        for (SummaryDelta.Entry entry : delta.entries()) {
+            if (entry.kind() != SummaryDelta.Kind.REMOVED) {
+                client.add(entry.position() - 1, entry);
+            }
+        }
+    }
+
+    @Test
+    void idOverloadsShouldFindMatchesOnTheBoard() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        long matchId = match.getId();
+
+        // Act
+        scoreboard.updateScore(matchId, 2, 1);
+
+        // Assert
+        assertSame(match, scoreboard.getMatch(matchId), "Id should map to its match");
+        assertEquals(2, match.getHomeScore(), "Update by id should change the match");
+        scoreboard.finishMatch(matchId);
+        assertNull(scoreboard.getMatch(matchId), "Finished match should leave the id index");
+        assertFalse(match.isInProgress());
+        assertThrows(IllegalStateException.class, () -> scoreboard.updateScore(matchId, 3, 1),
+                "Finished match should not be updated by id");
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch(matchId),
+                "Unknown id should be rejected");
+    }
+
+    @Test
+    void matchIdsShouldBeUniqueAndSurviveScoreChanges() {
+        // Arrange
+        Match match1 = scoreboard.startMatch(homeTeam, awayTeam);
+        Match match2 = scoreboard.startMatch(new Team("Team3"), new Team("Team4"));
+
+        // Act
+        long idBefore = match1.getId();
+        scoreboard.updateScore(match1, 5, 5);
+
+        // Assert
+        assertNotEquals(match1.getId(), match2.getId(), "Ids should be unique");
+        assertEquals(idBefore, match1.getId(), "Id should not change with the score");
+        ScoreboardService restored = ScoreboardService.restore(scoreboard.getMatchStates());
+        for (Match match : restored.getMatches()) {
+            assertSame(match, restored.getMatch(match.getId()), "Restored matches should be indexed by id");
+        }
+    }
+
+    @Test
+    void startMatchShouldRejectTeamAlreadyPlaying() {
+        // Arrange
+        scoreboard.startMatch(homeTeam, awayTeam);
+
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> scoreboard.startMatch(homeTeam, awayTeam),
+                        "Same pairing should not be started twice"),
+                () -> assertThrows(IllegalStateException.class, () -> scoreboard.startMatch(new Team("Team3"), awayTeam),
+                        "Away team should not play two matches at once"),
+                () -> assertThrows(IllegalStateException.class, () -> scoreboard.startMatch(awayTeam, new Team("Team3")),
+                        "Team should not play home and away at once")
+        );
+        assertEquals(1, scoreboard.getMatches().size(), "Rejected starts should not change the board");
+    }
+
+    @Test
+    void findMatchByTeamShouldFollowMatchLifecycle() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        Match other = scoreboard.startMatch(new Team("Team3"), new Team("Team4"));
+
+        // Act
+        other.finishMatch(); // Finished directly on the match
+
+        // Assert
+        assertSame(match, scoreboard.findMatchByTeam(homeTeam));
+        assertSame(match, scoreboard.findMatchByTeam(new Team(awayTeam.name())), "Lookup should use team equality");
+        assertNull(scoreboard.findMatchByTeam(new Team("Team3")), "Finished match should leave the index");
+        assertNull(scoreboard.findMatchByTeam(null));
+
+        scoreboard.finishMatch(match);
+        assertNull(scoreboard.findMatchByTeam(homeTeam));
+        assertDoesNotThrow(() -> scoreboard.startMatch(awayTeam, homeTeam), "Teams should be free to play again");
+    }
+
+    @Test
+    void restoreShouldRejectTeamInTwoMatches() {
+        // Arrange
+        List<MatchState> states = List.of(
+                new MatchState(homeTeam, awayTeam, 0, 0, LocalDateTime.now()),
+                new MatchState(new Team("Team3"), homeTeam, 0, 0, LocalDateTime.now()));
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> ScoreboardService.restore(states));
+    }
+
+    @Test
+    void getSnapshotShouldListMatchesInSummaryAndStartOrder() {
+        // Arrange
+        Match mexico = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match spain = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        Match germany = scoreboard.startMatch(new Team("Germany"), new Team("France"));
+        scoreboard.updateScore(mexico, 0, 5);
+        scoreboard.updateScore(germany, 2, 2);
+        Match finished = scoreboard.startMatch(new Team("Uruguay"), new Team("Italy"));
+        finished.finishMatch(); // Finished directly on the match
+
+        // Act
+        BoardSnapshot snapshot = scoreboard.getSnapshot();
+
+        // Assert
+        assertEquals(scoreboard.getVersion(), snapshot.version());
+        assertEquals(3, snapshot.size());
+        List<String> ranking = new ArrayList<>();
+        for (RankedMatch line : snapshot) {
+            ranking.add(line.toString());
+        }
+        assertEquals(List.of("1. Mexico 0 - Canada 5", "2. Germany 2 - France 2", "3. Spain 0 - Brazil 0"), ranking);
+        assertEquals(List.of(mexico, spain, germany), snapshot.matches());
+        assertEquals(List.of(mexico, spain, germany), scoreboard.getMatches());
+    }
+
+    @Test
+    void getSnapshotShouldBeSharedUntilBoardChanges() {
+        // Arrange
+        Match match = scoreboard.startMatch(homeTeam, awayTeam);
+        BoardSnapshot snapshot = scoreboard.getSnapshot();
+
+        // Act
+        BoardSnapshot unchanged = scoreboard.getSnapshot();
+        scoreboard.updateScore(match, 1, 0);
+        BoardSnapshot changed = scoreboard.getSnapshot();
+
+        // Assert
+        assertSame(snapshot, unchanged, "Snapshot should be cached while nothing changes");
+        assertNotSame(snapshot, changed);
+        assertEquals(0, snapshot.ranking().get(0).homeScore(), "Published snapshot should not change");
+        assertEquals(1, changed.ranking().get(0).homeScore());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.matches().clear());
+    }
+
+    @Test
+    void getSnapshotShouldKeepShowingItsVersionAfterLaterChanges() {
+        // Arrange
+        Match mexico = scoreboard.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match spain = scoreboard.startMatch(new Team("Spain"), new Team("Brazil"));
+        scoreboard.updateScore(spain, 1, 0);
+        BoardSnapshot snapshot = scoreboard.getSnapshot();
+
+        // Act
+        scoreboard.updateScore(mexico, 3, 3);
+        scoreboard.finishMatch(spain);
+        scoreboard.startMatch(new Team("Germany"), new Team("France"));
+
+        // Assert
+        assertEquals(2, snapshot.size());
+        assertEquals(spain, snapshot.ranking().get(0).match());
+        assertEquals(1, snapshot.ranking().get(0).homeScore());
+        assertEquals(2, snapshot.ranking().get(1).position());
+        assertEquals(0, snapshot.ranking().get(1).homeScore());
+        assertEquals(List.of(mexico, spain), snapshot.matches());
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.ranking().get(2));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.ranking().remove(0));
+    }
+
+    @Test
+    void summaryShouldOrderMatchesStartedAtSameInstantByStartOrder() {
+        // Arrange
+        LocalDateTime kickoff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        ScoreboardService frozen = new ScoreboardService(ScoreboardService.DEFAULT_HISTORY_SIZE,
+                MatchClock.stepping(kickoff, Duration.ZERO));
+
+        // Act
+        Match mexico = frozen.startMatch(new Team("Mexico"), new Team("Canada"));
+        frozen.startMatch(new Team("Spain"), new Team("Brazil"));
+        frozen.updateScore(mexico, 1, 1);
+        frozen.startMatch(new Team("Germany"), new Team("France"));
+
+        // Assert
+        assertEquals(kickoff, mexico.getStartTime());
+        assertEquals("Matches summary:\n"
+                + "1. Mexico 1 - Canada 1\n"
+                + "2. Germany 0 - France 0\n"
+                + "3. Spain 0 - Brazil 0\n", frozen.getSummary());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScoreboardService(ScoreboardService.DEFAULT_HISTORY_SIZE, null));
+    }
+}
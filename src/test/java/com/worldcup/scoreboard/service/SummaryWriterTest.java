@@ -0,0 +1,116 @@
+package com.worldcup.scoreboard.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.Team;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SummaryWriter} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Every target is checked against
+ * {@link ScoreboardService#getSummary()}.
+ */
+class SummaryWriterTest {
+
+    private ScoreboardService service;
+    private SummaryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScoreboardService();
+        writer = new SummaryWriter(service);
+        Match mexico = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match germany = service.startMatch(new Team("Germany"), new Team("Côte D'ivoire"));
+        service.updateScore(mexico, 0, 5);
+        service.updateScore(germany, 12, 10);
+    }
+
+    @Test
+    void writeToAppendableShouldMatchSummary() throws IOException {
+        // Arrange
+        StringWriter target = new StringWriter();
+
+        // Act
+        writer.writeTo(target);
+
+        // Assert
+        assertEquals(service.getSummary(), target.toString());
+    }
+
+    @Test
+    void writeToByteTargetsShouldProduceUtf8Summary() throws IOException {
+        // Arrange
+        byte[] expected = service.getSummary().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        ByteArrayOutputStream channelTarget = new ByteArrayOutputStream();
+        ByteArrayOutputStream streamTarget = new ByteArrayOutputStream();
+
+        // Act
+        int bufferBytes = writer.writeTo(buffer);
+        long channelBytes = writer.writeTo(Channels.newChannel(channelTarget));
+        int streamBytes = writer.writeTo(streamTarget);
+
+        // Assert
+        assertEquals(expected.length, bufferBytes);
+        assertArrayEquals(expected, Arrays.copyOf(buffer.array(), buffer.position()));
+        assertEquals(expected.length, channelBytes);
+        assertArrayEquals(expected, channelTarget.toByteArray());
+        assertEquals(expected.length, streamBytes);
+        assertArrayEquals(expected, streamTarget.toByteArray());
+    }
+
+    @Test
+    void encodeShouldFollowBoardChanges() {
+        // Arrange
+        ByteBuffer before = writer.encode();
+        int lengthBefore = before.remaining();
+
+        // Act
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+        ByteBuffer after = writer.encode();
+
+        // Assert
+        assertTrue(after.isReadOnly(), "Encoded summary should not be writable by callers");
+        assertTrue(after.remaining() > lengthBefore, "New match should be encoded");
+        assertEquals(service.getSummary(), StandardCharsets.UTF_8.decode(after).toString());
+    }
+
+    @Test
+    void encodeShouldGrowBufferForLargeBoards() {
+        // Arrange
+        for (int i = 0; i < 1_000; i++) {
+            service.startMatch(new Team("Home Team " + i), new Team("Away Team " + i));
+        }
+
+        // Act
+        ByteBuffer encoded = writer.encode();
+
+        // Assert
+        assertEquals(service.getSummary(), StandardCharsets.UTF_8.decode(encoded).toString());
+    }
+
+    @Test
+    void writeToShouldRejectTooSmallBufferAndNullTargets() {
+        // Arrange
+        ByteBuffer small = ByteBuffer.allocate(8);
+
+        // Assert
+        assertThrows(BufferOverflowException.class, () -> writer.writeTo(small));
+        assertEquals(0, small.position(), "Nothing should be written to a too small buffer");
+        assertThrows(IllegalArgumentException.class, () -> writer.writeTo((ByteBuffer) null));
+        assertThrows(IllegalArgumentException.class, () -> new SummaryWriter(null));
+    }
+}
@@ -0,0 +1,136 @@
+package com.worldcup.scoreboard.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchState;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ScoreboardSnapshot} class.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Each test writes a snapshot of a
+ * {@link ScoreboardService} and restores it into a new one.
+ */
+class ScoreboardSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readShouldRestoreSummaryOrderIncludingTieBreak() throws IOException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Match match1 = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Match match2 = service.startMatch(new Team("Spain"), new Team("Brazil"));
+        Match match3 = service.startMatch(new Team("Germany"), new Team("France"));
+        Match match4 = service.startMatch(new Team("Uruguay"), new Team("Italy"));
+        Match match5 = service.startMatch(new Team("Argentina"), new Team("Australia"));
+        service.updateScore(match1, 0, 5);
+        service.updateScore(match2, 10, 2);
+        service.updateScore(match3, 2, 2);
+        service.updateScore(match4, 6, 6);
+        service.updateScore(match5, 3, 1);
+        Path file = directory.resolve("scoreboard.snapshot");
+
+        // Act
+        ScoreboardSnapshot.write(service, file);
+        ScoreboardService restored = ScoreboardSnapshot.read(file);
+
+        // Assert
+        assertEquals(service.getSummary(), restored.getSummary(), "Restored summary should match the original");
+    }
+
+    @Test
+    void readShouldRestoreScoresAndStartTimes() throws IOException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Match match = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.updateScore(match, 2, 1);
+        Path file = directory.resolve("scoreboard.snapshot");
+
+        // Act
+        ScoreboardSnapshot.write(service, file);
+        List<MatchState> restored = ScoreboardSnapshot.read(file).getMatchStates();
+
+        // Assert
+        assertEquals(service.getMatchStates(), restored, "Teams, scores and start time should be restored");
+    }
+
+    @Test
+    void readShouldNotRestoreFinishedMatches() throws IOException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Match finished = service.startMatch(new Team("Mexico"), new Team("Canada"));
+        service.startMatch(new Team("Spain"), new Team("Brazil"));
+        service.finishMatch(finished);
+        Path file = directory.resolve("scoreboard.snapshot");
+
+        // Act
+        ScoreboardSnapshot.write(service, file);
+        ScoreboardService restored = ScoreboardSnapshot.read(file);
+
+        // Assert
+        assertEquals("Matches summary:\n1. Spain 0 - Brazil 0\n", restored.getSummary(),
+                "Only in-progress matches should be restored");
+    }
+
+    @Test
+    void restoredBoardShouldAcceptFurtherChanges() throws IOException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        service.startMatch(new Team("Mexico"), new Team("Canada"));
+        Path file = directory.resolve("scoreboard.snapshot");
+        ScoreboardSnapshot.write(service, file);
+        ScoreboardService restored = ScoreboardSnapshot.read(file);
+
+        // Act
+        restored.updateScore(restored.getMatches().get(0), 1, 0);
+        restored.startMatch(new Team("Spain"), new Team("Brazil"));
+
+        // Assert
+        assertEquals("""
+                Matches summary:
+                1. Mexico 1 - Canada 0
+                2. Spain 0 - Brazil 0
+                """, restored.getSummary(), "Restored board should keep working");
+    }
+
+    @Test
+    void readShouldRestoreLargeBoard() throws IOException {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        for (int i = 0; i < 100_000; i++) {
+            Match match = service.startMatch(new Team("Home" + i), new Team("Away" + i));
+            service.updateScore(match, i % 7, i % 4);
+        }
+        Path file = directory.resolve("scoreboard.snapshot");
+        ScoreboardSnapshot.write(service, file);
+
+        // Act
+        ScoreboardService restored = ScoreboardSnapshot.read(file);
+
+        // Assert
+        assertEquals(service.getSummary(), restored.getSummary(), "Large board should restore in the same order");
+    }
+
+    @Test
+    void readShouldRejectInvalidFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("invalid.snapshot");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> ScoreboardSnapshot.read(file),
+                "Should reject a file that is not a snapshot");
+    }
+}
@@ -0,0 +1,162 @@
+package com.worldcup.scoreboard.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.worldcup.scoreboard.model.Match;
+import com.worldcup.scoreboard.model.MatchClock;
+import com.worldcup.scoreboard.model.Team;
+import com.worldcup.scoreboard.service.ScoreboardService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MatchStore} and {@link MatchHandle} classes.
+ * <p>
+ * Most test methods are self-explanatory by their names, following the convention of describing
+ * the expected behavior or scenario being tested. Summaries are checked against a
+ * {@link ScoreboardService} receiving the same operations.
+ */
+class MatchStoreTest {
+
+    private MatchStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MatchStore();
+    }
+
+    @Test
+    void getSummaryShouldMatchScoreboardService() {
+        // Arrange
+        ScoreboardService service = new ScoreboardService();
+        Random random = new Random(3);
+        List<MatchHandle> handles = new ArrayList<>();
+        List<Match> matches = new ArrayList<>();
+
+        // Act - random starts, updates and finishes, reusing slots along the way
+        for (int i = 0; i < 5_000; i++) {
+            int action = random.nextInt(10);
+            if (action < 3 || handles.isEmpty()) {
+                handles.add(store.startMatch("Home" + i, "Away" + i));
+                matches.add(service.startMatch(new Team("Home" + i), new Team("Away" + i)));
+            } else {
+                int index = random.nextInt(handles.size());
+                if (action == 3) {
+                    store.finishMatch(handles.remove(index));
+                    service.finishMatch(matches.remove(index));
+                } else {
+                    int homeScore = random.nextInt(6);
+                    int awayScore = random.nextInt(6);
+                    store.updateScore(handles.get(index), homeScore, awayScore);
+                    service.updateScore(matches.get(index), homeScore, awayScore);
+                }
+            }
+        }
+
+        // Assert
+        assertEquals(service.getSummary(), store.getSummary(), "Store should produce the same summary");
+        assertEquals(handles.size(), store.size());
+    }
+
+    @Test
+    void getSummaryShouldOrderSparseTotals() {
+        // Arrange - totals far larger than the number of matches
+        MatchHandle low = store.startMatch("Mexico", "Canada");
+        MatchHandle high = store.startMatch("Spain", "Brazil");
+        MatchHandle tied = store.startMatch("Germany", "France");
+        store.updateScore(low, 10, 0);
+        store.updateScore(high, 100_000, 0);
+        store.updateScore(tied, 0, 10);
+
+        // Act
+        String summary = store.getSummary();
+
+        // Assert
+        assertEquals("""
+                Matches summary:
+                1. Spain 100000 - Brazil 0
+                2. Germany 0 - France 10
+                3. Mexico 10 - Canada 0
+                """, summary);
+    }
+
+    @Test
+    void handleShouldExposeMatchState() {
+        // Arrange
+        MatchHandle match = store.startMatch("mexico", "Canada");
+
+        // Act
+        store.updateScore(match, 2, 1);
+
+        // Assert
+        assertEquals(new Team("Mexico"), match.getHomeTeam());
+        assertEquals(new Team("Canada"), match.getAwayTeam());
+        assertEquals(2, match.getHomeScore());
+        assertEquals(1, match.getAwayScore());
+        assertNotNull(match.getStartTime());
+        assertTrue(match.isInProgress());
+        assertEquals("Mexico 2 - Canada 1", match.toString());
+    }
+
+    @Test
+    void startMatchShouldReadStartTimeFromClock() {
+        // Arrange
+        LocalDateTime kickoff = LocalDateTime.of(2026, 6, 11, 18, 0);
+        MatchStore clocked = new MatchStore(MatchClock.stepping(kickoff, Duration.ofMinutes(5)));
+
+        // Act
+        MatchHandle first = clocked.startMatch("Mexico", "Canada");
+        MatchHandle second = clocked.startMatch("Spain", "Brazil");
+
+        // Assert
+        assertEquals(kickoff, first.getStartTime());
+        assertEquals(kickoff.plusMinutes(5), second.getStartTime());
+        assertThrows(IllegalArgumentException.class, () -> new MatchStore(null));
+    }
+
+    @Test
+    void finishedHandleShouldBecomeStaleOnceSlotIsReused() {
+        // Arrange
+        List<MatchHandle> finished = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            finished.add(store.startMatch("Home" + i, "Away" + i));
+        }
+
+        // Act - finish all, then start new matches in the released slots
+        for (MatchHandle match : finished) {
+            store.finishMatch(match);
+        }
+        MatchHandle reused = store.startMatch("Mexico", "Canada");
+
+        // Assert
+        assertFalse(finished.get(0).isInProgress(), "Finished handle should not be in progress");
+        assertThrows(IllegalStateException.class, () -> store.updateScore(finished.get(0), 1, 0),
+                "Finished match should not be updated");
+        assertDoesNotThrow(() -> store.finishMatch(finished.get(0)), "Finishing again should be ignored");
+        assertTrue(reused.isInProgress());
+        assertEquals("Matches summary:\n1. Mexico 0 - Canada 0\n", store.getSummary());
+    }
+
+    @Test
+    void operationsShouldRejectInvalidArguments() {
+        // Arrange
+        MatchHandle match = store.startMatch("Mexico", "Canada");
+        MatchHandle foreign = new MatchStore().startMatch("Spain", "Brazil");
+
+        // Assert
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> store.startMatch("Mexico", " mexico ")),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.startMatch(null, "Canada")),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.updateScore(match, -1, 0)),
+                () -> assertThrows(IllegalArgumentException.class, () -> store.updateScore(null, 1, 0)),
+                () -> assertThrows(IllegalStateException.class, () -> store.updateScore(foreign, 1, 0)),
+                () -> assertThrows(IllegalStateException.class, () -> store.finishMatch(foreign))
+        );
+    }
+}